@@ -0,0 +1,72 @@
+package org.carlspring.strongbox.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cumulative metrics of the connection leases from the proxy repositories connection pool.
+ */
+public class ConnectionPoolMetrics
+{
+
+    private final long leases;
+
+    private final long leaseWaitNanos;
+
+    private final long reusedConnections;
+
+    public ConnectionPoolMetrics(long leases,
+                                 long leaseWaitNanos,
+                                 long reusedConnections)
+    {
+        this.leases = leases;
+        this.leaseWaitNanos = leaseWaitNanos;
+        this.reusedConnections = reusedConnections;
+    }
+
+    public long getLeases()
+    {
+        return leases;
+    }
+
+    /**
+     * @return the total time spent waiting for the connections to be leased, in milliseconds
+     */
+    public long getLeaseWaitTime()
+    {
+        return TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos);
+    }
+
+    /**
+     * @return the average time spent waiting for a connection to be leased, in milliseconds
+     */
+    public double getAverageLeaseWaitTime()
+    {
+        return leases > 0 ? (double) leaseWaitNanos / leases / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+    }
+
+    /**
+     * @return the number of the leases of a kept alive connection
+     */
+    public long getReusedConnections()
+    {
+        return reusedConnections;
+    }
+
+    /**
+     * @return the number of the leases which had to open a new connection
+     */
+    public long getNewConnections()
+    {
+        return Math.max(0, leases - reusedConnections);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "[leases: " + leases +
+               "; lease wait time: " + getLeaseWaitTime() + " ms" +
+               "; reused connections: " + reusedConnections +
+               "; new connections: " + getNewConnections() + "]";
+    }
+
+}
@@ -11,6 +11,10 @@ import javax.ws.rs.client.Client;
 public interface ProxyRepositoryConnectionPoolConfigurationService
 {
 
+    /**
+     * @return a new client of the connection pool, which should be closed by the caller (the connection pool isn't
+     *         closed with it)
+     */
     Client getRestClient();
 
     CloseableHttpClient getHttpClient();
@@ -27,5 +31,7 @@ public interface ProxyRepositoryConnectionPoolConfigurationService
 
     PoolStats getPoolStats(String repository);
 
+    ConnectionPoolMetrics getMetrics();
+
     void shutdown();
 }
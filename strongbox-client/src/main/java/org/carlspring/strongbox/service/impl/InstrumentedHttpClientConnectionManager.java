@@ -0,0 +1,71 @@
+package org.carlspring.strongbox.service.impl;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import org.carlspring.strongbox.service.ConnectionPoolMetrics;
+
+/**
+ * Pooling connection manager, which counts the leases, the time spent waiting for them and the leases of the kept
+ * alive connections.
+ */
+class InstrumentedHttpClientConnectionManager
+        extends PoolingHttpClientConnectionManager
+{
+
+    private final LongAdder leases = new LongAdder();
+
+    private final LongAdder leaseWaitNanos = new LongAdder();
+
+    private final LongAdder reusedConnections = new LongAdder();
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route,
+                                               Object state)
+    {
+        ConnectionRequest connectionRequest = super.requestConnection(route, state);
+
+        return new ConnectionRequest()
+        {
+
+            @Override
+            public HttpClientConnection get(long timeout,
+                                            TimeUnit timeUnit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException
+            {
+                long start = System.nanoTime();
+                HttpClientConnection connection = connectionRequest.get(timeout, timeUnit);
+                leases.increment();
+                leaseWaitNanos.add(System.nanoTime() - start);
+
+                // The new connections are opened once they have been leased.
+                if (connection.isOpen())
+                {
+                    reusedConnections.increment();
+                }
+
+                return connection;
+            }
+
+            @Override
+            public boolean cancel()
+            {
+                return connectionRequest.cancel();
+            }
+
+        };
+    }
+
+    public ConnectionPoolMetrics getMetrics()
+    {
+        return new ConnectionPoolMetrics(leases.sum(), leaseWaitNanos.sum(), reusedConnections.sum());
+    }
+
+}
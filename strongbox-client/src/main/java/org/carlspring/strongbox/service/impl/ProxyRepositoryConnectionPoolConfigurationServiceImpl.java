@@ -3,6 +3,7 @@ package org.carlspring.strongbox.service.impl;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -16,6 +17,7 @@ import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.pool.PoolStats;
 
+import org.carlspring.strongbox.service.ConnectionPoolMetrics;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 
 import org.glassfish.jersey.apache.connector.ApacheClientProperties;
@@ -39,20 +41,22 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
     private static final Logger logger = LoggerFactory.getLogger(
             ProxyRepositoryConnectionPoolConfigurationServiceImpl.class);
 
-    private PoolingHttpClientConnectionManager poolingHttpClientConnectionManager;
+    private InstrumentedHttpClientConnectionManager poolingHttpClientConnectionManager;
     private IdleConnectionMonitorThread idleConnectionMonitorThread;
 
     @Value("${pool.maxConnections:200}")
     private int maxTotal;
-    @Value("${pool.defaultConnectionsPerRoute:5}")
+    @Value("${pool.defaultConnectionsPerRoute:20}")
     private int defaultMaxPerRoute;
     @Value("${pool.idleConnectionsTimeoutInSeconds:60}")
     private int idleConnectionsTimeoutInSeconds;
+    @Value("${pool.restClient.loggingVerbosity:HEADERS_ONLY}")
+    private Verbosity loggingVerbosity;
 
     @PostConstruct
     public void init()
     {
-        poolingHttpClientConnectionManager = new PoolingHttpClientConnectionManager();
+        poolingHttpClientConnectionManager = new InstrumentedHttpClientConnectionManager();
         poolingHttpClientConnectionManager.setMaxTotal(maxTotal); //TODO value that depends on number of threads?
         poolingHttpClientConnectionManager.setDefaultMaxPerRoute(defaultMaxPerRoute);
 
@@ -85,8 +89,13 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
         credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(username, password));
         config.property(ApacheClientProperties.CREDENTIALS_PROVIDER, credentialsProvider); */
 
+        // The requests are only logged if the logger was enabled once the client was created.
+        if (logger.isLoggable(Level.FINE))
+        {
+            config.register(new LoggingFeature(logger, loggingVerbosity));
+        }
+
         return ClientBuilder.newBuilder()
-                            .register(new LoggingFeature(logger, Verbosity.PAYLOAD_TEXT))
                             .withConfig(config)
                             .build();
     }
@@ -146,6 +155,12 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
         return poolingHttpClientConnectionManager.getStats(httpRoute);
     }
 
+    @Override
+    public ConnectionPoolMetrics getMetrics()
+    {
+        return poolingHttpClientConnectionManager.getMetrics();
+    }
+
     @Override
     public void shutdown()
     {
@@ -0,0 +1,41 @@
+package org.carlspring.strongbox.service.impl;
+
+import org.carlspring.strongbox.service.ConnectionPoolMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InstrumentedHttpClientConnectionManagerTest
+{
+
+    private InstrumentedHttpClientConnectionManager connectionManager = new InstrumentedHttpClientConnectionManager();
+
+    @AfterEach
+    public void tearDown()
+    {
+        connectionManager.shutdown();
+    }
+
+    @Test
+    public void testLeasesAreCounted()
+            throws Exception
+    {
+        HttpRoute route = new HttpRoute(new HttpHost("localhost", 48080));
+
+        HttpClientConnection connection = connectionManager.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+        ConnectionPoolMetrics metrics = connectionManager.getMetrics();
+        connectionManager.releaseConnection(connection, null, 0, TimeUnit.SECONDS);
+
+        assertThat(metrics.getLeases()).isEqualTo(1);
+        assertThat(metrics.getReusedConnections()).isEqualTo(0);
+        assertThat(metrics.getNewConnections()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getLeased()).isEqualTo(0);
+    }
+
+}
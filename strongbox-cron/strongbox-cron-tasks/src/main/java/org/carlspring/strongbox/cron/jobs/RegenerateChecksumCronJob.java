@@ -29,6 +29,10 @@ public class RegenerateChecksumCronJob
 
     private static final String PROPERTY_FORCE_REGENERATION = "forceRegeneration";
 
+    private static final String PROPERTY_PARALLELISM = "parallelism";
+
+    private static final String PROPERTY_MAX_MEGABYTES_PER_SECOND = "maxMegabytesPerSecond";
+
     private static final Set<CronJobField> FIELDS = ImmutableSet.of(
             new CronJobStorageIdAutocompleteField(new CronJobStringTypeField(
                     new CronJobOptionalField(new CronJobNamedField(PROPERTY_STORAGE_ID)))),
@@ -37,7 +41,11 @@ public class RegenerateChecksumCronJob
             new CronJobBooleanTypeField(
                     new CronJobOptionalField(new CronJobNamedField(PROPERTY_FORCE_REGENERATION))),
             new CronJobStringTypeField(
-                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_BASE_PATH))));
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_BASE_PATH))),
+            new CronJobIntegerTypeField(
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_PARALLELISM))),
+            new CronJobIntegerTypeField(
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_MAX_MEGABYTES_PER_SECOND))));
 
     @Inject
     private ChecksumService checksumService;
@@ -56,25 +64,37 @@ public class RegenerateChecksumCronJob
         /**
          * The values of forceRegeneration are:
          * - true  - to re-write existing checksum and to regenerate missing checksum,
-         * - false - to regenerate missing checksum only
+         * - false - to regenerate missing checksum, and the checksum which is older than its artifact
+         *           (the artifact has been modified since the checksum was written)
          */
         boolean forceRegeneration = Boolean.valueOf(config.getProperty(PROPERTY_FORCE_REGENERATION));
 
+        // The number of the threads to regenerate the checksums with
+        int parallelism = config.getProperty(PROPERTY_PARALLELISM) != null ?
+                          Integer.valueOf(config.getProperty(PROPERTY_PARALLELISM)) :
+                          Runtime.getRuntime().availableProcessors();
+
+        // The limit of the artifact bytes read per second, 0 means no limit
+        long maxBytesPerSecond = config.getProperty(PROPERTY_MAX_MEGABYTES_PER_SECOND) != null ?
+                                 Long.valueOf(config.getProperty(PROPERTY_MAX_MEGABYTES_PER_SECOND)) * 1024 * 1024 :
+                                 0;
+
         if (storageId == null)
         {
             Map<String, Storage> storages = getStorages();
             for (String storage : storages.keySet())
             {
-                regenerateRepositoriesChecksum(storage, forceRegeneration);
+                regenerateRepositoriesChecksum(storage, forceRegeneration, parallelism, maxBytesPerSecond);
             }
         }
         else if (repositoryId == null)
         {
-            regenerateRepositoriesChecksum(storageId, forceRegeneration);
+            regenerateRepositoriesChecksum(storageId, forceRegeneration, parallelism, maxBytesPerSecond);
         }
         else
         {
-            checksumService.regenerateChecksum(storageId, repositoryId, basePath, forceRegeneration);
+            checksumService.regenerateChecksum(storageId, repositoryId, basePath, forceRegeneration, parallelism,
+                                               maxBytesPerSecond);
         }
     }
 
@@ -94,18 +114,24 @@ public class RegenerateChecksumCronJob
      *
      * @param storageId         path of storage
      * @param forceRegeneration true - to re-write existing checksum and to regenerate missing checksum,
-     *                          false - to regenerate missing checksum only
+     *                          false - to regenerate missing checksum, and the checksum whose last modified time
+     *                          is older than the one of its artifact
+     * @param parallelism       the number of the threads
+     * @param maxBytesPerSecond the limit of the bytes read per second, 0 means no limit
      * @throws IOException
      */
     private void regenerateRepositoriesChecksum(String storageId,
-                                                boolean forceRegeneration)
+                                                boolean forceRegeneration,
+                                                int parallelism,
+                                                long maxBytesPerSecond)
             throws IOException
     {
         Map<String, ? extends Repository> repositories = getRepositories(storageId);
 
         for (String repositoryId : repositories.keySet())
         {
-            checksumService.regenerateChecksum(storageId, repositoryId, null, forceRegeneration);
+            checksumService.regenerateChecksum(storageId, repositoryId, null, forceRegeneration, parallelism,
+                                               maxBytesPerSecond);
         }
     }
 
@@ -7,7 +7,6 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.hazelcast.config.*;
-import com.hazelcast.config.EvictionConfig.MaxSizePolicy;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,30 +20,6 @@ import org.springframework.context.annotation.Configuration;
 public class HazelcastConfiguration
 {
 
-    @Value("${cacheManagerConfiguration.caches.authentications.timeToLiveSeconds:10}")
-    public int authenticationsCacheInvalidateInterval;
-
-    @Value("${cacheManagerConfiguration.caches.authentications.cacheLocalEntries:true}")
-    public boolean authenticationsCacheCacheLocalEntries;
-
-    @Value("${cacheManagerConfiguration.caches.authentications.evictionConfigSize:1000}")
-    public int authenticationsCacheEvictionConfigSize;
-
-    @Value("${cacheManagerConfiguration.caches.authentications.evictionConfigMaxSizePolicy:ENTRY_COUNT}")
-    public MaxSizePolicy authenticationsCacheEvictionConfigMaxSizePolicy;
-
-    @Value("${cacheManagerConfiguration.caches.authentications.invalidateOnChange:true}")
-    public boolean authenticationsCacheInvalidateOnChange;
-
-    public MapConfig authenticationCacheConfig(String name)
-    {
-        return new MapConfig().setName(name).setNearCacheConfig(new NearCacheConfig().setCacheLocalEntries(authenticationsCacheCacheLocalEntries)
-                                                                                     .setEvictionConfig(new EvictionConfig().setMaximumSizePolicy(authenticationsCacheEvictionConfigMaxSizePolicy)
-                                                                                                                            .setSize(authenticationsCacheEvictionConfigSize))
-                                                                                     .setInvalidateOnChange(authenticationsCacheInvalidateOnChange)
-                                                                                     .setTimeToLiveSeconds(authenticationsCacheInvalidateInterval));
-    }
-
     @Value("${cacheManagerConfiguration.caches.remoteRepositoryAliveness.maxSizeLimit:1000}")
     public int remoteRepositoryAlivenessMaxSizeLimit;
 
@@ -126,8 +101,7 @@ public class HazelcastConfiguration
                                           .addMapConfig(newDefaultMapConfig(CacheName.Artifact.TAGS,
                                                                             tagsMaxSizeLimit,
                                                                             tagsMaxSizePolicy,
-                                                                            tagsEvictionPolicy))
-                                          .addMapConfig(authenticationCacheConfig(CacheName.User.AUTHENTICATIONS));
+                                                                            tagsEvictionPolicy));
         config.setGroupConfig(new GroupConfig(groupConfigName, groupConfigPassword));
         config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(enableMulticastConfig);
 
@@ -5,11 +5,6 @@ package org.carlspring.strongbox.data;
  */
 public final class CacheName
 {
-    public static final class User
-    {
-        public static final String AUTHENTICATIONS = "authentications";
-    }
-    
     public static final class Artifact
     {
 
@@ -25,6 +25,8 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
 {
     private static final Logger logger = LoggerFactory.getLogger(OQueryTemplate.class);
 
+    private static final String PAGING_AFTER_PARAMETER = "pagingAfter";
+
     protected EntityManager entityManager;
 
     public OQueryTemplate()
@@ -50,6 +52,12 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         OSQLSynchQuery<T> oQuery = new OSQLSynchQuery<>(sQuery);
         Map<String, Object> parameterMap = exposeParameterMap(s.getPredicate());
 
+        Paginator paginator = s.getPaginator();
+        if (paginator != null && paginator.isSeek())
+        {
+            parameterMap.put(PAGING_AFTER_PARAMETER, paginator.getAfter());
+        }
+
         logger.debug("Executing SQL query:\n" +
                      "\t[{}]\n" +
                      "With parameters:\n" +
@@ -106,7 +114,9 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         sb.append(" FROM ").append(selector.getTargetClass().getSimpleName());
 
         Predicate p = selector.getPredicate();
-        if (p.isEmpty())
+        Paginator paginator = selector.getPaginator();
+        boolean seek = paginator != null && paginator.isSeek();
+        if (p.isEmpty() && !seek)
         {
             return sb.toString();
         }
@@ -114,7 +124,14 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         sb.append(" WHERE ");
         sb.append(predicateToken(p, 0));
 
-        Paginator paginator = selector.getPaginator();
+        if (seek)
+        {
+            sb.append(p.isEmpty() ? "" : " AND ");
+            sb.append(String.format("%s %s :%s", paginator.getProperty(),
+                                    Paginator.Order.DESC.equals(paginator.getOrder()) ? "<" : ">",
+                                    PAGING_AFTER_PARAMETER));
+        }
+
         if (paginator != null && paginator.getProperty() != null && !paginator.getProperty().trim().isEmpty())
         {
             sb.append(String.format(" ORDER BY %s %s", paginator.getProperty(), paginator.getOrder()));
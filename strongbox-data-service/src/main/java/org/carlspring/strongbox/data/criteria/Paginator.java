@@ -11,6 +11,12 @@ public class Paginator
     private String property;
     private Order order = Order.ASC;
 
+    /**
+     * The value of the (unique) {@link #property} to continue after, which is used instead of {@link #skip} to avoid
+     * walking over the previous pages.
+     */
+    private Object after;
+
     public Integer getSkip()
     {
         return skip == null ? Integer.valueOf(0) : skip;
@@ -51,6 +57,21 @@ public class Paginator
         this.order = order;
     }
 
+    public Object getAfter()
+    {
+        return after;
+    }
+
+    public void setAfter(Object after)
+    {
+        this.after = after;
+    }
+
+    public boolean isSeek()
+    {
+        return after != null && property != null && !property.trim().isEmpty();
+    }
+
     public static enum Order
     {
         ASC, DESC;
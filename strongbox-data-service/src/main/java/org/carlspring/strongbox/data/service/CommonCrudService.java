@@ -3,6 +3,8 @@ package org.carlspring.strongbox.data.service;
 import org.carlspring.strongbox.data.domain.GenericEntity;
 import org.carlspring.strongbox.data.service.impl.EntityServiceRegistry;
 import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
+import org.carlspring.strongbox.data.service.support.search.Sort.Direction;
+import org.carlspring.strongbox.data.service.support.search.Sort.Order;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -35,6 +37,8 @@ public abstract class CommonCrudService<T extends GenericEntity>
 
     private static final Logger logger = LoggerFactory.getLogger(CommonCrudService.class);
 
+    private static final String PAGING_AFTER_PARAMETER = "pagingAfter";
+
     @PersistenceContext
     protected EntityManager entityManager;
 
@@ -329,9 +333,37 @@ public abstract class CommonCrudService<T extends GenericEntity>
         return simpleName;
     }
 
+    /**
+     * Appends the paging to the query, the key paging condition is appended to the <code>WHERE</code> clause of the
+     * query, with its value put into the parameters.
+     */
+    protected void appendPagingCriteria(StringBuilder queryBuilder,
+                                        PagingCriteria pagingCriteria,
+                                        Map<String, Object> parameterMap)
+    {
+        if (pagingCriteria.isSeek())
+        {
+            Order order = pagingCriteria.getSort().getOrders().get(0);
+
+            queryBuilder.append(queryBuilder.indexOf(" WHERE ") < 0 ? " WHERE " : " AND ");
+            queryBuilder.append(String.format("%s %s :%s",
+                                              order.getProperty(),
+                                              Direction.DESC.equals(order.getDirection()) ? "<" : ">",
+                                              PAGING_AFTER_PARAMETER));
+
+            parameterMap.put(PAGING_AFTER_PARAMETER, pagingCriteria.getAfter());
+        }
+
+        appendPagingCriteria(queryBuilder, pagingCriteria);
+    }
+
     protected void appendPagingCriteria(StringBuilder queryBuilder,
                                         PagingCriteria pagingCriteria)
     {
+        if (pagingCriteria.isSeek() && queryBuilder.indexOf(":" + PAGING_AFTER_PARAMETER) < 0)
+        {
+            throw new IllegalArgumentException("Key paging requires the query parameters.");
+        }
 
         queryBuilder.append(String.format(" ORDER BY %s", pagingCriteria.getSort()));
 
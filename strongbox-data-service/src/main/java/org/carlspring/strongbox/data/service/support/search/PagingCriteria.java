@@ -1,10 +1,17 @@
 package org.carlspring.strongbox.data.service.support.search;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import java.util.Objects;
 
 /**
+ * Paging of the query results, either by the offset (<code>skip</code>) or by the key (<code>after</code>).
+ * <br>
+ * The offset paging makes the database walk over all the skipped records, so the bulk iterations over the whole
+ * tables should use the key paging instead: the first page is requested with {@link #seek(int)}, and the next pages
+ * with {@link #next(Object)} from the last key of the previous page, which keeps the cost of every page constant.
+ *
  * @author Przemyslaw Fusik
  */
 @Immutable
@@ -19,15 +26,33 @@ public class PagingCriteria
 
     private final Sort sort;
 
+    private final Object after;
+
     public PagingCriteria(final int skip,
                           final int limit,
                           @Nonnull final Sort sort)
+    {
+        this(skip, limit, sort, null);
+    }
+
+    /**
+     * @param after the value of the sort key to continue after, the sort should be by a single unique key then
+     */
+    public PagingCriteria(final int skip,
+                          final int limit,
+                          @Nonnull final Sort sort,
+                          @Nullable final Object after)
     {
         Objects.requireNonNull(sort, "Sort cannot be null");
+        if (after != null && sort.getOrders().size() != 1)
+        {
+            throw new IllegalArgumentException(String.format("Key paging requires a single sort key, got [%s].", sort));
+        }
 
         this.skip = skip;
         this.limit = limit;
         this.sort = sort;
+        this.after = after;
     }
 
     public PagingCriteria(final int skip,
@@ -36,6 +61,25 @@ public class PagingCriteria
         this(skip, limit, Sort.byUuid());
     }
 
+    /**
+     * @return the first page of the key paging by <code>uuid</code>
+     */
+    public static PagingCriteria seek(final int limit)
+    {
+        return new PagingCriteria(0, limit, Sort.byUuid());
+    }
+
+    /**
+     * @param lastKey the sort key value of the last record of the current page
+     * @return the page which follows the current one
+     */
+    public PagingCriteria next(@Nonnull final Object lastKey)
+    {
+        Objects.requireNonNull(lastKey, "Last key cannot be null");
+
+        return new PagingCriteria(0, limit, sort, lastKey);
+    }
+
     public int getSkip()
     {
         return skip;
@@ -51,4 +95,15 @@ public class PagingCriteria
     {
         return sort;
     }
+
+    @Nullable
+    public Object getAfter()
+    {
+        return after;
+    }
+
+    public boolean isSeek()
+    {
+        return after != null;
+    }
 }
@@ -2,6 +2,7 @@ package org.carlspring.strongbox.data.service.support.search;
 
 import javax.annotation.concurrent.Immutable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.util.StringUtils;
@@ -39,6 +40,11 @@ public class Sort
         return new Sort(Arrays.asList(orders));
     }
 
+    public List<Order> getOrders()
+    {
+        return Collections.unmodifiableList(orders);
+    }
+
     @Override
     public String toString()
     {
@@ -80,6 +86,16 @@ public class Sort
             return new Order(Direction.DESC, property);
         }
 
+        public Direction getDirection()
+        {
+            return direction;
+        }
+
+        public String getProperty()
+        {
+            return property;
+        }
+
         @Override
         public String toString()
         {
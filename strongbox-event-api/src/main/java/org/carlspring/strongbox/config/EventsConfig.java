@@ -3,7 +3,9 @@ package org.carlspring.strongbox.config;
 import javax.servlet.ServletContext;
 
 import org.carlspring.strongbox.event.EventExecutorFactoryBean;
+import org.carlspring.strongbox.event.EventTaskExecutor.OverflowPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -16,9 +18,22 @@ public class EventsConfig
 {
 
     @Bean
-    public EventExecutorFactoryBean eventTaskExecutor(@Autowired(required = false) ServletContext servletContext)
+    public EventExecutorFactoryBean eventTaskExecutor(@Autowired(required = false) ServletContext servletContext,
+                                                      @Value("${strongbox.event.executor.threads:4}") int threads,
+                                                      @Value("${strongbox.event.executor.queueCapacity:10000}")
+                                                              int queueCapacity,
+                                                      @Value("${strongbox.event.executor.overflowPolicy:CALLER_RUNS}")
+                                                              OverflowPolicy overflowPolicy,
+                                                      @Value("${strongbox.event.executor.coalesce:false}")
+                                                              boolean coalesce)
     {
-        return new EventExecutorFactoryBean(servletContext);
+        EventExecutorFactoryBean factoryBean = new EventExecutorFactoryBean(servletContext);
+        factoryBean.setThreads(threads);
+        factoryBean.setQueueCapacity(queueCapacity);
+        factoryBean.setOverflowPolicy(overflowPolicy);
+        factoryBean.setCoalesce(coalesce);
+
+        return factoryBean;
     }
 
 }
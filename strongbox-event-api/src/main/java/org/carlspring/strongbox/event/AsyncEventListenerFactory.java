@@ -0,0 +1,92 @@
+package org.carlspring.strongbox.event;
+
+import java.lang.reflect.Method;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.EventListenerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.ApplicationListenerMethodTransactionalAdapter;
+
+/**
+ * Creates the {@link ApplicationListener}s of the {@link AsyncEventListener} methods, which hand the events over to
+ * the {@link EventTaskExecutor} together with the listener identity, so that the events can be accounted and
+ * coalesced by the listener and by the event type.
+ * <br>
+ * It takes precedence over the default <code>TransactionalEventListenerFactory</code>, the transaction phase of the
+ * listeners is still respected.
+ */
+@Component
+public class AsyncEventListenerFactory implements EventListenerFactory, BeanFactoryAware, Ordered
+{
+
+    public static final String EVENT_TASK_EXECUTOR = "eventTaskExecutor";
+
+    private BeanFactory beanFactory;
+
+    private volatile EventTaskExecutor eventTaskExecutor;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory)
+    {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public int getOrder()
+    {
+        // Before the TransactionalEventListenerFactory.
+        return 40;
+    }
+
+    @Override
+    public boolean supportsMethod(Method method)
+    {
+        return AnnotatedElementUtils.hasAnnotation(method, AsyncEventListener.class);
+    }
+
+    @Override
+    public ApplicationListener<?> createApplicationListener(String beanName,
+                                                            Class<?> type,
+                                                            Method method)
+    {
+        return new AsyncEventListenerMethodAdapter(beanName, type, method);
+    }
+
+    private EventTaskExecutor getEventTaskExecutor()
+    {
+        // Looked up lazily, the factories are instantiated before the regular beans.
+        if (eventTaskExecutor == null)
+        {
+            eventTaskExecutor = beanFactory.getBean(EVENT_TASK_EXECUTOR, EventTaskExecutor.class);
+        }
+
+        return eventTaskExecutor;
+    }
+
+    private class AsyncEventListenerMethodAdapter extends ApplicationListenerMethodTransactionalAdapter
+    {
+
+        private final String listener;
+
+        AsyncEventListenerMethodAdapter(String beanName,
+                                        Class<?> targetClass,
+                                        Method method)
+        {
+            super(beanName, targetClass, method);
+            this.listener = targetClass.getSimpleName() + "#" + method.getName();
+        }
+
+        @Override
+        public void processEvent(ApplicationEvent event)
+        {
+            getEventTaskExecutor().execute(event, listener, () -> super.processEvent(event));
+        }
+
+    }
+
+}
@@ -1,21 +1,28 @@
 package org.carlspring.strongbox.event;
 
+import org.carlspring.strongbox.event.EventTaskExecutor.OverflowPolicy;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.FactoryBean;
-import org.springframework.core.task.SyncTaskExecutor;
 
 import javax.servlet.ServletContext;
-import java.util.Optional;
-import java.util.concurrent.Executor;
 
-public class EventExecutorFactoryBean implements FactoryBean<Executor>
+public class EventExecutorFactoryBean implements FactoryBean<EventTaskExecutor>
 {
 
     private static final Logger logger = LoggerFactory.getLogger(EventExecutorFactoryBean.class);
 
     private final ServletContext servletContext;
 
+    private int threads = 4;
+
+    private int queueCapacity = 10000;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+
+    private boolean coalesce;
+
     public EventExecutorFactoryBean(ServletContext servletContext)
     {
         super();
@@ -23,45 +30,57 @@ public class EventExecutorFactoryBean implements FactoryBean<Executor>
     }
 
     @Override
-    public Executor getObject()
+    public EventTaskExecutor getObject()
         throws Exception
     {
-        Executor executor = Optional.ofNullable(servletContext)
-                                    .flatMap(c -> Optional.ofNullable(lookupExecutor()))
-                                    .orElse(new SyncTaskExecutor());
-        
-        logger.info("Using [{}] executor for Async events.", executor.getClass());
-        
+        // Async events are handled synchronously outside of the server (tests, tools), as before.
+        int poolSize = isServerEnvironment() ? threads : 0;
+
+        EventTaskExecutor executor = new EventTaskExecutor(poolSize, queueCapacity, overflowPolicy, coalesce);
+
+        logger.info("Using [{}] threads, queue capacity [{}], overflow policy [{}] and coalescing [{}] " +
+                    "for Async events.",
+                    poolSize, queueCapacity, overflowPolicy, coalesce);
+
         return executor;
     }
 
-    private Executor lookupExecutor()
+    private boolean isServerEnvironment()
     {
-        Executor result;
-        if ((result = lookupJettyExecutor()) != null)
+        if (servletContext == null || servletContext.getAttribute("org.eclipse.jetty.server.Executor") == null)
         {
-            return result;
+            return false;
         }
-        return null;
+
+        logger.info("Jetty environment detected.");
+
+        return true;
     }
 
-    private Executor lookupJettyExecutor()
+    public void setThreads(int threads)
     {
-        Executor executor = (Executor) servletContext.getAttribute("org.eclipse.jetty.server.Executor");
-        if (executor == null)
-        {
-            return null;
-        }
+        this.threads = threads;
+    }
 
-        logger.info("Jetty environment detected.");
+    public void setQueueCapacity(int queueCapacity)
+    {
+        this.queueCapacity = queueCapacity;
+    }
 
-        return executor;
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy)
+    {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public void setCoalesce(boolean coalesce)
+    {
+        this.coalesce = coalesce;
     }
 
     @Override
     public Class<?> getObjectType()
     {
-        return Executor.class;
+        return EventTaskExecutor.class;
     }
 
 }
@@ -0,0 +1,400 @@
+package org.carlspring.strongbox.event;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Executor of the {@link AsyncEventListener}s.
+ * <br>
+ * The listeners are executed with a dedicated thread pool, which has a bounded queue. Once the queue is full the
+ * {@link OverflowPolicy} applies, by default the event is handled by the publishing thread, which slows down the
+ * publishers until the pool catches up. Without the threads the listeners are executed synchronously.
+ * <br>
+ * Optionally the events can be coalesced: an event is skipped if the same listener already has an event of the same
+ * type and path in the queue.
+ * <br>
+ * The execution statistics are collected by the event type and by the listener.
+ */
+public class EventTaskExecutor implements Executor, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(EventTaskExecutor.class);
+
+    private static final String UNKNOWN = "unknown";
+
+    private final ThreadPoolExecutor executor;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final boolean coalesce;
+
+    private final Map<Object, Boolean> pending = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, EventTaskStatistics> eventTypeStatistics = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, EventTaskStatistics> listenerStatistics = new ConcurrentHashMap<>();
+
+    public EventTaskExecutor(int threads,
+                             int queueCapacity,
+                             OverflowPolicy overflowPolicy,
+                             boolean coalesce)
+    {
+        this.overflowPolicy = overflowPolicy;
+        this.coalesce = coalesce;
+
+        if (threads <= 0)
+        {
+            executor = null;
+
+            return;
+        }
+
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                                          new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+                                          new EventThreadFactory(),
+                                          new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable task)
+    {
+        execute(null, null, task);
+    }
+
+    public void execute(ApplicationEvent event,
+                        String listener,
+                        Runnable task)
+    {
+        EventTaskStatistics eventTypeStats = eventTypeStatistics.computeIfAbsent(getEventType(event),
+                                                                                  k -> new EventTaskStatistics());
+        EventTaskStatistics listenerStats = listenerStatistics.computeIfAbsent(listener == null ? UNKNOWN : listener,
+                                                                                k -> new EventTaskStatistics());
+
+        if (executor == null)
+        {
+            eventTypeStats.submitted();
+            listenerStats.submitted();
+
+            run(task, null, System.nanoTime(), eventTypeStats, listenerStats);
+
+            return;
+        }
+
+        Object key = coalesce ? getCoalescingKey(event, listener) : null;
+        if (key != null && pending.putIfAbsent(key, Boolean.TRUE) != null)
+        {
+            logger.debug("Coalesced event [{}] for [{}].", event, listener);
+
+            eventTypeStats.coalesced.increment();
+            listenerStats.coalesced.increment();
+
+            return;
+        }
+
+        eventTypeStats.submitted();
+        listenerStats.submitted();
+
+        long submitted = System.nanoTime();
+        try
+        {
+            executor.execute(() -> run(task, key, submitted, eventTypeStats, listenerStats));
+        }
+        catch (RejectedExecutionException e)
+        {
+            if (key != null)
+            {
+                pending.remove(key);
+            }
+
+            eventTypeStats.rejected.increment();
+            listenerStats.rejected.increment();
+
+            handleOverflow(event, listener, task, e, eventTypeStats, listenerStats);
+        }
+    }
+
+    private void handleOverflow(ApplicationEvent event,
+                                String listener,
+                                Runnable task,
+                                RejectedExecutionException e,
+                                EventTaskStatistics eventTypeStats,
+                                EventTaskStatistics listenerStats)
+    {
+        switch (overflowPolicy)
+        {
+            case DISCARD:
+                eventTypeStats.dequeued();
+                listenerStats.dequeued();
+
+                logger.warn("Event queue is full, discarded event [{}] for [{}].", event, listener);
+
+                return;
+            case ABORT:
+                eventTypeStats.dequeued();
+                listenerStats.dequeued();
+
+                throw e;
+            default:
+                logger.debug("Event queue is full, handling event [{}] for [{}] in the caller thread.", event,
+                             listener);
+
+                run(task, null, System.nanoTime(), eventTypeStats, listenerStats);
+        }
+    }
+
+    private void run(Runnable task,
+                     Object key,
+                     long submitted,
+                     EventTaskStatistics eventTypeStats,
+                     EventTaskStatistics listenerStats)
+    {
+        if (key != null)
+        {
+            // Removed before the execution, so that the events published meanwhile are not lost.
+            pending.remove(key);
+        }
+
+        long started = System.nanoTime();
+        eventTypeStats.started(started - submitted);
+        listenerStats.started(started - submitted);
+
+        boolean failed = false;
+        try
+        {
+            task.run();
+        }
+        catch (Exception e)
+        {
+            failed = true;
+            logger.error("Failed to handle async event.", e);
+        }
+        finally
+        {
+            long duration = System.nanoTime() - started;
+            eventTypeStats.completed(duration, failed);
+            listenerStats.completed(duration, failed);
+        }
+    }
+
+    private String getEventType(ApplicationEvent event)
+    {
+        if (event == null)
+        {
+            return UNKNOWN;
+        }
+        if (event instanceof Event)
+        {
+            return String.format("%s[%s]", event.getClass().getSimpleName(), ((Event) event).getType());
+        }
+
+        return event.getClass().getSimpleName();
+    }
+
+    private Object getCoalescingKey(ApplicationEvent event,
+                                    String listener)
+    {
+        if (listener == null || !(event instanceof RepositoryBasedEvent))
+        {
+            return null;
+        }
+
+        Path path = ((RepositoryBasedEvent<?>) event).getPath();
+        if (path == null)
+        {
+            return null;
+        }
+
+        return Arrays.asList(listener, getEventType(event), path.toUri().toString());
+    }
+
+    /**
+     * @return the statistics by the event type, such as <code>ArtifactEvent[22]</code>
+     */
+    public Map<String, EventTaskStatistics> getEventTypeStatistics()
+    {
+        return Collections.unmodifiableMap(eventTypeStatistics);
+    }
+
+    /**
+     * @return the statistics by the listener, such as <code>ArtifactStoredEventListener#handleEvent</code>
+     */
+    public Map<String, EventTaskStatistics> getListenerStatistics()
+    {
+        return Collections.unmodifiableMap(listenerStatistics);
+    }
+
+    public int getQueueSize()
+    {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    public int getActiveCount()
+    {
+        return executor == null ? 0 : executor.getActiveCount();
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (executor != null)
+        {
+            executor.shutdown();
+        }
+    }
+
+    public enum OverflowPolicy
+    {
+
+        /**
+         * The event is handled by the publishing thread.
+         */
+        CALLER_RUNS,
+
+        /**
+         * The event is dropped.
+         */
+        DISCARD,
+
+        /**
+         * The {@link RejectedExecutionException} is thrown to the publisher.
+         */
+        ABORT;
+
+    }
+
+    public static class EventTaskStatistics
+    {
+
+        private final LongAdder submitted = new LongAdder();
+
+        private final LongAdder queued = new LongAdder();
+
+        private final LongAdder completed = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder coalesced = new LongAdder();
+
+        private final LongAdder totalWaitNanos = new LongAdder();
+
+        private final LongAdder totalExecutionNanos = new LongAdder();
+
+        private final LongAccumulator maxExecutionNanos = new LongAccumulator(Math::max, 0);
+
+        void submitted()
+        {
+            submitted.increment();
+            queued.increment();
+        }
+
+        void dequeued()
+        {
+            queued.decrement();
+        }
+
+        void started(long waitNanos)
+        {
+            queued.decrement();
+            totalWaitNanos.add(waitNanos);
+        }
+
+        void completed(long executionNanos,
+                       boolean failure)
+        {
+            completed.increment();
+            if (failure)
+            {
+                failed.increment();
+            }
+            totalExecutionNanos.add(executionNanos);
+            maxExecutionNanos.accumulate(executionNanos);
+        }
+
+        public long getSubmitted()
+        {
+            return submitted.sum();
+        }
+
+        /**
+         * @return the number of the events which are currently waiting in the queue
+         */
+        public long getQueued()
+        {
+            return queued.sum();
+        }
+
+        public long getCompleted()
+        {
+            return completed.sum();
+        }
+
+        public long getFailed()
+        {
+            return failed.sum();
+        }
+
+        public long getRejected()
+        {
+            return rejected.sum();
+        }
+
+        public long getCoalesced()
+        {
+            return coalesced.sum();
+        }
+
+        public long getTotalWaitNanos()
+        {
+            return totalWaitNanos.sum();
+        }
+
+        public long getTotalExecutionNanos()
+        {
+            return totalExecutionNanos.sum();
+        }
+
+        public long getMaxExecutionNanos()
+        {
+            return maxExecutionNanos.get();
+        }
+
+    }
+
+    private static class EventThreadFactory implements ThreadFactory
+    {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r)
+        {
+            Thread thread = new Thread(r, "strongbox-event-" + count.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package org.carlspring.strongbox.event;
+
+import org.carlspring.strongbox.event.EventTaskExecutor.EventTaskStatistics;
+import org.carlspring.strongbox.event.EventTaskExecutor.OverflowPolicy;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventTaskExecutorTest
+{
+
+    private static final String LISTENER = "TestListener#handle";
+
+    private EventTaskExecutor executor;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    public void tearDown()
+    {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    public void testCallerRunsWhenQueueIsFull()
+        throws Exception
+    {
+        executor = new EventTaskExecutor(1, 1, OverflowPolicy.CALLER_RUNS, false);
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(event(1), LISTENER, () -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(1, TimeUnit.MINUTES);
+
+        // queued
+        AtomicInteger handled = new AtomicInteger();
+        executor.execute(event(1), LISTENER, handled::incrementAndGet);
+
+        // rejected, handled by this thread
+        Thread caller = Thread.currentThread();
+        executor.execute(event(1), LISTENER, () -> assertEquals(caller, Thread.currentThread()));
+
+        EventTaskStatistics statistics = executor.getEventTypeStatistics().get("RepositoryBasedEvent[1]");
+        assertEquals(3, statistics.getSubmitted());
+        assertEquals(1, statistics.getRejected());
+        assertEquals(1, statistics.getQueued());
+        assertEquals(1, executor.getListenerStatistics().get(LISTENER).getQueued());
+    }
+
+    @Test
+    public void testAbortWhenQueueIsFull()
+        throws Exception
+    {
+        executor = new EventTaskExecutor(1, 1, OverflowPolicy.ABORT, false);
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(event(1), LISTENER, () -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(1, TimeUnit.MINUTES);
+
+        executor.execute(event(1), LISTENER, () -> {});
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(event(1), LISTENER, () -> {}));
+    }
+
+    @Test
+    public void testCoalesceQueuedEvents()
+        throws Exception
+    {
+        executor = new EventTaskExecutor(1, 10, OverflowPolicy.CALLER_RUNS, true);
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(event(2), "Blocking#handle", () -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(1, TimeUnit.MINUTES);
+
+        AtomicInteger handled = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(2);
+        for (int i = 0; i < 5; i++)
+        {
+            executor.execute(event(1), LISTENER, () -> {
+                handled.incrementAndGet();
+                done.countDown();
+            });
+        }
+        executor.execute(event(3), LISTENER, done::countDown);
+
+        release.countDown();
+        assertTrue(done.await(1, TimeUnit.MINUTES));
+
+        EventTaskStatistics statistics = executor.getListenerStatistics().get(LISTENER);
+        assertEquals(1, handled.get());
+        assertEquals(4, statistics.getCoalesced());
+        assertEquals(2, statistics.getSubmitted());
+    }
+
+    @Test
+    public void testSynchronousExecution()
+    {
+        executor = new EventTaskExecutor(0, 0, OverflowPolicy.CALLER_RUNS, false);
+
+        AtomicInteger handled = new AtomicInteger();
+        executor.execute(event(1), LISTENER, handled::incrementAndGet);
+        executor.execute(event(1), LISTENER, () -> {
+            throw new IllegalStateException("Expected failure.");
+        });
+
+        EventTaskStatistics statistics = executor.getListenerStatistics().get(LISTENER);
+        assertEquals(1, handled.get());
+        assertEquals(2, statistics.getCompleted());
+        assertEquals(1, statistics.getFailed());
+        assertEquals(0, statistics.getQueued());
+    }
+
+    private RepositoryBasedEvent<?> event(int type)
+    {
+        return new RepositoryBasedEvent<>(Paths.get("/storage0/releases/org/carlspring/test-1.0.jar"), type);
+    }
+
+    private void await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(1, TimeUnit.MINUTES);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -1,13 +1,19 @@
 package org.carlspring.strongbox.authentication.api;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetails;
 
-public interface AuthenticationCache extends PasswordEncoder
+public interface AuthenticationCache
 {
 
-    public UsernamePasswordAuthenticationToken getAuthenticationToken(String userName);
+    /**
+     * @return <code>true</code> if the credentials of the authentication have been verified recently against the
+     *         (unchanged) password of the user
+     */
+    public boolean isVerified(UserDetails userDetails,
+                              UsernamePasswordAuthenticationToken authentication);
 
-    public UsernamePasswordAuthenticationToken putAuthenticationToken(UsernamePasswordAuthenticationToken authentication);
+    public void putVerified(UserDetails userDetails,
+                            UsernamePasswordAuthenticationToken authentication);
 
 }
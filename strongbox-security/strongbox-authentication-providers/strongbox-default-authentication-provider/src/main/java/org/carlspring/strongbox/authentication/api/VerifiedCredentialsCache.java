@@ -0,0 +1,214 @@
+package org.carlspring.strongbox.authentication.api;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Cache of the recently verified credentials, so that the clients which send their credentials with every request
+ * (such as Maven, Gradle or pip with the HTTP Basic authentication) don't pay for the (deliberately slow) password
+ * hash every time.
+ * <br>
+ * The credentials are kept as the HMAC of the username, the password and the stored password hash of the user,
+ * under a random key of the process, so neither the passwords nor anything which could be brute forced offline are
+ * held in memory. As the stored password hash is a part of the HMAC, the entries are invalidated as soon as the
+ * password is changed, and the entries expire after <code>strongbox.authentication.credentialsCache.ttl</code>
+ * seconds. The disabled, locked and deleted users are rejected before their credentials are checked.
+ */
+public class VerifiedCredentialsCache
+        implements AuthenticationCache
+{
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${strongbox.authentication.credentialsCache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${strongbox.authentication.credentialsCache.maxSize:10000}")
+    private int maxSize = 10000;
+
+    @Value("${strongbox.authentication.credentialsCache.ttl:60}")
+    private long ttl = 60;
+
+    private final SecretKeySpec key;
+
+    private final ThreadLocal<Mac> mac;
+
+    /**
+     * The verification times by the HMAC of the credentials.
+     */
+    private final ConcurrentMap<String, Long> verifiedCredentials = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedCredentialsCache()
+    {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        key = new SecretKeySpec(secret, ALGORITHM);
+        mac = ThreadLocal.withInitial(this::createMac);
+    }
+
+    private Mac createMac()
+    {
+        try
+        {
+            Mac result = Mac.getInstance(ALGORITHM);
+            result.init(key);
+
+            return result;
+        }
+        catch (GeneralSecurityException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean isVerified(UserDetails userDetails,
+                              UsernamePasswordAuthenticationToken authentication)
+    {
+        if (!enabled || authentication.getCredentials() == null)
+        {
+            return false;
+        }
+
+        Long verified = verifiedCredentials.get(getKey(userDetails, authentication));
+        if (verified == null || isExpired(verified))
+        {
+            misses.increment();
+
+            return false;
+        }
+
+        hits.increment();
+
+        return true;
+    }
+
+    @Override
+    public void putVerified(UserDetails userDetails,
+                            UsernamePasswordAuthenticationToken authentication)
+    {
+        if (!enabled || authentication.getCredentials() == null)
+        {
+            return;
+        }
+
+        String credentialsKey = getKey(userDetails, authentication);
+        if (!verifiedCredentials.containsKey(credentialsKey))
+        {
+            evictIfNeeded();
+        }
+
+        verifiedCredentials.put(credentialsKey, System.currentTimeMillis());
+    }
+
+    public void invalidateAll()
+    {
+        verifiedCredentials.clear();
+    }
+
+    private String getKey(UserDetails userDetails,
+                          UsernamePasswordAuthenticationToken authentication)
+    {
+        Mac hmac = mac.get();
+        update(hmac, userDetails.getUsername());
+        update(hmac, authentication.getCredentials().toString());
+        update(hmac, userDetails.getPassword());
+
+        return Base64.getEncoder().encodeToString(hmac.doFinal());
+    }
+
+    /**
+     * Each value is prefixed with its length, so that the values can't be shifted from one into another.
+     */
+    private void update(Mac hmac,
+                        String value)
+    {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+
+        hmac.update((byte) (bytes.length >>> 24));
+        hmac.update((byte) (bytes.length >>> 16));
+        hmac.update((byte) (bytes.length >>> 8));
+        hmac.update((byte) bytes.length);
+        hmac.update(bytes);
+    }
+
+    private boolean isExpired(long verified)
+    {
+        return System.currentTimeMillis() - verified > TimeUnit.SECONDS.toMillis(ttl);
+    }
+
+    /**
+     * The eviction is approximate: the expired entries are dropped first, and then about a tenth of the entries, in
+     * the hash order, once the cache is still full.
+     */
+    private void evictIfNeeded()
+    {
+        if (verifiedCredentials.size() < maxSize)
+        {
+            return;
+        }
+
+        verifiedCredentials.values().removeIf(this::isExpired);
+
+        int toEvict = verifiedCredentials.size() - maxSize + Math.max(1, maxSize / 10);
+        for (Iterator<String> i = verifiedCredentials.keySet().iterator(); i.hasNext() && toEvict > 0; toEvict--)
+        {
+            i.next();
+            i.remove();
+        }
+    }
+
+    public int getSize()
+    {
+        return verifiedCredentials.size();
+    }
+
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    public void setMaxSize(int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    public void setTtl(long ttl)
+    {
+        this.ttl = ttl;
+    }
+
+}
@@ -1,7 +1,5 @@
 package org.carlspring.strongbox.authentication.api.password;
 
-import java.util.Optional;
-
 import javax.inject.Inject;
 
 import org.carlspring.strongbox.authentication.api.AuthenticationCache;
@@ -25,9 +23,14 @@ public class PasswordAuthenticationProvider extends DaoAuthenticationProvider
 
     private static final Logger logger = LoggerFactory.getLogger(PasswordAuthenticationProvider.class);
 
-    @Inject
     private AuthenticationCache authenticationCache;
 
+    @Inject
+    public void setAuthenticationCache(AuthenticationCache authenticationCache)
+    {
+        this.authenticationCache = authenticationCache;
+    }
+
     @Override
     @Inject
     public void setPasswordEncoder(PasswordEncoder passwordEncoder)
@@ -67,16 +70,7 @@ public class PasswordAuthenticationProvider extends DaoAuthenticationProvider
                                                   UsernamePasswordAuthenticationToken authentication)
         throws AuthenticationException
     {
-        UsernamePasswordAuthenticationToken cachedAuthentication = authenticationCache.getAuthenticationToken(userDetails.getUsername());
-
-        if (Optional.ofNullable(cachedAuthentication)
-                    .filter(c -> authentication.getCredentials() != null && c.getCredentials() != null)
-                    .filter(c -> authenticationCache.matches(authentication.getCredentials()
-                                                                           .toString(),
-                                                             c.getCredentials()
-                                                              .toString()))
-                    .isPresent())
-
+        if (authenticationCache.isVerified(userDetails, authentication))
         {
             logger.debug("Found cached authentication for [{}]", userDetails.getUsername());
             return;
@@ -91,7 +85,7 @@ public class PasswordAuthenticationProvider extends DaoAuthenticationProvider
             throw new BadCredentialsException("invalid.credentials");
         }
 
-        authenticationCache.putAuthenticationToken(authentication);
+        authenticationCache.putVerified(userDetails, authentication);
     }
 
 }
@@ -0,0 +1,82 @@
+package org.carlspring.strongbox.authentication.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+public class VerifiedCredentialsCacheTest
+{
+
+    private VerifiedCredentialsCache cache = new VerifiedCredentialsCache();
+
+    private UserDetails user;
+
+    @BeforeEach
+    public void setUp()
+    {
+        user = userWithPassword("{bcrypt}hash");
+    }
+
+    private UserDetails userWithPassword(String password)
+    {
+        return User.withUsername("deployer").password(password).authorities("ARTIFACTS_DEPLOY").build();
+    }
+
+    @Test
+    public void testVerifiedCredentials()
+    {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken("deployer",
+                                                                                                     "password");
+        assertFalse(cache.isVerified(user, authentication));
+
+        cache.putVerified(user, authentication);
+
+        assertTrue(cache.isVerified(user, new UsernamePasswordAuthenticationToken("deployer", "password")));
+        assertFalse(cache.isVerified(user, new UsernamePasswordAuthenticationToken("deployer", "passwor")));
+        assertFalse(cache.isVerified(user, new UsernamePasswordAuthenticationToken("deployer", null)));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testChangedPasswordIsNotVerified()
+    {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken("deployer",
+                                                                                                     "password");
+        cache.putVerified(user, authentication);
+
+        assertFalse(cache.isVerified(userWithPassword("{bcrypt}changed"), authentication));
+    }
+
+    @Test
+    public void testVerifiedCredentialsExpire()
+        throws InterruptedException
+    {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken("deployer",
+                                                                                                     "password");
+        cache.setTtl(0);
+        cache.putVerified(user, authentication);
+        Thread.sleep(10);
+
+        assertFalse(cache.isVerified(user, authentication));
+    }
+
+    @Test
+    public void testCacheIsBounded()
+    {
+        cache.setMaxSize(10);
+        for (int i = 0; i < 100; i++)
+        {
+            cache.putVerified(user, new UsernamePasswordAuthenticationToken("deployer", "password" + i));
+        }
+
+        assertTrue(cache.getSize() <= 10);
+    }
+
+}
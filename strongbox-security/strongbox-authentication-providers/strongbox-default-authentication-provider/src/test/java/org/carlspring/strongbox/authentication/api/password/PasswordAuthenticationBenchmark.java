@@ -0,0 +1,84 @@
+package org.carlspring.strongbox.authentication.api.password;
+
+import org.carlspring.strongbox.authentication.api.VerifiedCredentialsCache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+/**
+ * Authentications per second of the HTTP Basic credentials (which the build tools send with every request), with
+ * and without the cache of the verified credentials. The password is hashed with the default (bcrypt) encoder.
+ * <br>
+ * It isn't run with the tests, run it with the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PasswordAuthenticationBenchmark
+{
+
+    private static final String USERNAME = "deployer";
+
+    private static final String PASSWORD = "password";
+
+    @Param({ "true", "false" })
+    private boolean cacheEnabled;
+
+    private PasswordAuthenticationProvider authenticationProvider;
+
+    @Setup
+    public void setup()
+    {
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
+        VerifiedCredentialsCache authenticationCache = new VerifiedCredentialsCache();
+        authenticationCache.setEnabled(cacheEnabled);
+
+        authenticationProvider = new PasswordAuthenticationProvider();
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        authenticationProvider.setAuthenticationCache(authenticationCache);
+        authenticationProvider.setUserDetailsService(
+                new InMemoryUserDetailsManager(User.withUsername(USERNAME)
+                                                   .password(passwordEncoder.encode(PASSWORD))
+                                                   .authorities("ARTIFACTS_RESOLVE")
+                                                   .build()));
+    }
+
+    @Benchmark
+    public Authentication authenticate()
+    {
+        return authenticationProvider.authenticate(new PasswordAuthentication(USERNAME, PASSWORD));
+    }
+
+    public static void main(String[] args)
+        throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(PasswordAuthenticationBenchmark.class.getSimpleName())
+                                       .build()).run();
+    }
+
+}
@@ -4,7 +4,6 @@ import java.util.Date;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
-import org.carlspring.strongbox.data.CacheName;
 import org.carlspring.strongbox.domain.UserEntry;
 import org.carlspring.strongbox.users.domain.UserData;
 import org.carlspring.strongbox.users.dto.User;
@@ -14,7 +13,6 @@ import org.carlspring.strongbox.users.userdetails.StrongboxExternalUsersCacheMan
 import org.carlspring.strongbox.users.userdetails.StrongboxUserDetails;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -32,7 +30,6 @@ public class OrientDbExternalUsersCacheManager extends OrientDbUserService imple
     private static final Logger logger = LoggerFactory.getLogger(OrientDbExternalUsersCacheManager.class);
     
     @Override
-    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p1.username")
     public User cacheExternalUserDetails(String sourceId,
                                          UserDetails springUser)
     {
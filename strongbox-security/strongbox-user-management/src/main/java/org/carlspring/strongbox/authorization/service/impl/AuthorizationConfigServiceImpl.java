@@ -44,6 +44,12 @@ public class AuthorizationConfigServiceImpl
      */
     private AuthorizationConfigDto authorizationConfig;
 
+    /**
+     * The immutable view of the {@link #authorizationConfig}, with the compiled access models of the roles, which is
+     * built once it's changed instead of on every {@link #get()}.
+     */
+    private AuthorizationConfig authorizationConfigData;
+
     @Override
     public void setAuthorizationConfig(final AuthorizationConfigDto newConfig) throws IOException
     {
@@ -78,7 +84,7 @@ public class AuthorizationConfigServiceImpl
 
         try
         {
-            return new AuthorizationConfig(authorizationConfig);
+            return authorizationConfigData;
         }
         finally
         {
@@ -140,6 +146,7 @@ public class AuthorizationConfigServiceImpl
         try
         {
             operation.accept(authorizationConfig);
+            authorizationConfigData = new AuthorizationConfig(authorizationConfig);
 
             if (storeInFile)
             {
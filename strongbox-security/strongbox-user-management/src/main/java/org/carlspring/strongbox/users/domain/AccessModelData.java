@@ -31,11 +31,14 @@ public class AccessModelData
     
     private final Set<StoragePrivilegesData> storageAuthorities;
 
+    private final PathPrivilegesTrie pathAuthorities;
+
 
     public AccessModelData(AccessModelDto delegate)
     {
         this.storageAuthorities = immuteStorages(delegate.getStorageAuthorities());
         this.apiAuthorities = ImmutableSet.copyOf(delegate.getApiAuthorities());
+        this.pathAuthorities = PathPrivilegesTrie.builder().addStorages(storageAuthorities).build();
     }
 
     private Set<StoragePrivilegesData> immuteStorages(final Set<StoragePrivilegesDto> source)
@@ -60,9 +63,18 @@ public class AccessModelData
     @Override
     public Set<Privileges> getPathAuthorities(String url)
     {
-        return getPathAuthorities(url, getStorageAuthorities());
+        return pathAuthorities.getPathAuthorities(url);
     }
-    
+
+    @Override
+    public void addPathAuthorities(PathPrivilegesTrie.Builder trie)
+    {
+        trie.addStorages(storageAuthorities);
+    }
+
+    /**
+     * Scans all the privileges, see {@link PathPrivilegesTrie} for the compiled lookup.
+     */
     public static Set<Privileges> getPathAuthorities(String url, Set<? extends StoragePrivileges> storages)
     {
         String normalizedUrl = StringUtils.chomp(url, "/");
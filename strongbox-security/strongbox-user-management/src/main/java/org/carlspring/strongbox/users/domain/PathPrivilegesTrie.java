@@ -0,0 +1,176 @@
+package org.carlspring.strongbox.users.domain;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.commons.lang.StringUtils;
+import org.carlspring.strongbox.users.dto.PathPrivileges;
+import org.carlspring.strongbox.users.dto.RepositoryPrivileges;
+import org.carlspring.strongbox.users.dto.StoragePrivileges;
+
+/**
+ * The storage, repository and path privileges of one or more access models, compiled into a trie of their URLs.
+ * <br>
+ * The privileges of a URL are collected in a single pass over the URL, instead of scanning all the privileges, with
+ * the same result as {@link AccessModelData#getPathAuthorities(String, Set)}: the repository and the wildcard path
+ * privileges apply to the URLs which start with their keys, and the other path privileges apply to their keys only.
+ */
+@Immutable
+public class PathPrivilegesTrie
+        implements Serializable
+{
+
+    private final Node root;
+
+    private PathPrivilegesTrie(Node root)
+    {
+        this.root = root;
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public Set<Privileges> getPathAuthorities(String url)
+    {
+        String normalizedUrl = StringUtils.defaultString(StringUtils.chomp(url, "/"));
+
+        Set<Privileges> privileges = EnumSet.noneOf(Privileges.class);
+        Node node = root;
+        for (int i = 0; node != null; i++)
+        {
+            node.addPrefixPrivileges(privileges);
+            if (i == normalizedUrl.length())
+            {
+                node.addExactPrivileges(privileges);
+                break;
+            }
+
+            node = node.children.get(normalizedUrl.charAt(i));
+        }
+
+        return privileges;
+    }
+
+    public static class Builder
+    {
+
+        private final Node root = new Node();
+
+        private Builder()
+        {
+        }
+
+        public Builder addStorages(Set<? extends StoragePrivileges> storages)
+        {
+            for (StoragePrivileges storage : storages)
+            {
+                String storageKey = "/storages/" + storage.getStorageId();
+                for (RepositoryPrivileges repository : storage.getRepositoryPrivileges())
+                {
+                    String repositoryKey = storageKey + "/" + repository.getRepositoryId();
+                    Node repositoryNode = root.getOrCreate(repositoryKey);
+                    repositoryNode.prefixPrivileges = add(repositoryNode.prefixPrivileges,
+                                                          repository.getRepositoryPrivileges());
+
+                    for (PathPrivileges pathPrivilege : repository.getPathPrivileges())
+                    {
+                        String normalizedPath = StringUtils.chomp(pathPrivilege.getPath(), "/");
+                        Node node = root.getOrCreate(repositoryKey + "/" + normalizedPath);
+                        if (pathPrivilege.isWildcard())
+                        {
+                            node.prefixPrivileges = add(node.prefixPrivileges, pathPrivilege.getPrivileges());
+                        }
+                        else
+                        {
+                            node.exactPrivileges = add(node.exactPrivileges, pathPrivilege.getPrivileges());
+                        }
+                    }
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Adds the privileges, which apply to all the URLs.
+         */
+        public Builder addToAllPaths(Set<Privileges> privileges)
+        {
+            root.prefixPrivileges = add(root.prefixPrivileges, privileges);
+
+            return this;
+        }
+
+        public PathPrivilegesTrie build()
+        {
+            return new PathPrivilegesTrie(root);
+        }
+
+        private static EnumSet<Privileges> add(EnumSet<Privileges> target,
+                                               Set<Privileges> privileges)
+        {
+            if (privileges == null || privileges.isEmpty())
+            {
+                return target;
+            }
+
+            EnumSet<Privileges> result = target != null ? target : EnumSet.noneOf(Privileges.class);
+            result.addAll(privileges);
+
+            return result;
+        }
+
+    }
+
+    private static class Node
+            implements Serializable
+    {
+
+        private Map<Character, Node> children = Collections.emptyMap();
+
+        private EnumSet<Privileges> prefixPrivileges;
+
+        private EnumSet<Privileges> exactPrivileges;
+
+        private Node getOrCreate(String key)
+        {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++)
+            {
+                if (node.children.isEmpty())
+                {
+                    node.children = new HashMap<>();
+                }
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+
+            return node;
+        }
+
+        private void addPrefixPrivileges(Set<Privileges> privileges)
+        {
+            if (prefixPrivileges != null)
+            {
+                privileges.addAll(prefixPrivileges);
+            }
+        }
+
+        private void addExactPrivileges(Set<Privileges> privileges)
+        {
+            if (exactPrivileges != null)
+            {
+                privileges.addAll(exactPrivileges);
+            }
+        }
+
+    }
+
+}
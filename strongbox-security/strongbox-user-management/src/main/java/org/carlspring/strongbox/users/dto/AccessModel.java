@@ -3,6 +3,7 @@ package org.carlspring.strongbox.users.dto;
 import java.io.Serializable;
 import java.util.Set;
 
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 
 public interface AccessModel extends Serializable
@@ -11,4 +12,9 @@ public interface AccessModel extends Serializable
 
     Set<Privileges> getPathAuthorities(String path);
 
+    /**
+     * Adds the privileges of {@link #getPathAuthorities(String)} to the trie being compiled.
+     */
+    void addPathAuthorities(PathPrivilegesTrie.Builder trie);
+
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.carlspring.strongbox.users.domain.AccessModelData;
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 
 /**
@@ -42,5 +43,11 @@ public class AccessModelDto
     {
         return AccessModelData.getPathAuthorities(url, storageAuthorities);
     }
+
+    @Override
+    public void addPathAuthorities(PathPrivilegesTrie.Builder trie)
+    {
+        trie.addStorages(storageAuthorities);
+    }
     
 }
@@ -2,6 +2,7 @@ package org.carlspring.strongbox.users.security;
 
 import java.util.Set;
 
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.carlspring.strongbox.users.dto.AccessModel;
 
@@ -23,4 +24,10 @@ public class AdminAccessModel implements AccessModel
         return Privileges.all();
     }
 
+    @Override
+    public void addPathAuthorities(PathPrivilegesTrie.Builder trie)
+    {
+        trie.addToAllPaths(Privileges.all());
+    }
+
 }
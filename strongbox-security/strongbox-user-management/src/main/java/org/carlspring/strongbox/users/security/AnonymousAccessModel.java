@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.carlspring.strongbox.users.dto.AccessModel;
 
@@ -36,4 +37,10 @@ public class AnonymousAccessModel implements AccessModel
         return target.getPathAuthorities(url);
     }
 
+    @Override
+    public void addPathAuthorities(PathPrivilegesTrie.Builder trie)
+    {
+        target.addPathAuthorities(trie);
+    }
+
 }
\ No newline at end of file
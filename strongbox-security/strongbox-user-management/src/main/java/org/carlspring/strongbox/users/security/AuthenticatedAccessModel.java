@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.carlspring.strongbox.users.dto.AccessModel;
 
@@ -35,4 +36,10 @@ public class AuthenticatedAccessModel implements AccessModel
         return target.getPathAuthorities(url);
     }
 
+    @Override
+    public void addPathAuthorities(PathPrivilegesTrie.Builder trie)
+    {
+        target.addPathAuthorities(trie);
+    }
+
 }
@@ -2,20 +2,26 @@ package org.carlspring.strongbox.users.security;
 
 import java.io.IOException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 
 import org.carlspring.strongbox.authorization.AuthorizationConfigFileManager;
+import org.carlspring.strongbox.authorization.domain.AuthorizationConfig;
 import org.carlspring.strongbox.authorization.domain.RoleData;
 import org.carlspring.strongbox.authorization.dto.AuthorizationConfigDto;
 import org.carlspring.strongbox.authorization.dto.Role;
 import org.carlspring.strongbox.authorization.service.AuthorizationConfigService;
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.SystemRole;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.google.common.collect.ImmutableSet;
+
 /**
  * @author Przemyslaw Fusik
  */
@@ -31,6 +37,8 @@ public class AuthoritiesProvider
     @Inject
     private AuthorizationConfigFileManager authorizationConfigFileManager;
 
+    private volatile CompiledPathAuthorities compiledPathAuthorities;
+
     @PostConstruct
     void init() throws IOException
     {
@@ -45,12 +53,42 @@ public class AuthoritiesProvider
     
     public Role getRuntimeRole(String name)
     {
-        RoleData role = authorizationConfigService.get()
-                                                  .getRoles()
-                                                  .stream()
-                                                  .filter(r -> r.getName().equals(name))
-                                                  .findFirst()
-                                                  .orElseThrow(() -> new IllegalArgumentException(name));
+        return getRuntimeRole(authorizationConfigService.get(), name);
+    }
+
+    /**
+     * The path privileges of the roles are compiled once for every set of the role names, and compiled again once the
+     * roles are changed.
+     *
+     * @return the path privileges of all the roles
+     */
+    public PathPrivilegesTrie getPathAuthorities(Set<String> roleNames)
+    {
+        AuthorizationConfig config = authorizationConfigService.get();
+
+        CompiledPathAuthorities compiled = compiledPathAuthorities;
+        if (compiled == null || compiled.config != config)
+        {
+            compiled = new CompiledPathAuthorities(config);
+            compiledPathAuthorities = compiled;
+        }
+
+        return compiled.tries.computeIfAbsent(ImmutableSet.copyOf(roleNames), names -> {
+            PathPrivilegesTrie.Builder trie = PathPrivilegesTrie.builder();
+            names.forEach(name -> getRuntimeRole(config, name).getAccessModel().addPathAuthorities(trie));
+
+            return trie.build();
+        });
+    }
+
+    private static Role getRuntimeRole(AuthorizationConfig config,
+                                       String name)
+    {
+        RoleData role = config.getRoles()
+                              .stream()
+                              .filter(r -> r.getName().equals(name))
+                              .findFirst()
+                              .orElseThrow(() -> new IllegalArgumentException(name));
 
         if (SystemRole.ADMIN.name().equals(name))
         {
@@ -65,4 +103,21 @@ public class AuthoritiesProvider
         return new RuntimeRole(role, (a) -> new AuthenticatedAccessModel(a));
     }
 
+    /**
+     * The path privileges compiled from one version of the roles.
+     */
+    private static class CompiledPathAuthorities
+    {
+
+        private final AuthorizationConfig config;
+
+        private final ConcurrentMap<Set<String>, PathPrivilegesTrie> tries = new ConcurrentHashMap<>();
+
+        private CompiledPathAuthorities(AuthorizationConfig config)
+        {
+            this.config = config;
+        }
+
+    }
+
 }
@@ -16,7 +16,6 @@ import java.util.function.Function;
 import javax.inject.Inject;
 
 import org.apache.commons.lang3.StringUtils;
-import org.carlspring.strongbox.data.CacheName;
 import org.carlspring.strongbox.users.domain.UserData;
 import org.carlspring.strongbox.users.domain.Users;
 import org.carlspring.strongbox.users.dto.User;
@@ -25,7 +24,6 @@ import org.carlspring.strongbox.users.dto.UsersDto;
 import org.carlspring.strongbox.users.security.SecurityTokenProvider;
 import org.carlspring.strongbox.users.service.UserService;
 import org.jose4j.lang.JoseException;
-import org.springframework.cache.annotation.CacheEvict;
 
 
 public class InMemoryUserService implements UserService
@@ -103,7 +101,6 @@ public class InMemoryUserService implements UserService
     }
 
     @Override
-    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.username")
     public User save(final User user)
     {
         return modifyInLock(users -> {
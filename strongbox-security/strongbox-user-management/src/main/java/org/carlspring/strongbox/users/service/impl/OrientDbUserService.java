@@ -15,7 +15,6 @@ import javax.inject.Inject;
 import javax.inject.Qualifier;
 
 import org.apache.commons.lang3.StringUtils;
-import org.carlspring.strongbox.data.CacheName;
 import org.carlspring.strongbox.data.service.CommonCrudService;
 import org.carlspring.strongbox.domain.UserEntry;
 import org.carlspring.strongbox.users.domain.UserData;
@@ -27,7 +26,6 @@ import org.carlspring.strongbox.users.service.impl.OrientDbUserService.OrientDb;
 import org.jose4j.lang.JoseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
@@ -49,7 +47,6 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
     private SecurityTokenProvider tokenProvider;
 
     @Override
-    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0")
     public void deleteByUsername(String username)
     {
         Map<String, String> params = new HashMap<>();
@@ -96,7 +93,6 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
     }
 
     @Override
-    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.username")
     public void updateAccountDetailsByUsername(User userToUpdate)
     {
         UserEntry user = findByUsername(userToUpdate.getUsername());
@@ -148,7 +144,6 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
     }
 
     @Override
-    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.username")
     public User save(User user)
     {
         UserEntry userEntry = Optional.ofNullable(findByUsername(user.getUsername())).orElseGet(() -> new UserEntry());
@@ -167,7 +162,6 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
     }
 
     @Override
-    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.username")
     public <S extends UserEntry> S save(S entity)
     {
         if (StringUtils.isNotBlank(entity.getSourceId()))
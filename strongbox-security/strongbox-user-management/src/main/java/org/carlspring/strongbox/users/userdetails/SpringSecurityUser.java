@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.carlspring.strongbox.authorization.dto.Role;
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -30,6 +31,11 @@ public class SpringSecurityUser
     
     private String sourceId;
 
+    /**
+     * The compiled path privileges of the roles, which are compiled on the first use unless they are set.
+     */
+    private transient volatile PathPrivilegesTrie pathAuthorities;
+
     @Override
     public String getUsername()
     {
@@ -89,6 +95,7 @@ public class SpringSecurityUser
     public void setRoles(Set<Role> roles)
     {
         this.roles = roles;
+        this.pathAuthorities = null;
     }
 
     @Override
@@ -99,11 +106,31 @@ public class SpringSecurityUser
 
     public Collection<Privileges> getStorageAuthorities(String path)
     {
-        return getRoles().stream()
-                         .flatMap(r -> r.getAccessModel()
-                                        .getPathAuthorities(path)
-                                        .stream())
-                         .collect(Collectors.toSet());
+        return getPathAuthorities().getPathAuthorities(path);
+    }
+
+    /**
+     * @param pathAuthorities the compiled path privileges of the {@link #getRoles()}, which are shared by the users
+     *                        with the same roles
+     */
+    public void setPathAuthorities(PathPrivilegesTrie pathAuthorities)
+    {
+        this.pathAuthorities = pathAuthorities;
+    }
+
+    private PathPrivilegesTrie getPathAuthorities()
+    {
+        PathPrivilegesTrie result = pathAuthorities;
+        if (result == null)
+        {
+            PathPrivilegesTrie.Builder trie = PathPrivilegesTrie.builder();
+            getRoles().forEach(r -> r.getAccessModel().addPathAuthorities(trie));
+
+            result = trie.build();
+            pathAuthorities = result;
+        }
+
+        return result;
     }
 
     public String getUrl()
@@ -28,6 +28,7 @@ public class UserDetailsMapper implements StrongboxUserToUserDetails
                                 .stream()
                                 .map(r -> authoritiesProvider.getRuntimeRole(r))
                                 .collect(Collectors.toSet()));
+        springUser.setPathAuthorities(authoritiesProvider.getPathAuthorities(user.getRoles()));
         springUser.setSecurityKey(user.getSecurityTokenKey());
         springUser.setSourceId(user.getSourceId());
 
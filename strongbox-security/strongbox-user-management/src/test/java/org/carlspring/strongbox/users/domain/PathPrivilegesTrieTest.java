@@ -0,0 +1,104 @@
+package org.carlspring.strongbox.users.domain;
+
+import org.carlspring.strongbox.users.dto.AccessModelDto;
+import org.carlspring.strongbox.users.dto.PathPrivilegesDto;
+import org.carlspring.strongbox.users.dto.RepositoryPrivilegesDto;
+import org.carlspring.strongbox.users.dto.StoragePrivilegesDto;
+import org.carlspring.strongbox.users.security.AdminAccessModel;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathPrivilegesTrieTest
+{
+
+    private static final String[] URLS = { "/storages/storage0/releases",
+                                           "/storages/storage0/releases/",
+                                           "/storages/storage0/releases/org/carlspring/strongbox/1.0/strongbox-1.0.jar",
+                                           "/storages/storage0/releases/org/carlspring/strongbox",
+                                           "/storages/storage0/releases/org/carlspring/strongbox/",
+                                           "/storages/storage0/releases/org/carlspring/strongboxes/1.0/x.jar",
+                                           "/storages/storage0/releases/com/foo/1.0/foo-1.0.jar",
+                                           "/storages/storage0/releases/com/foo",
+                                           "/storages/storage0/releases-old/com/foo",
+                                           "/storages/storage0/snapshots/com/foo",
+                                           "/storages/storage1/releases/com/foo",
+                                           "/storages",
+                                           "/api/configuration",
+                                           "" };
+
+    private AccessModelDto accessModel;
+
+    @BeforeEach
+    public void setUp()
+    {
+        PathPrivilegesDto wildcardPath = new PathPrivilegesDto("org/carlspring/strongbox/");
+        wildcardPath.setWildcard(true);
+        wildcardPath.getPrivileges().add(Privileges.ARTIFACTS_DEPLOY);
+
+        PathPrivilegesDto exactPath = new PathPrivilegesDto("com/foo");
+        exactPath.getPrivileges().add(Privileges.ARTIFACTS_DELETE);
+
+        RepositoryPrivilegesDto releases = new RepositoryPrivilegesDto("releases");
+        releases.getRepositoryPrivileges().add(Privileges.ARTIFACTS_RESOLVE);
+        releases.getPathPrivileges().addAll(Arrays.asList(wildcardPath, exactPath));
+
+        RepositoryPrivilegesDto snapshots = new RepositoryPrivilegesDto("snapshots");
+        snapshots.getRepositoryPrivileges().add(Privileges.ARTIFACTS_VIEW);
+
+        StoragePrivilegesDto storage = new StoragePrivilegesDto("storage0");
+        storage.getRepositoryPrivileges().addAll(Arrays.asList(releases, snapshots));
+
+        accessModel = new AccessModelDto();
+        accessModel.getStorageAuthorities().add(storage);
+    }
+
+    @Test
+    public void testTrieMatchesScanning()
+    {
+        PathPrivilegesTrie trie = PathPrivilegesTrie.builder()
+                                                    .addStorages(accessModel.getStorageAuthorities())
+                                                    .build();
+
+        for (String url : URLS)
+        {
+            assertThat(trie.getPathAuthorities(url))
+                    .as(url)
+                    .isEqualTo(AccessModelData.getPathAuthorities(url, accessModel.getStorageAuthorities()));
+        }
+    }
+
+    @Test
+    public void testPathAuthorities()
+    {
+        AccessModelData accessModelData = new AccessModelData(accessModel);
+
+        assertThat(accessModelData.getPathAuthorities("/storages/storage0/releases/org/carlspring/strongbox/1.0"))
+                .containsOnly(Privileges.ARTIFACTS_RESOLVE, Privileges.ARTIFACTS_DEPLOY);
+        assertThat(accessModelData.getPathAuthorities("/storages/storage0/releases/com/foo/"))
+                .containsOnly(Privileges.ARTIFACTS_RESOLVE, Privileges.ARTIFACTS_DELETE);
+        assertThat(accessModelData.getPathAuthorities("/storages/storage0/releases/com/foo/1.0"))
+                .containsOnly(Privileges.ARTIFACTS_RESOLVE);
+        assertThat(accessModelData.getPathAuthorities("/storages/storage1/releases/com/foo")).isEmpty();
+    }
+
+    @Test
+    public void testAccessModelsAreMerged()
+    {
+        PathPrivilegesTrie.Builder builder = PathPrivilegesTrie.builder();
+        new AccessModelData(accessModel).addPathAuthorities(builder);
+        new AdminAccessModel().addPathAuthorities(builder);
+        PathPrivilegesTrie trie = builder.build();
+
+        EnumSet<Privileges> expected = Privileges.all();
+        expected.add(Privileges.ARTIFACTS_DELETE);
+
+        assertThat(trie.getPathAuthorities("/storages/storage0/releases/com/foo")).isEqualTo(expected);
+        assertThat(trie.getPathAuthorities("/storages/storage1")).isEqualTo(Privileges.all());
+    }
+
+}
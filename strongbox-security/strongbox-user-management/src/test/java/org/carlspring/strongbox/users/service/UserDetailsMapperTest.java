@@ -2,16 +2,22 @@ package org.carlspring.strongbox.users.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.carlspring.strongbox.config.DataServiceConfig;
 import org.carlspring.strongbox.config.UsersConfig;
 import org.carlspring.strongbox.domain.UserEntry;
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.SystemRole;
+import org.carlspring.strongbox.users.security.AuthoritiesProvider;
 import org.carlspring.strongbox.users.userdetails.SpringSecurityUser;
 import org.carlspring.strongbox.users.userdetails.UserDetailsMapper;
 
 import javax.inject.Inject;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -32,6 +38,9 @@ public class UserDetailsMapperTest
     @Inject
     private UserDetailsMapper userDetailsMapper;
 
+    @Inject
+    private AuthoritiesProvider authoritiesProvider;
+
     @Test
     public void testEncodedPasswordUserWithPasswordEncodingAlgoPrefix()
     {
@@ -64,4 +73,17 @@ public class UserDetailsMapperTest
         assertNotNull(securityUser.getRoles());
     }
 
+    @Test
+    public void testPathAuthoritiesAreCompiledOncePerRoles()
+    {
+        Set<String> roles = Sets.newHashSet(SystemRole.REPOSITORY_MANAGER.name(), SystemRole.UI_MANAGER.name());
+
+        PathPrivilegesTrie pathAuthorities = authoritiesProvider.getPathAuthorities(roles);
+        assertSame(pathAuthorities,
+                   authoritiesProvider.getPathAuthorities(Sets.newHashSet(SystemRole.UI_MANAGER.name(),
+                                                                          SystemRole.REPOSITORY_MANAGER.name())));
+        assertNotSame(pathAuthorities,
+                      authoritiesProvider.getPathAuthorities(Sets.newHashSet(SystemRole.REPOSITORY_MANAGER.name())));
+    }
+
 }
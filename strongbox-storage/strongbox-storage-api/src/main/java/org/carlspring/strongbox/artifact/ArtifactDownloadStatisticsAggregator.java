@@ -0,0 +1,516 @@
+package org.carlspring.strongbox.artifact;
+
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+import com.orientechnologies.common.concur.ONeedRetryException;
+import org.javatuples.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind aggregation of the {@link ArtifactEntry} download statistics (<code>downloadCount</code> and
+ * <code>lastUsed</code>).
+ * <p>
+ * Downloads are accumulated in per-artifact, lock-free counter cells and periodically flushed to the database with
+ * one transaction per repository. The amount of statistics which can be lost on crash is bounded by the flush
+ * interval and by the maximum number of pending downloads (reaching it triggers an early flush).
+ * <p>
+ * As with the other {@link ArtifactEntry} updates, the entries are updated under their
+ * {@link RepositoryPathLock}, and the transaction is retried on the {@link ONeedRetryException}, so that the
+ * concurrent updates of the same entries don't lose the counts.
+ */
+@Component
+public class ArtifactDownloadStatisticsAggregator
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactDownloadStatisticsAggregator.class);
+
+    private static final int MAX_RETRY = 10;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${strongbox.artifact.downloadStatistics.flushIntervalSeconds:10}")
+    private int flushIntervalSeconds = 10;
+
+    @Value("${strongbox.artifact.downloadStatistics.maxPendingDownloads:10000}")
+    private long maxPendingDownloads = 10000;
+
+    private final ConcurrentMap<ArtifactDownloadKey, DownloadCounter> counters = new ConcurrentHashMap<>();
+
+    private final LongAdder pendingDownloads = new LongAdder();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final LongAdder recordedDownloads = new LongAdder();
+
+    private final LongAdder flushedDownloads = new LongAdder();
+
+    private final LongAdder failedFlushes = new LongAdder();
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "artifact-download-statistics");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalSeconds, flushIntervalSeconds,
+                                        TimeUnit.SECONDS);
+
+        logger.info("Artifact download statistics will be flushed every [{}] seconds or after [{}] pending downloads.",
+                    flushIntervalSeconds, maxPendingDownloads);
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdown();
+        try
+        {
+            executor.awaitTermination(flushIntervalSeconds, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        flushSafely();
+    }
+
+    /**
+     * Registers one download of the artifact. This method never blocks and never touches the database.
+     */
+    public void recordDownload(String storageId,
+                               String repositoryId,
+                               String artifactPath)
+    {
+        record(new ArtifactDownloadKey(storageId, repositoryId, artifactPath), 1, System.currentTimeMillis());
+        recordedDownloads.increment();
+
+        pendingDownloads.increment();
+        if (executor != null && pendingDownloads.sum() >= maxPendingDownloads && flushRequested.compareAndSet(false, true))
+        {
+            try
+            {
+                executor.execute(this::flushSafely);
+            }
+            catch (RejectedExecutionException e)
+            {
+                flushRequested.set(false);
+                logger.debug("Early flush of artifact download statistics rejected.", e);
+            }
+        }
+    }
+
+    private void record(ArtifactDownloadKey key,
+                        long count,
+                        long lastUsed)
+    {
+        for (;;)
+        {
+            DownloadCounter counter = counters.computeIfAbsent(key, k -> new DownloadCounter());
+            counter.add(count, lastUsed);
+            if (!counter.retired)
+            {
+                return;
+            }
+
+            // The counter was retired concurrently by the flusher, so move whatever is left of it into a live one.
+            count = counter.count.sumThenReset();
+            if (count == 0)
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Flushes all the pending downloads. The flushes are serialized, so that the entry locks are always taken in the
+     * same order.
+     */
+    public synchronized void flush()
+    {
+        flushRequested.set(false);
+
+        Map<Pair<String, String>, List<ArtifactDownload>> downloadsByRepository = drain();
+        for (Map.Entry<Pair<String, String>, List<ArtifactDownload>> e : downloadsByRepository.entrySet())
+        {
+            List<ArtifactDownload> downloads = e.getValue();
+            try
+            {
+                flushLocked(e.getKey(), downloads);
+
+                downloads.forEach(d -> flushedDownloads.add(d.count));
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while flushing artifact download statistics for [{}].", e.getKey());
+
+                downloads.forEach(d -> {
+                    record(d.key, d.count, d.lastUsed);
+                    pendingDownloads.add(d.count);
+                });
+            }
+            catch (RuntimeException ex)
+            {
+                failedFlushes.increment();
+                logger.warn("Failed to flush [{}] artifact download statistics for [{}], will retry on next flush.",
+                            downloads.size(), e.getKey(), ex);
+
+                downloads.forEach(d -> {
+                    record(d.key, d.count, d.lastUsed);
+                    pendingDownloads.add(d.count);
+                });
+            }
+        }
+    }
+
+    private void flushLocked(Pair<String, String> repository,
+                             List<ArtifactDownload> downloads)
+        throws InterruptedException
+    {
+        String storageId = repository.getValue0();
+        String repositoryId = repository.getValue1();
+        if (configurationManager.getConfiguration().getRepository(storageId, repositoryId) == null)
+        {
+            logger.debug("Repository [{}] not found, skip [{}] artifact download statistics.",
+                         repository, downloads.size());
+
+            return;
+        }
+
+        downloads.sort(Comparator.comparing(ArtifactDownload::getArtifactPath));
+
+        List<ArtifactDownload> lockedDownloads = new ArrayList<>();
+        List<Lock> locks = new ArrayList<>();
+        try
+        {
+            for (ArtifactDownload download : downloads)
+            {
+                Lock lock;
+                try
+                {
+                    RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId,
+                                                                                   download.getArtifactPath());
+                    lock = repositoryPathLock.lock(repositoryPath, ArtifactEntry.class.getSimpleName()).writeLock();
+                }
+                catch (IOException e)
+                {
+                    logger.debug("Failed to lock [{}], skip [{}] downloads.", download.key, download.count, e);
+
+                    continue;
+                }
+
+                lock.lock();
+                locks.add(lock);
+                lockedDownloads.add(download);
+            }
+
+            flushWithRetry(lockedDownloads);
+        }
+        finally
+        {
+            for (int i = locks.size() - 1; i >= 0; i--)
+            {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    /**
+     * The entries can be changed by the other transactions between their read and the commit, in which case the
+     * whole transaction is repeated with the fresh entries.
+     */
+    private void flushWithRetry(List<ArtifactDownload> downloads)
+        throws InterruptedException
+    {
+        for (int i = 1;; i++)
+        {
+            try
+            {
+                new TransactionTemplate(transactionManager).execute(t -> {
+                    downloads.forEach(this::flush);
+
+                    return null;
+                });
+
+                return;
+            }
+            catch (ONeedRetryException e)
+            {
+                if (i >= MAX_RETRY)
+                {
+                    throw e;
+                }
+                logger.debug("Retry [{}] artifact download statistics flush.", downloads.size());
+            }
+
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private void flushSafely()
+    {
+        try
+        {
+            flush();
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to flush artifact download statistics.", e);
+        }
+    }
+
+    private void flush(ArtifactDownload download)
+    {
+        ArtifactDownloadKey key = download.key;
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(key.storageId,
+                                                                           key.repositoryId,
+                                                                           key.artifactPath);
+        if (artifactEntry == null)
+        {
+            logger.debug("No [{}] found for [{}], skip [{}] downloads.",
+                         ArtifactEntry.class.getSimpleName(), key, download.count);
+
+            return;
+        }
+
+        artifactEntry.setDownloadCount(artifactEntry.getDownloadCount() + (int) download.count);
+
+        Date lastUsed = artifactEntry.getLastUsed();
+        if (lastUsed == null || lastUsed.getTime() < download.lastUsed)
+        {
+            artifactEntry.setLastUsed(new Date(download.lastUsed));
+        }
+
+        artifactEntryService.save(artifactEntry);
+    }
+
+    /**
+     * Takes a snapshot of all pending downloads grouped by repository and resets the counters. Counters which have
+     * been idle since the previous flush are retired, so that the map only keeps the recently downloaded artifacts.
+     */
+    Map<Pair<String, String>, List<ArtifactDownload>> drain()
+    {
+        Map<Pair<String, String>, List<ArtifactDownload>> result = new HashMap<>();
+        for (Iterator<Map.Entry<ArtifactDownloadKey, DownloadCounter>> i = counters.entrySet().iterator(); i.hasNext();)
+        {
+            Map.Entry<ArtifactDownloadKey, DownloadCounter> e = i.next();
+            ArtifactDownloadKey key = e.getKey();
+            DownloadCounter counter = e.getValue();
+
+            long count = counter.count.sumThenReset();
+            if (count == 0)
+            {
+                counter.retired = true;
+                counters.remove(key, counter);
+
+                count = counter.count.sumThenReset();
+                if (count == 0)
+                {
+                    continue;
+                }
+            }
+            pendingDownloads.add(-count);
+
+            result.computeIfAbsent(Pair.with(key.storageId, key.repositoryId), k -> new ArrayList<>())
+                  .add(new ArtifactDownload(key, count, counter.lastUsed.get()));
+        }
+
+        return result;
+    }
+
+    public long getPendingDownloads()
+    {
+        return pendingDownloads.sum();
+    }
+
+    public long getRecordedDownloads()
+    {
+        return recordedDownloads.sum();
+    }
+
+    public long getFlushedDownloads()
+    {
+        return flushedDownloads.sum();
+    }
+
+    public long getFailedFlushes()
+    {
+        return failedFlushes.sum();
+    }
+
+    public int getFlushIntervalSeconds()
+    {
+        return flushIntervalSeconds;
+    }
+
+    public void setFlushIntervalSeconds(int flushIntervalSeconds)
+    {
+        this.flushIntervalSeconds = flushIntervalSeconds;
+    }
+
+    public long getMaxPendingDownloads()
+    {
+        return maxPendingDownloads;
+    }
+
+    public void setMaxPendingDownloads(long maxPendingDownloads)
+    {
+        this.maxPendingDownloads = maxPendingDownloads;
+    }
+
+    private static class DownloadCounter
+    {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAccumulator lastUsed = new LongAccumulator(Math::max, 0L);
+
+        private volatile boolean retired;
+
+        private void add(long count,
+                         long lastUsed)
+        {
+            this.lastUsed.accumulate(lastUsed);
+            this.count.add(count);
+        }
+
+    }
+
+    static class ArtifactDownload
+    {
+
+        private final ArtifactDownloadKey key;
+
+        private final long count;
+
+        private final long lastUsed;
+
+        private ArtifactDownload(ArtifactDownloadKey key,
+                                 long count,
+                                 long lastUsed)
+        {
+            this.key = key;
+            this.count = count;
+            this.lastUsed = lastUsed;
+        }
+
+        String getArtifactPath()
+        {
+            return key.artifactPath;
+        }
+
+        long getCount()
+        {
+            return count;
+        }
+
+        long getLastUsed()
+        {
+            return lastUsed;
+        }
+
+    }
+
+    private static class ArtifactDownloadKey
+    {
+
+        private final String storageId;
+
+        private final String repositoryId;
+
+        private final String artifactPath;
+
+        private ArtifactDownloadKey(String storageId,
+                                    String repositoryId,
+                                    String artifactPath)
+        {
+            this.storageId = storageId;
+            this.repositoryId = repositoryId;
+            this.artifactPath = artifactPath;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+            if (!(obj instanceof ArtifactDownloadKey))
+            {
+                return false;
+            }
+            ArtifactDownloadKey other = (ArtifactDownloadKey) obj;
+
+            return artifactPath.equals(other.artifactPath) && repositoryId.equals(other.repositoryId)
+                    && storageId.equals(other.storageId);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(storageId, repositoryId, artifactPath);
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%s:%s/%s", storageId, repositoryId, artifactPath);
+        }
+
+    }
+
+}
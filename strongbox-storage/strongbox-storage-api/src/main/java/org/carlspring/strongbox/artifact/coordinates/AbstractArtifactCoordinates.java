@@ -12,7 +12,7 @@ import org.carlspring.strongbox.data.domain.GenericEntity;
  */
 public abstract class AbstractArtifactCoordinates<C extends AbstractArtifactCoordinates<C, V>, V extends Comparable<V>>
         extends GenericEntity
-        implements ArtifactCoordinates<C, V>
+        implements ArtifactCoordinates<C, V>, Cloneable
 {
 
     private Map<String, String> coordinates = new LinkedHashMap<>();
@@ -85,6 +85,26 @@ public abstract class AbstractArtifactCoordinates<C extends AbstractArtifactCoor
         return path;
     }
 
+    /**
+     * @return a copy of these coordinates, which can be changed without affecting them
+     */
+    @SuppressWarnings("unchecked")
+    public C copy()
+    {
+        AbstractArtifactCoordinates<C, V> copy;
+        try
+        {
+            copy = (AbstractArtifactCoordinates<C, V>) super.clone();
+        }
+        catch (CloneNotSupportedException e)
+        {
+            throw new IllegalStateException(e);
+        }
+        copy.coordinates = new LinkedHashMap<>(coordinates);
+
+        return (C) copy;
+    }
+
     protected void setPath(String path)
     {
         this.path = path;
@@ -6,12 +6,27 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Walks the directories under the starting path and executes the {@link ArtifactDirectoryOperation} for each of them.
+ * <br>
+ * Every directory is visited before its subdirectories (which are visited in the name order), so that only the
+ * directory listings of the subtrees in progress are held in memory. With a {@link #setParallelism(int)} above
+ * <code>1</code>, the sibling subtrees are visited in parallel with a {@link ForkJoinPool}. The operations should
+ * claim the artifact directories they process with {@link ArtifactDirectoryOperation#getVisitedRootPaths()}, the
+ * claims are released once the directory subtree has been visited.
+ *
  * @author mtodorov
  */
 public class ArtifactDirectoryLocator
@@ -19,6 +34,8 @@ public class ArtifactDirectoryLocator
 
     private static final Logger logger = LoggerFactory.getLogger(ArtifactDirectoryLocator.class);
 
+    private static final long PROGRESS_INTERVAL = 10000;
+
     private ArtifactDirectoryOperation operation;
 
     /**
@@ -27,29 +44,84 @@ public class ArtifactDirectoryLocator
      */
     private RepositoryPath basedir;
 
+    /**
+     * The number of the threads to visit the directories with. The default <code>1</code> means that the directories
+     * are visited sequentially in the calling thread.
+     */
+    private int parallelism = 1;
+
+    private final AtomicLong visitedDirectories = new AtomicLong();
+
+    private long startTime;
+
     public void locateArtifactDirectories()
         throws IOException
     {
-        long startTime = System.currentTimeMillis();
+        startTime = System.currentTimeMillis();
+        visitedDirectories.set(0);
 
         RepositoryPath startingPath = getStartingPath();
 
-        try (Stream<Path> pathStream = Files.walk(startingPath))
+        try
         {
-            pathStream.filter(Files::isDirectory)
-                      // Skip directories which start with a dot (like, for example: .index)
-                      .filter(path -> !path.getFileName().toString().startsWith("."))
-                      // Note: Sorting can be expensive:
-                      .sorted()
-                      .forEach(this::execute);
+            if (parallelism <= 1)
+            {
+                visit(startingPath);
+            }
+            else
+            {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try
+                {
+                    pool.invoke(new DirectoryVisitTask(startingPath));
+                }
+                finally
+                {
+                    pool.shutdown();
+                }
+            }
+        }
+        finally
+        {
+            getOperation().getVisitedRootPaths().clear();
         }
 
-        long endTime = System.currentTimeMillis();
+        long duration = Math.max(1, System.currentTimeMillis() - startTime);
 
-        logger.debug("Executed (cache: {}) visits in {} ms.",
-                     -operation.getVisitedRootPaths().size(), (endTime - startTime));
+        logger.debug("Executed [{}] on [{}] directories of [{}] in {} ms ({} directories/s).",
+                     operation.getClass().getSimpleName(), visitedDirectories.get(), startingPath, duration,
+                     visitedDirectories.get() * TimeUnit.SECONDS.toMillis(1) / duration);
+    }
 
-        getOperation().getVisitedRootPaths().clear();
+    private void visit(RepositoryPath directory)
+    {
+        execute(directory);
+
+        for (RepositoryPath subdirectory : listSubdirectories(directory))
+        {
+            visit(subdirectory);
+        }
+
+        getOperation().getVisitedRootPaths().remove(directory);
+    }
+
+    private List<RepositoryPath> listSubdirectories(RepositoryPath directory)
+    {
+        try (Stream<Path> pathStream = Files.list(directory))
+        {
+            return pathStream.filter(Files::isDirectory)
+                             // Skip directories which start with a dot (like, for example: .index)
+                             .filter(path -> !path.getFileName().toString().startsWith("."))
+                             .sorted()
+                             .map(RepositoryPath.class::cast)
+                             .collect(Collectors.toList());
+        }
+        catch (IOException e)
+        {
+            logger.error("Failed to list directory [{}]", directory, e);
+
+            return Collections.emptyList();
+        }
     }
 
     public RepositoryPath getStartingPath()
@@ -88,6 +160,24 @@ public class ArtifactDirectoryLocator
         this.basedir = basedir;
     }
 
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism)
+    {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return the number of the directories visited by the last (or the current) walk
+     */
+    public long getVisitedDirectories()
+    {
+        return visitedDirectories.get();
+    }
+
     void execute(Path path)
     {
         try
@@ -98,6 +188,40 @@ public class ArtifactDirectoryLocator
         {
             logger.error("Failed to execute operation [{}]", operation.getClass().getSimpleName(), e);
         }
+
+        long visited = visitedDirectories.incrementAndGet();
+        if (visited % PROGRESS_INTERVAL == 0)
+        {
+            long duration = Math.max(1, System.currentTimeMillis() - startTime);
+
+            logger.info("[{}] visited [{}] directories in {} ms ({} directories/s).",
+                        operation.getClass().getSimpleName(), visited, duration,
+                        visited * TimeUnit.SECONDS.toMillis(1) / duration);
+        }
+    }
+
+    private class DirectoryVisitTask extends RecursiveAction
+    {
+
+        private final RepositoryPath directory;
+
+        DirectoryVisitTask(RepositoryPath directory)
+        {
+            this.directory = directory;
+        }
+
+        @Override
+        protected void compute()
+        {
+            execute(directory);
+
+            invokeAll(listSubdirectories(directory).stream()
+                                                   .map(DirectoryVisitTask::new)
+                                                   .collect(Collectors.toList()));
+
+            getOperation().getVisitedRootPaths().remove(directory);
+        }
+
     }
-    
+
 }
@@ -1,8 +1,8 @@
 package org.carlspring.strongbox.artifact.locator.handlers;
 
 import java.io.IOException;
-import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
@@ -21,7 +21,14 @@ public interface ArtifactDirectoryOperation
      */
     void execute(RepositoryPath directoryPath) throws IOException;
 
-    LinkedHashMap<RepositoryPath, List<RepositoryPath>> getVisitedRootPaths();
+    /**
+     * The artifact directories which have already been processed, mapped to their version directories. The
+     * directories can be visited concurrently, so the entries should be claimed atomically (for example with
+     * {@link Map#putIfAbsent(Object, Object)}). The
+     * {@link org.carlspring.strongbox.artifact.locator.ArtifactDirectoryLocator} removes the entries once the
+     * directory subtree has been visited.
+     */
+    Map<RepositoryPath, List<RepositoryPath>> getVisitedRootPaths();
 
     RepositoryPath getBasePath();
     
@@ -2,12 +2,13 @@ package org.carlspring.strongbox.artifact.locator.handlers;
 
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.ChecksumRegeneration;
 import org.carlspring.strongbox.providers.layout.LayoutFileSystemProvider;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.Collections;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -22,10 +23,10 @@ public class ArtifactLocationGenerateChecksumOperation
 
     private static final Logger logger = LoggerFactory.getLogger(ArtifactLocationGenerateChecksumOperation.class);
 
-    private Path previousPath;
-
     private boolean forceRegeneration = false;
 
+    private ChecksumRegeneration regeneration;
+
     public void execute(RepositoryPath path)
             throws IOException
     {
@@ -53,38 +54,17 @@ public class ArtifactLocationGenerateChecksumOperation
         RepositoryPath parentPath = path;
 
         // Don't enter visited paths (i.e. version directories such as 1.2, 1.3, 1.4...)
-        if (!getVisitedRootPaths().isEmpty() && getVisitedRootPaths().containsKey(parentPath))
-        {
-            List<RepositoryPath> visitedVersionPaths = getVisitedRootPaths().get(parentPath);
-
-            if (visitedVersionPaths.contains(path))
-            {
-                return;
-            }
-        }
-
-        if (logger.isDebugEnabled())
+        if (getVisitedRootPaths().putIfAbsent(parentPath, Collections.emptyList()) != null)
         {
-            // We're using System.out.println() here for clarity and due to the length of the lines
-            System.out.println(parentPath);
+            return;
         }
 
-        // The current directory is out of the tree
-        if (previousPath != null && !parentPath.startsWith(previousPath))
-        {
-            getVisitedRootPaths().remove(previousPath);
-            previousPath = parentPath;
-        }
-
-        if (previousPath == null)
-        {
-            previousPath = parentPath;
-        }
+        logger.debug("Visiting [{}]", parentPath);
 
         RepositoryPath basePath = parentPath;
         LayoutFileSystemProvider provider = (LayoutFileSystemProvider) basePath.getFileSystem()
                                                                                                    .provider();
-        provider.storeChecksum(basePath, forceRegeneration);
+        provider.storeChecksum(basePath, getRegeneration());
     }
 
     public boolean getForceRegeneration()
@@ -96,4 +76,23 @@ public class ArtifactLocationGenerateChecksumOperation
     {
         this.forceRegeneration = forceRegeneration;
     }
+
+    public synchronized ChecksumRegeneration getRegeneration()
+    {
+        if (regeneration == null)
+        {
+            regeneration = new ChecksumRegeneration(forceRegeneration);
+        }
+
+        return regeneration;
+    }
+
+    /**
+     * @param regeneration the regeneration parameters, which take precedence over the
+     *                     {@link #setForceRegeneration(boolean)}
+     */
+    public synchronized void setRegeneration(ChecksumRegeneration regeneration)
+    {
+        this.regeneration = regeneration;
+    }
 }
@@ -5,6 +5,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,8 +22,6 @@ public class ArtifactLocationReportOperation
 
     private static final Logger logger = LoggerFactory.getLogger(ArtifactLocationReportOperation.class);
 
-    private RepositoryPath previousPath;
-
 
     public ArtifactLocationReportOperation()
     {
@@ -45,28 +44,12 @@ public class ArtifactLocationReportOperation
             return;
         }
         // Don't enter visited paths (i.e. version directories such as 1.2, 1.3, 1.4...)
-        if (getVisitedRootPaths().containsKey(path) && getVisitedRootPaths().get(path).contains(path))
+        if (getVisitedRootPaths().putIfAbsent(path, Collections.emptyList()) != null)
         {
             return;
         }
 
-        if (logger.isDebugEnabled())
-        {
-            // We're using System.out.println() here for clarity and due to the length of the lines
-            System.out.println(path);
-        }
-
-        // The current directory is out of the tree
-        if (previousPath != null && !path.startsWith(previousPath))
-        {
-            getVisitedRootPaths().remove(previousPath);
-            previousPath = path;
-        }
-
-        if (previousPath == null)
-        {
-            previousPath = path;
-        }
+        logger.debug("Visiting [{}]", path);
 
         List<RepositoryPath> versionDirectories = getVersionDirectories(path);
         if (versionDirectories != null)
@@ -39,6 +39,7 @@ public class StorageApiConfig
         ChecksumCacheManager checksumCacheManager = new ChecksumCacheManager();
         checksumCacheManager.setCachedChecksumExpiredCheckInterval(300000);
         checksumCacheManager.setCachedChecksumLifetime(60000);
+        checksumCacheManager.setMaxSize(100000);
 
         return checksumCacheManager;
     }
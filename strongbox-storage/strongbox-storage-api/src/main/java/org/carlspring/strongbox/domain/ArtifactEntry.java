@@ -42,6 +42,12 @@ public class ArtifactEntry
 
     private Map<String, String> checksums;
 
+    /**
+     * The layout specific metadata of the artifact (like the properties of a NuGet package), which is denormalized
+     * from the artifact descriptors, so that the metadata queries are served without reading them.
+     */
+    private Map<String, String> metadata;
+
     @Embedded
     private ArtifactArchiveListing artifactArchiveListing;
 
@@ -109,6 +115,16 @@ public class ArtifactEntry
         this.checksums = checksums;
     }
 
+    public Map<String, String> getMetadata()
+    {
+        return metadata = Optional.ofNullable(metadata).orElse(new HashMap<>());
+    }
+
+    protected void setMetadata(Map<String, String> metadata)
+    {
+        this.metadata = metadata;
+    }
+
     public Long getSizeInBytes()
     {
         return sizeInBytes;
@@ -70,4 +70,9 @@ public class ArtifactGroupEntry extends GenericEntity implements ArtifactGroup
         return artifactEntry;
     }
 
+    public boolean removeArtifactEntry(ArtifactEntry artifactEntry)
+    {
+        return artifactEntries != null && artifactEntries.remove(artifactEntry);
+    }
+
 }
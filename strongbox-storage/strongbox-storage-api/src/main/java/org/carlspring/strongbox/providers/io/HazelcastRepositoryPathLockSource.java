@@ -0,0 +1,29 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+import com.hazelcast.core.HazelcastInstance;
+
+import ca.thoughtwire.lock.DistributedLockService;
+
+/**
+ * Cluster wide {@link RepositoryPathLockSource} backed by Hazelcast.
+ */
+public class HazelcastRepositoryPathLockSource
+        implements RepositoryPathLockSource
+{
+
+    private final DistributedLockService lockService;
+
+    public HazelcastRepositoryPathLockSource(HazelcastInstance hazelcastInstance)
+    {
+        lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
+    }
+
+    @Override
+    public ReadWriteLock getLock(String name)
+    {
+        return lockService.getReentrantReadWriteLock(name);
+    }
+
+}
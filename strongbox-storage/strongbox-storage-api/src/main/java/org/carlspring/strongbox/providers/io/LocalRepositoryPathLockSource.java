@@ -0,0 +1,197 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-JVM {@link RepositoryPathLockSource} for the single node deployments.
+ * <br>
+ * Every lock name has its own {@link ReentrantReadWriteLock}, so two different names never block each other. The
+ * locks are reference counted: a lock is created when its name is first locked, and dropped when its last holder (or
+ * waiter) unlocks it, so only the locks which are in use are kept.
+ */
+public class LocalRepositoryPathLockSource
+        implements RepositoryPathLockSource
+{
+
+    private final ConcurrentMap<String, CountedLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public ReadWriteLock getLock(String name)
+    {
+        return new NamedReadWriteLock(name);
+    }
+
+    /**
+     * @return the number of the locks which are currently held or waited for
+     */
+    public int getSize()
+    {
+        return locks.size();
+    }
+
+    private CountedLock acquire(String name)
+    {
+        return locks.compute(name, (k, v) -> {
+            CountedLock result = v != null ? v : new CountedLock();
+            result.references++;
+
+            return result;
+        });
+    }
+
+    private void release(String name)
+    {
+        locks.computeIfPresent(name, (k, v) -> --v.references == 0 ? null : v);
+    }
+
+    /**
+     * The {@link #references} are only accessed inside of the {@link ConcurrentMap#compute(Object,
+     * java.util.function.BiFunction)} methods, which are atomic per name.
+     */
+    private static class CountedLock
+    {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private int references;
+
+    }
+
+    private class NamedReadWriteLock
+            implements ReadWriteLock
+    {
+
+        private final Lock readLock;
+
+        private final Lock writeLock;
+
+        NamedReadWriteLock(String name)
+        {
+            this.readLock = new NamedLock(name, l -> l.readLock());
+            this.writeLock = new NamedLock(name, l -> l.writeLock());
+        }
+
+        @Override
+        public Lock readLock()
+        {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return writeLock;
+        }
+
+    }
+
+    private class NamedLock
+            implements Lock
+    {
+
+        private final String name;
+
+        private final Function<ReentrantReadWriteLock, Lock> lockType;
+
+        NamedLock(String name,
+                  Function<ReentrantReadWriteLock, Lock> lockType)
+        {
+            this.name = name;
+            this.lockType = lockType;
+        }
+
+        @Override
+        public void lock()
+        {
+            lockType.apply(acquire(name).lock).lock();
+        }
+
+        @Override
+        public void lockInterruptibly()
+            throws InterruptedException
+        {
+            Lock target = lockType.apply(acquire(name).lock);
+            try
+            {
+                target.lockInterruptibly();
+            }
+            catch (InterruptedException e)
+            {
+                release(name);
+
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            if (lockType.apply(acquire(name).lock).tryLock())
+            {
+                return true;
+            }
+            release(name);
+
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time,
+                               TimeUnit unit)
+            throws InterruptedException
+        {
+            Lock target = lockType.apply(acquire(name).lock);
+            boolean locked = false;
+            try
+            {
+                locked = target.tryLock(time, unit);
+            }
+            finally
+            {
+                if (!locked)
+                {
+                    release(name);
+                }
+            }
+
+            return locked;
+        }
+
+        @Override
+        public void unlock()
+        {
+            lockType.apply(getHeldLock().lock).unlock();
+            release(name);
+        }
+
+        /**
+         * The condition can only be created while the lock is held, as the underlying lock is dropped once it's
+         * released. Waiting for the condition doesn't release the reference, so the lock is kept until it's unlocked.
+         */
+        @Override
+        public Condition newCondition()
+        {
+            return lockType.apply(getHeldLock().lock).newCondition();
+        }
+
+        private CountedLock getHeldLock()
+        {
+            CountedLock countedLock = locks.get(name);
+            if (countedLock == null)
+            {
+                throw new IllegalMonitorStateException(String.format("Lock [%s] is not held.", name));
+            }
+
+            return countedLock;
+        }
+
+    }
+
+}
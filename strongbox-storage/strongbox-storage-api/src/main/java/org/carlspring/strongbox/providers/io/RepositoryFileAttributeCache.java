@@ -0,0 +1,197 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.artifact.coordinates.AbstractArtifactCoordinates;
+
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the computed {@link RepositoryFileAttributeType} values, shared by all the {@link RepositoryPath}
+ * instances of the same path (they are created for every resolve, so the per instance
+ * {@link RepositoryPath#cachedAttributes} don't survive between the calls).
+ * <br>
+ * The cached attributes depend only on the path itself and on whether it's a directory, so the entries are
+ * invalidated by the {@link StorageFileSystemProvider} operations which create, move or delete the paths, instead of
+ * checking the file modification time on every lookup. The time or configuration dependent attributes
+ * ({@link RepositoryFileAttributeType#EXPIRED}, {@link RepositoryFileAttributeType#RESOURCE_URL}) are never cached.
+ * The {@link RepositoryFileAttributeType#COORDINATES} are mutable entities, which the callers attach to the new artifact
+ * entries and change, so the cache keeps its own copy of them and every lookup gets a fresh copy.
+ */
+@Component
+public class RepositoryFileAttributeCache
+{
+
+    private static final Set<RepositoryFileAttributeType> NOT_CACHEABLE = EnumSet.of(
+            RepositoryFileAttributeType.EXPIRED,
+            RepositoryFileAttributeType.RESOURCE_URL);
+
+    private static final Object NULL = new Object();
+
+    @Value("${strongbox.repositoryFileAttributes.cache.maxSize:10000}")
+    private int maxSize = 10000;
+
+    private final ConcurrentMap<URI, Map<RepositoryFileAttributeType, Object>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public static boolean isCacheable(RepositoryFileAttributeType attributeType)
+    {
+        return !NOT_CACHEABLE.contains(attributeType);
+    }
+
+    /**
+     * @return <code>true</code> if the attribute value was found in the cache (the value itself can be
+     *         <code>null</code>), <code>false</code> otherwise
+     */
+    public boolean get(RepositoryPath path,
+                       RepositoryFileAttributeType attributeType,
+                       Map<RepositoryFileAttributeType, Object> result)
+    {
+        URI key = path.toUri();
+        Map<RepositoryFileAttributeType, Object> attributes = key == null ? null : entries.get(key);
+        Object value = attributes == null ? null : attributes.get(attributeType);
+        if (value == null)
+        {
+            misses.increment();
+
+            return false;
+        }
+        hits.increment();
+
+        if (value != NULL)
+        {
+            result.put(attributeType, value instanceof AbstractArtifactCoordinates
+                    ? ((AbstractArtifactCoordinates<?, ?>) value).copy() : value);
+        }
+
+        return true;
+    }
+
+    public void put(RepositoryPath path,
+                    RepositoryFileAttributeType attributeType,
+                    Object value)
+    {
+        URI key = path.toUri();
+        if (key == null || !isCacheable(attributeType))
+        {
+            return;
+        }
+        if (value instanceof AbstractArtifactCoordinates)
+        {
+            value = ((AbstractArtifactCoordinates<?, ?>) value).copy();
+        }
+        else if (value != null && attributeType == RepositoryFileAttributeType.COORDINATES)
+        {
+            // Can't be copied, so it's not safe to share.
+            return;
+        }
+
+        Map<RepositoryFileAttributeType, Object> attributes = entries.get(key);
+        if (attributes == null)
+        {
+            evictIfNeeded();
+            attributes = entries.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+        attributes.put(attributeType, value == null ? NULL : value);
+    }
+
+    public void invalidate(RepositoryPath path)
+    {
+        URI key = path.toUri();
+        if (key == null)
+        {
+            entries.clear();
+
+            return;
+        }
+
+        entries.remove(key);
+    }
+
+    /**
+     * Invalidates the cached attributes of the path and of all the paths under it.
+     */
+    public void invalidateTree(RepositoryPath path)
+    {
+        URI key = path.toUri();
+        if (key == null)
+        {
+            entries.clear();
+
+            return;
+        }
+        entries.remove(key);
+
+        String prefix = key.toString().endsWith("/") ? key.toString() : key.toString() + "/";
+        entries.keySet().removeIf(k -> k.toString().startsWith(prefix));
+    }
+
+    public void invalidateAll()
+    {
+        entries.clear();
+    }
+
+    /**
+     * The eviction is approximate: about a tenth of the entries, in the hash order, are dropped once the cache is
+     * full, which is cheaper than keeping the entries access order on every lookup.
+     */
+    private void evictIfNeeded()
+    {
+        if (entries.size() < maxSize)
+        {
+            return;
+        }
+
+        int toEvict = Math.max(1, maxSize / 10);
+        for (Iterator<URI> i = entries.keySet().iterator(); i.hasNext() && toEvict > 0; toEvict--)
+        {
+            i.next();
+            i.remove();
+            evictions.increment();
+        }
+    }
+
+    public int getSize()
+    {
+        return entries.size();
+    }
+
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    public long getEvictions()
+    {
+        return evictions.sum();
+    }
+
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+}
@@ -3,23 +3,41 @@ package org.carlspring.strongbox.providers.io;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
 import javax.annotation.Nonnull;
+import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 
 import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.storage.repository.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 import com.hazelcast.core.HazelcastInstance;
 
-import ca.thoughtwire.lock.DistributedLockService;
-
 /**
+ * Provides the {@link ReadWriteLock}s of the {@link RepositoryPath}s.
+ * <br>
+ * The locks are provided by the {@link RepositoryPathLockSource} configured with the
+ * <code>strongbox.repositoryPathLock.backend</code> property: the cluster wide <code>hazelcast</code> locks (default),
+ * or the in-JVM <code>local</code> locks, which are much cheaper but only suitable for the single node
+ * deployments. The time spent waiting for the locks is recorded per repository, see
+ * {@link #getLockWaitStatistics()}.
+ *
  * @author Przemyslaw Fusik
  */
 @Component
@@ -28,12 +46,47 @@ public class RepositoryPathLock
 
     private static final Logger logger = LoggerFactory.getLogger(RepositoryPathLock.class);
 
-    private DistributedLockService lockService;
+    public static final String BACKEND_HAZELCAST = "hazelcast";
+
+    public static final String BACKEND_LOCAL = "local";
+
+    @Value("${strongbox.repositoryPathLock.backend:" + BACKEND_HAZELCAST + "}")
+    private String backend = BACKEND_HAZELCAST;
+
+    private HazelcastInstance hazelcastInstance;
+
+    private RepositoryPathLockSource lockSource;
+
+    private final ConcurrentMap<String, LockWaitStatistics> lockWaitStatistics = new ConcurrentHashMap<>();
 
     @Inject
     public void setHazelcastInstance(HazelcastInstance hazelcastInstance)
     {
-        lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
+        this.hazelcastInstance = hazelcastInstance;
+    }
+
+    @PostConstruct
+    public void init()
+    {
+        if (BACKEND_LOCAL.equalsIgnoreCase(backend))
+        {
+            lockSource = new LocalRepositoryPathLockSource();
+        }
+        else if (BACKEND_HAZELCAST.equalsIgnoreCase(backend))
+        {
+            lockSource = new HazelcastRepositoryPathLockSource(hazelcastInstance);
+        }
+        else
+        {
+            throw new IllegalStateException(String.format("Unknown repository path lock backend [%s].", backend));
+        }
+
+        logger.info("Using [{}] repository path locks.", backend);
+    }
+
+    void setLockSource(RepositoryPathLockSource lockSource)
+    {
+        this.lockSource = lockSource;
     }
 
     public ReadWriteLock lock(final @Nonnull RepositoryPath repositoryPath) throws IOException
@@ -50,7 +103,16 @@ public class RepositoryPathLock
                                   .orElseGet(() -> lock.toString());
         logger.debug("Get lock for [{}]", lock);
         
-        return lockService.getReentrantReadWriteLock(lockName);
+        return lock(getRepositoryKey(repositoryPath), lockName);
+    }
+
+    ReadWriteLock lock(String repositoryKey,
+                       String lockName)
+    {
+        LockWaitStatistics statistics = lockWaitStatistics.computeIfAbsent(repositoryKey,
+                                                                            k -> new LockWaitStatistics());
+
+        return new TimedReadWriteLock(lockSource.getLock(lockName), statistics);
     }
 
     private URI getLock(final @Nonnull RepositoryPath repositoryPath) throws IOException
@@ -71,4 +133,161 @@ public class RepositoryPathLock
         return lock;
     }
 
+    private String getRepositoryKey(RepositoryPath repositoryPath)
+    {
+        Repository repository = repositoryPath.getRepository();
+
+        return repository == null ? "" : repository.getStorageIdAndRepositoryId();
+    }
+
+    /**
+     * @return the lock wait statistics, by the <code>storageId:repositoryId</code>
+     */
+    public Map<String, LockWaitStatistics> getLockWaitStatistics()
+    {
+        return Collections.unmodifiableMap(lockWaitStatistics);
+    }
+
+    public String getBackend()
+    {
+        return backend;
+    }
+
+    public static class LockWaitStatistics
+    {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos)
+        {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long getCount()
+        {
+            return count.sum();
+        }
+
+        public long getTotalNanos()
+        {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos()
+        {
+            return maxNanos.get();
+        }
+
+        public long getAverageNanos()
+        {
+            long n = getCount();
+
+            return n == 0 ? 0 : getTotalNanos() / n;
+        }
+
+    }
+
+    private static class TimedReadWriteLock
+            implements ReadWriteLock
+    {
+
+        private final Lock readLock;
+
+        private final Lock writeLock;
+
+        TimedReadWriteLock(ReadWriteLock target,
+                           LockWaitStatistics statistics)
+        {
+            this.readLock = new TimedLock(target.readLock(), statistics);
+            this.writeLock = new TimedLock(target.writeLock(), statistics);
+        }
+
+        @Override
+        public Lock readLock()
+        {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return writeLock;
+        }
+
+    }
+
+    private static class TimedLock
+            implements Lock
+    {
+
+        private final Lock target;
+
+        private final LockWaitStatistics statistics;
+
+        TimedLock(Lock target,
+                  LockWaitStatistics statistics)
+        {
+            this.target = target;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void lock()
+        {
+            long start = System.nanoTime();
+            target.lock();
+            statistics.record(System.nanoTime() - start);
+        }
+
+        @Override
+        public void lockInterruptibly()
+            throws InterruptedException
+        {
+            long start = System.nanoTime();
+            target.lockInterruptibly();
+            statistics.record(System.nanoTime() - start);
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            return target.tryLock();
+        }
+
+        @Override
+        public boolean tryLock(long time,
+                               TimeUnit unit)
+            throws InterruptedException
+        {
+            long start = System.nanoTime();
+            try
+            {
+                return target.tryLock(time, unit);
+            }
+            finally
+            {
+                statistics.record(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void unlock()
+        {
+            target.unlock();
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            return target.newCondition();
+        }
+
+    }
+
 }
@@ -0,0 +1,18 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Backend of the {@link RepositoryPathLock}, which provides the named {@link ReadWriteLock}s.
+ * <br>
+ * The same lock must be returned for the same name for as long as it's held.
+ *
+ * @see RepositoryPathLock
+ */
+@FunctionalInterface
+public interface RepositoryPathLockSource
+{
+
+    ReadWriteLock getLock(String name);
+
+}
@@ -3,7 +3,12 @@ package org.carlspring.strongbox.providers.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -185,6 +190,12 @@ public class RepositoryStreamSupport
             extends ProxyInputStream
     {
 
+        private static final int TRANSFER_BUFFER_SIZE = 128 * 1024;
+
+        private FileChannel fileChannel;
+
+        private long bytesTransferred;
+
         protected RepositoryInputStream(Path path,
                                         InputStream in) throws IOException
         {
@@ -227,14 +238,124 @@ public class RepositoryStreamSupport
             }
         }
 
+        /**
+         * Checks whether the content can be transferred with {@link #transferTo(long, long, WritableByteChannel)},
+         * which is the case when the storage {@link java.nio.file.FileSystem} provides {@link FileChannel}s.
+         */
+        public boolean supportsTransfer()
+            throws IOException
+        {
+            if (fileChannel != null)
+            {
+                return true;
+            }
+
+            try
+            {
+                fileChannel = FileChannel.open(ctx.getPath(), StandardOpenOption.READ);
+            }
+            catch (UnsupportedOperationException e)
+            {
+                logger.debug("File channels not supported for [{}].", ctx.getPath());
+
+                return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Zero-copy alternative to reading this stream: the file content is transferred with
+         * {@link FileChannel#transferTo(long, long, WritableByteChannel)} (<code>sendfile</code> where the target
+         * channel allows it), or through a direct buffer otherwise. The decorating streams (digests, byte ranges)
+         * are bypassed, but the read callbacks are fired the same way as for the regular reads.
+         *
+         * @throws UnsupportedOperationException
+         *             if the storage {@link java.nio.file.FileSystem} doesn't provide {@link FileChannel}s
+         */
+        public long transferTo(long position,
+                               long count,
+                               WritableByteChannel target)
+            throws IOException
+        {
+            if (!supportsTransfer())
+            {
+                throw new UnsupportedOperationException(String.format("File channels not supported for [%s].",
+                                                                      ctx.getPath()));
+            }
+
+            if (((CountingInputStream) in).getByteCount() == 0 && bytesTransferred == 0)
+            {
+                callback.onBeforeRead((RepositoryStreamReadContext) ctx);
+            }
+
+            long transferred = target instanceof FileChannel || target instanceof SelectableChannel
+                    ? transferDirectly(position, count, target)
+                    : transferBuffered(position, count, target);
+            bytesTransferred += transferred;
+
+            return transferred;
+        }
+
+        private long transferDirectly(long position,
+                                      long count,
+                                      WritableByteChannel target)
+            throws IOException
+        {
+            long transferred = 0;
+            while (transferred < count)
+            {
+                long n = fileChannel.transferTo(position + transferred, count - transferred, target);
+                if (n <= 0)
+                {
+                    break;
+                }
+                transferred += n;
+            }
+
+            return transferred;
+        }
+
+        private long transferBuffered(long position,
+                                      long count,
+                                      WritableByteChannel target)
+            throws IOException
+        {
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(count, TRANSFER_BUFFER_SIZE));
+
+            long transferred = 0;
+            while (transferred < count)
+            {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), count - transferred));
+                if (fileChannel.read(buffer, position + transferred) < 0)
+                {
+                    break;
+                }
+
+                buffer.flip();
+                while (buffer.hasRemaining())
+                {
+                    transferred += target.write(buffer);
+                }
+            }
+
+            return transferred;
+        }
+
         @Override
         public void close()
             throws IOException
         {
             try
             {
+                if (fileChannel != null)
+                {
+                    fileChannel.close();
+                }
+
                 super.close();
-                if (((CountingInputStream) in).getByteCount() > 0) 
+                if (((CountingInputStream) in).getByteCount() > 0 || bytesTransferred > 0)
                 {
                     callback.onAfterRead((RepositoryStreamReadContext) ctx);
                 }
@@ -0,0 +1,149 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Parameters and progress of a checksum regeneration, shared by the threads which regenerate the checksums.
+ * <br>
+ * The checksums of a file are not regenerated (and the file is not even read) if all of them have been written
+ * after the file itself, or, for the forced regeneration, after the regeneration has started. Since the forced
+ * regeneration can be resumed with its original start time, the files which were processed before the restart are
+ * skipped as well.
+ */
+public class ChecksumRegeneration
+{
+
+    private final boolean force;
+
+    private final long startedAt;
+
+    private final RateLimiter rateLimiter;
+
+    private final LongAdder regeneratedFiles = new LongAdder();
+
+    private final LongAdder skippedFiles = new LongAdder();
+
+    private final LongAdder readBytes = new LongAdder();
+
+    public ChecksumRegeneration(boolean force)
+    {
+        this(force, System.currentTimeMillis(), 0);
+    }
+
+    /**
+     * @param force              <code>true</code> to rewrite the existing checksums as well
+     * @param startedAt          the time the regeneration has (originally) started at
+     * @param maxBytesPerSecond  the limit of the artifact bytes read per second, by all the threads, or
+     *                           <code>0</code> for no limit
+     */
+    public ChecksumRegeneration(boolean force,
+                                long startedAt,
+                                long maxBytesPerSecond)
+    {
+        this.force = force;
+        this.startedAt = startedAt;
+        this.rateLimiter = maxBytesPerSecond > 0 ? RateLimiter.create(maxBytesPerSecond) : null;
+    }
+
+    public boolean isForce()
+    {
+        return force;
+    }
+
+    public long getStartedAt()
+    {
+        return startedAt;
+    }
+
+    /**
+     * @return <code>true</code> if the checksum file has been written after the artifact file, or after the start of
+     *         the forced regeneration
+     */
+    public boolean isUpToDate(RepositoryPath artifactPath,
+                              RepositoryPath checksumPath)
+        throws IOException
+    {
+        long checksumModified;
+        try
+        {
+            checksumModified = Files.getLastModifiedTime(checksumPath).toMillis();
+        }
+        catch (NoSuchFileException e)
+        {
+            return false;
+        }
+
+        if (force)
+        {
+            return checksumModified > startedAt;
+        }
+
+        return checksumModified >= Files.getLastModifiedTime(artifactPath).toMillis();
+    }
+
+    public boolean isUpToDate(RepositoryPath artifactPath,
+                              Collection<RepositoryPath> checksumPaths)
+        throws IOException
+    {
+        for (RepositoryPath checksumPath : checksumPaths)
+        {
+            if (!isUpToDate(artifactPath, checksumPath))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Blocks until the bytes can be read within the limit.
+     */
+    public void read(int bytes)
+    {
+        if (bytes <= 0)
+        {
+            return;
+        }
+
+        readBytes.add(bytes);
+        if (rateLimiter != null)
+        {
+            rateLimiter.acquire(bytes);
+        }
+    }
+
+    void regenerated()
+    {
+        regeneratedFiles.increment();
+    }
+
+    void skipped()
+    {
+        skippedFiles.increment();
+    }
+
+    public long getRegeneratedFiles()
+    {
+        return regeneratedFiles.sum();
+    }
+
+    public long getSkippedFiles()
+    {
+        return skippedFiles.sum();
+    }
+
+    public long getReadBytes()
+    {
+        return readBytes.sum();
+    }
+
+}
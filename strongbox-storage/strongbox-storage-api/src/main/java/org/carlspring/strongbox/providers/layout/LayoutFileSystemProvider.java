@@ -3,6 +3,7 @@ package org.carlspring.strongbox.providers.layout;
 import org.carlspring.commons.io.reloading.FSReloadableInputStreamHandler;
 import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
 import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.event.repository.RepositoryEventListenerRegistry;
 import org.carlspring.strongbox.io.ByteRangeInputStream;
@@ -11,12 +12,16 @@ import org.carlspring.strongbox.io.LayoutOutputStream;
 import org.carlspring.strongbox.io.LazyInputStream;
 import org.carlspring.strongbox.io.LazyOutputStream;
 import org.carlspring.strongbox.io.LazyOutputStream.OutputStreamSupplier;
+import org.carlspring.strongbox.io.MultipleDigestEngine;
 import org.carlspring.strongbox.io.StreamUtils;
+import org.carlspring.strongbox.providers.io.RepositoryFileAttributeCache;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributeType;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.StorageFileSystemProvider;
+import org.carlspring.strongbox.providers.io.TempRepositoryPath;
 import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 import org.carlspring.strongbox.storage.ArtifactResolutionException;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -25,15 +30,22 @@ import javax.inject.Inject;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.CopyOption;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
 import java.nio.file.spi.FileSystemProvider;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,6 +72,12 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
     @Inject
     private ArtifactEntryService artifactEntryService;
 
+    @Inject
+    private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
+
+    @Inject
+    private RepositoryFileAttributeCache repositoryFileAttributeCache;
+
 
     public LayoutFileSystemProvider(FileSystemProvider storageFileSystemProvider)
     {
@@ -68,11 +86,36 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
 
     protected abstract AbstractLayoutProvider getLayoutProvider();
     
+    /**
+     * Opens the artifact without calculating its checksums, because the checksums were already stored next to the
+     * artifact when it was written. Use {@link #newDigestInputStream(RepositoryPath, OpenOption...)} when the
+     * checksums need to be calculated (regeneration or verification).
+     */
     @Override
     public LazyInputStream newInputStream(Path path,
                                           OpenOption... options)
             throws IOException
-    {        
+    {
+        return newInputStream(path, false, options);
+    }
+
+    /**
+     * Opens the artifact and calculates its checksums, with the {@link RepositoryPath} file system digest
+     * algorithms, while the stream is read. The checksums are available through the {@link LayoutInputStream}
+     * source of the returned stream once it has been read.
+     */
+    public LazyInputStream newDigestInputStream(RepositoryPath path,
+                                                OpenOption... options)
+            throws IOException
+    {
+        return newInputStream(path, true, options);
+    }
+
+    private LazyInputStream newInputStream(Path path,
+                                           boolean digest,
+                                           OpenOption... options)
+            throws IOException
+    {
         return new LazyInputStream(() -> {
             try
             {
@@ -92,7 +135,7 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                 bris.setReloadableInputStreamHandler(new FSReloadableInputStreamHandler(path));
                 bris.setLength(Files.size(path));
 
-                return decorateStream((RepositoryPath) path, bris);
+                return decorateStream((RepositoryPath) path, bris, digest);
             }
             catch (NoSuchAlgorithmException e)
             {
@@ -102,11 +145,12 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
     }
 
     protected LayoutInputStream decorateStream(RepositoryPath path,
-                                               InputStream is)
+                                               InputStream is,
+                                               boolean digest)
             throws NoSuchAlgorithmException, IOException
     {
-        // Add digest algorithm only if it is not a Checksum (we don't need a Checksum of Checksum).
-        if (Boolean.TRUE.equals(RepositoryFiles.isChecksum(path)))
+        // Add digest algorithm only if requested and if it is not a Checksum (we don't need a Checksum of Checksum).
+        if (!digest || Boolean.TRUE.equals(RepositoryFiles.isChecksum(path)))
         {
             return new LayoutInputStream(is, Collections.emptySet());
         }
@@ -178,65 +222,90 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                               boolean forceRegeneration)
             throws IOException
     {
-        Files.walk(basePath)
-             .filter(p -> !Files.isDirectory(p))
-             .filter(p -> {
-                 try
-                 {
-                     return !Boolean.TRUE.equals(RepositoryFiles.isChecksum((RepositoryPath) p));
-                 }
-                 catch (IOException e)
-                 {
-                     logger.error("Failed to read attributes for [{}]", p, e);
-                 }
-                 return false;
-             })
-             .forEach(p -> {
-                 try
-                 {
-                     writeChecksum((RepositoryPath) p, forceRegeneration);
-                 }
-                 catch (IOException e)
-                 {
-                     logger.error("Failed to write checksum for [{}]", p, e);
-                 }
-             });
+        storeChecksum(basePath, new ChecksumRegeneration(forceRegeneration));
+    }
+
+    public void storeChecksum(RepositoryPath basePath,
+                              ChecksumRegeneration regeneration)
+            throws IOException
+    {
+        try (Stream<Path> pathStream = Files.walk(basePath))
+        {
+            pathStream.filter(p -> !Files.isDirectory(p))
+                      .filter(p -> {
+                          try
+                          {
+                              return !Boolean.TRUE.equals(RepositoryFiles.isChecksum((RepositoryPath) p));
+                          }
+                          catch (IOException e)
+                          {
+                              logger.error("Failed to read attributes for [{}]", p, e);
+                          }
+                          return false;
+                      })
+                      .forEach(p -> {
+                          try
+                          {
+                              writeChecksum((RepositoryPath) p, regeneration);
+                          }
+                          catch (IOException e)
+                          {
+                              logger.error("Failed to write checksum for [{}]", p, e);
+                          }
+                      });
+        }
     }
 
-    
     protected void writeChecksum(RepositoryPath path,
-                                 boolean force)
+                                 ChecksumRegeneration regeneration)
             throws IOException
     {
-        try (InputStream is = newInputStream(path))
+        Map<String, RepositoryPath> checksumPaths = new HashMap<>();
+        for (String digestAlgorithm : path.getFileSystem().getDigestAlgorithmSet())
         {
-            byte[] buffer = new byte[1024];
-            while (is.read(buffer) > 0)
+            checksumPaths.put(digestAlgorithm, getChecksumPath(path, digestAlgorithm));
+        }
+
+        // Don't read the file if there's nothing to write.
+        if (regeneration.isUpToDate(path, checksumPaths.values()))
+        {
+            regeneration.skipped();
+
+            return;
+        }
+
+        try (InputStream is = newDigestInputStream(path))
+        {
+            byte[] buffer = MultipleDigestEngine.newBuffer(Files.size(path));
+            int n;
+            while ((n = is.read(buffer)) != -1)
             {
                 //calculate checksum while reading the stream
+                regeneration.read(n);
+            }
+
+            LayoutInputStream lis = StreamUtils.findSource(LayoutInputStream.class, is);
+            for (Map.Entry<String, RepositoryPath> e : checksumPaths.entrySet())
+            {
+                RepositoryPath checksumPath = e.getValue();
+                if (regeneration.isUpToDate(path, checksumPath))
+                {
+                    continue;
+                }
+
+                String checksum = lis.getMessageDigestAsHexadecimalString(e.getKey());
+                try
+                {
+                    Files.write(checksumPath, checksum.getBytes());
+                }
+                catch (IOException t)
+                {
+                    logger.error("Failed to write checksum for [{}]", checksumPath.toString(), t);
+                }
             }
-            Set<String> digestAlgorithmSet = path.getFileSystem().getDigestAlgorithmSet();
-            digestAlgorithmSet.stream()
-                              .forEach(p ->
-                                       {
-                                           String checksum = StreamUtils.findSource(LayoutInputStream.class, is)
-                                                                        .getMessageDigestAsHexadecimalString(p);
-                                           RepositoryPath checksumPath = getChecksumPath(path, p);
-                                           if (Files.exists(checksumPath) && !force)
-                                           {
-                                               return;
-                                           }
-                                           try
-                                           {
-                                               Files.write(checksumPath, checksum.getBytes());
-                                           }
-                                           catch (IOException e)
-                                           {
-                                               logger.error("Failed to write checksum for [{}]",
-                                                            checksumPath.toString(), e);
-                                           }
-                                       });
         }
+
+        regeneration.regenerated();
     }
 
     @Override
@@ -257,15 +326,42 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
             return;
         }
 
-        boolean directory = Files.isDirectory(path);
+        List<Path> deletedPaths = Files.isDirectory(path) ? findArtifactPaths(repositoryPath)
+                : Collections.singletonList(path);
         super.delete(path, force);
-        if (!directory)
+        repositoryFileAttributeCache.invalidateTree(repositoryPath);
+        for (Path deletedPath : deletedPaths)
         {
-            artifactEventListenerRegistry.dispatchArtifactPathDeletedEvent(path);
+            artifactEventListenerRegistry.dispatchArtifactPathDeletedEvent(deletedPath);
         }
 
         logger.debug("Deleted [{}]", path);
     }
+
+    /**
+     * Lists the artifacts within the directory, so that their deletion can be dispatched once the directory has been
+     * deleted.
+     */
+    private List<Path> findArtifactPaths(RepositoryPath directory)
+            throws IOException
+    {
+        try (Stream<Path> pathStream = Files.walk(directory))
+        {
+            return pathStream.filter(p -> !Files.isDirectory(p))
+                             .filter(p -> {
+                                 try
+                                 {
+                                     return Boolean.TRUE.equals(RepositoryFiles.isArtifact((RepositoryPath) p));
+                                 }
+                                 catch (IOException e)
+                                 {
+                                     logger.error("Failed to read attributes for [{}]", p, e);
+                                 }
+                                 return false;
+                             })
+                             .collect(Collectors.toList());
+        }
+    }
     @Override
     protected void doDeletePath(RepositoryPath repositoryPath,
                                 boolean force)
@@ -281,12 +377,36 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                                               .orElseGet(() -> fetchArtifactEntry(repositoryPath));
         if (artifactEntry != null)
         {
+            removeArtifactFromGroup(repositoryPath, artifactEntry);
             artifactEntryService.delete(artifactEntry);
         }
         
         super.doDeletePath(repositoryPath, force);
     }
 
+    /**
+     * Removes the entry from its artifactId group, so that the last version of the group is moved to the remaining
+     * versions if needed.
+     */
+    private void removeArtifactFromGroup(RepositoryPath repositoryPath,
+                                         ArtifactEntry artifactEntry)
+    {
+        if (artifactEntry.getArtifactCoordinates() == null)
+        {
+            return;
+        }
+
+        Repository repository = repositoryPath.getRepository();
+        RepositoryArtifactIdGroupEntry artifactGroup = repositoryArtifactIdGroupService.findOne(
+                repository.getStorage().getId(),
+                repository.getId(),
+                artifactEntry.getArtifactCoordinates().getId());
+        if (artifactGroup != null)
+        {
+            repositoryArtifactIdGroupService.removeArtifactFromGroup(artifactGroup, artifactEntry);
+        }
+    }
+
     private ArtifactEntry fetchArtifactEntry(RepositoryPath repositoryPath)
     {
         Repository repository = repositoryPath.getRepository();
@@ -316,6 +436,7 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         logger.debug("Emptying trash for {}:{}...", storage.getId(), repository.getId());
 
         super.deleteTrash(path);
+        repositoryFileAttributeCache.invalidateTree(path);
 
         repositoryEventListenerRegistry.dispatchEmptyTrashEvent(storage.getId(), repository.getId());
 
@@ -334,6 +455,7 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         logger.debug("Attempting to restore: [{}]; ", path);
         
         super.undelete(path);
+        repositoryFileAttributeCache.invalidateTree(path);
 
         repositoryEventListenerRegistry.dispatchUndeleteTrashEvent(storage.getId(), repository.getId());
 
@@ -345,7 +467,65 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                                                                                    RepositoryFileAttributeType... attributeTypes)
             throws IOException
     {
-        return getLayoutProvider().getRepositoryFileAttributes(repositoryRelativePath, attributeTypes);
+        Map<RepositoryFileAttributeType, Object> result = new HashMap<>();
+
+        List<RepositoryFileAttributeType> missingAttributeTypes = new ArrayList<>(attributeTypes.length);
+        for (RepositoryFileAttributeType attributeType : attributeTypes)
+        {
+            if (!RepositoryFileAttributeCache.isCacheable(attributeType)
+                    || !repositoryFileAttributeCache.get(repositoryRelativePath, attributeType, result))
+            {
+                missingAttributeTypes.add(attributeType);
+            }
+        }
+        if (missingAttributeTypes.isEmpty())
+        {
+            return result;
+        }
+
+        Map<RepositoryFileAttributeType, Object> attributes = getLayoutProvider().getRepositoryFileAttributes(
+                repositoryRelativePath,
+                missingAttributeTypes.toArray(new RepositoryFileAttributeType[missingAttributeTypes.size()]));
+        for (RepositoryFileAttributeType attributeType : missingAttributeTypes)
+        {
+            repositoryFileAttributeCache.put(repositoryRelativePath, attributeType, attributes.get(attributeType));
+        }
+        result.putAll(attributes);
+
+        return result;
+    }
+
+    @Override
+    public void createDirectory(Path dir,
+                                FileAttribute<?>... attrs)
+            throws IOException
+    {
+        super.createDirectory(dir, attrs);
+
+        repositoryFileAttributeCache.invalidateTree((RepositoryPath) dir);
+    }
+
+    @Override
+    public void move(Path source,
+                     Path target,
+                     CopyOption... options)
+            throws IOException
+    {
+        super.move(source, target, options);
+
+        repositoryFileAttributeCache.invalidateTree((RepositoryPath) source);
+        repositoryFileAttributeCache.invalidateTree((RepositoryPath) target);
+    }
+
+    @Override
+    public RepositoryPath moveFromTemporaryDirectory(TempRepositoryPath tempPath)
+            throws IOException
+    {
+        RepositoryPath result = super.moveFromTemporaryDirectory(tempPath);
+
+        repositoryFileAttributeCache.invalidate(result);
+
+        return result;
     }
     
     protected void deleteMetadata(RepositoryPath repositoryPath)
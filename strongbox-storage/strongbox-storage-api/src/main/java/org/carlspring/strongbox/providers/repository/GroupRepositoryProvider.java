@@ -3,15 +3,19 @@ package org.carlspring.strongbox.providers.repository;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -31,10 +35,14 @@ import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.repository.event.GroupRepositoryPathFetchEvent;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryPathCache;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryProbeExecutor;
 import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
 import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
+import org.carlspring.strongbox.services.support.CompiledRoutingRules.RoutingDecision;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
 import org.carlspring.strongbox.util.ThrowingFunction;
 
 import org.slf4j.Logger;
@@ -62,6 +70,12 @@ public class GroupRepositoryProvider
     @Inject
     private GroupRepositorySetCollector groupRepositorySetCollector;
 
+    @Inject
+    private GroupRepositoryPathCache groupRepositoryPathCache;
+
+    @Inject
+    private GroupRepositoryProbeExecutor groupRepositoryProbeExecutor;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -102,38 +116,242 @@ public class GroupRepositoryProvider
         Repository groupRepository = repositoryPath.getRepository();
         Storage storage = groupRepository.getStorage();
 
+        String path = RepositoryFiles.relativizePath(repositoryPath);
+        long generation = groupRepositoryPathCache.getGeneration(path);
+        GroupRepositoryPathCache.Lookup lookup = groupRepositoryPathCache.get(groupRepository, path);
+        RoutingDecision routingDecision = artifactRoutingRulesChecker.getRoutingDecision(groupRepository, path);
+
+        // The members before the one which has served the path are known not to have it, so it's tried first.
+        Repository servedBy = lookup == null ? null : getServedBy(storage, lookup);
+        if (servedBy != null && isRepositoryResolvable(servedBy, routingDecision))
+        {
+            RepositoryPath subRepositoryPath = resolvePathFromGroupMember(groupRepository, servedBy, path,
+                                                                          repositoryPath, generation);
+            if (subRepositoryPath != null)
+            {
+                return subRepositoryPath;
+            }
+        }
+
         // Iterate over the `repositories` collection.
+        List<Repository> subRepositories = new ArrayList<>();
         for (String storageAndRepositoryId : groupRepository.getGroupRepositories())
         {
             String sId = ConfigurationUtils.getStorageId(storage.getId(), storageAndRepositoryId);
             String rId = ConfigurationUtils.getRepositoryId(storageAndRepositoryId);
 
             Repository subRepository = getConfiguration().getStorage(sId).getRepository(rId);
-            RepositoryPath subRepositoryPath = repositoryPathResolver.resolve(subRepository, repositoryPath);
-
-            if (!isRepositoryResolvable(groupRepository, subRepository, subRepositoryPath))
+            if (servedBy != null &&
+                servedBy.getStorageIdAndRepositoryId().equals(subRepository.getStorageIdAndRepositoryId()))
             {
+                // Already tried.
                 continue;
             }
-
-            subRepositoryPath = resolvePathFromGroupMemberOrTraverse(subRepositoryPath);
-            if (subRepositoryPath == null)
+            if (lookup != null && lookup.isMissingFrom(subRepository))
+            {
+                groupRepositoryPathCache.memberSkipped();
+                continue;
+            }
+            if (!isRepositoryResolvable(subRepository, routingDecision))
             {
                 continue;
             }
 
-            logger.debug("Located artifact: [{}]", subRepositoryPath);
+            subRepositories.add(subRepository);
+        }
+
+        if (subRepositories.size() > 1 && groupRepositoryProbeExecutor.isEnabled())
+        {
+            return resolvePathInParallel(groupRepository, subRepositories, path, repositoryPath, generation);
+        }
 
-            return subRepositoryPath;
+        for (Repository subRepository : subRepositories)
+        {
+            RepositoryPath subRepositoryPath = resolvePathFromGroupMember(groupRepository, subRepository, path,
+                                                                          repositoryPath, generation);
+            if (subRepositoryPath != null)
+            {
+                return subRepositoryPath;
+            }
         }
 
         return null;
     }
 
-    private boolean isRepositoryResolvable(Repository groupRepository,
-                                           Repository subRepository,
-                                           RepositoryPath repositoryPath)
+    /**
+     * Probes the non-hosted members (which may have to reach their remote repositories) concurrently, while the
+     * hosted members are resolved by the calling thread. The results are still taken in the configured order of the
+     * members, so the path is served by the first member which has it, exactly as in the sequential resolution, and
+     * the probes which haven't started yet are cancelled once it's found.
+     */
+    private RepositoryPath resolvePathInParallel(Repository groupRepository,
+                                                 List<Repository> subRepositories,
+                                                 String path,
+                                                 RepositoryPath repositoryPath,
+                                                 long generation)
+            throws IOException
+    {
+        List<Future<RepositoryPath>> probes = new ArrayList<>(subRepositories.size());
+        for (Repository subRepository : subRepositories)
+        {
+            if (RepositoryTypeEnum.HOSTED.getType().equals(subRepository.getType()))
+            {
+                probes.add(null);
+                continue;
+            }
+
+            probes.add(groupRepositoryProbeExecutor.submit(
+                    () -> probePathInGroupMember(groupRepository, subRepository, path, repositoryPath, generation)));
+        }
+
+        try
+        {
+            for (int i = 0; i < subRepositories.size(); i++)
+            {
+                Repository subRepository = subRepositories.get(i);
+                Future<RepositoryPath> probe = probes.get(i);
+
+                RepositoryPath subRepositoryPath = probe == null ?
+                                                   probePathInGroupMember(groupRepository, subRepository, path,
+                                                                          repositoryPath, generation) :
+                                                   getProbeResult(probe);
+                if (subRepositoryPath != null)
+                {
+                    return servedBy(groupRepository, subRepository, path, subRepositoryPath, generation);
+                }
+            }
+
+            return null;
+        }
+        finally
+        {
+            probes.forEach(groupRepositoryProbeExecutor::cancel);
+        }
+    }
+
+    /**
+     * The failures of the probe are rethrown as they are, so that the member failures surface exactly as in the
+     * sequential resolution.
+     */
+    private RepositoryPath getProbeResult(Future<RepositoryPath> probe)
             throws IOException
+    {
+        try
+        {
+            return probe.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(e.getMessage());
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+
+    private Repository getServedBy(Storage storage,
+                                   GroupRepositoryPathCache.Lookup lookup)
+    {
+        String storageAndRepositoryId = lookup.getServedBy();
+        if (storageAndRepositoryId == null)
+        {
+            return null;
+        }
+
+        String sId = ConfigurationUtils.getStorageId(storage.getId(), storageAndRepositoryId);
+        String rId = ConfigurationUtils.getRepositoryId(storageAndRepositoryId);
+
+        Storage subStorage = getConfiguration().getStorage(sId);
+
+        return subStorage == null ? null : subStorage.getRepository(rId);
+    }
+
+    /**
+     * Resolves the path in the member repository, and records the result in the {@link GroupRepositoryPathCache}.
+     */
+    private RepositoryPath resolvePathFromGroupMember(Repository groupRepository,
+                                                      Repository subRepository,
+                                                      String path,
+                                                      RepositoryPath repositoryPath,
+                                                      long generation)
+            throws IOException
+    {
+        RepositoryPath subRepositoryPath = probePathInGroupMember(groupRepository, subRepository, path,
+                                                                  repositoryPath, generation);
+        if (subRepositoryPath == null)
+        {
+            return null;
+        }
+
+        return servedBy(groupRepository, subRepository, path, subRepositoryPath, generation);
+    }
+
+    /**
+     * Resolves the path in the member repository, and records it in the {@link GroupRepositoryPathCache} if the
+     * member doesn't have it. Whether the member serves the path is only known once the members before it are
+     * resolved, see {@link #servedBy}.
+     */
+    private RepositoryPath probePathInGroupMember(Repository groupRepository,
+                                                  Repository subRepository,
+                                                  String path,
+                                                  RepositoryPath repositoryPath,
+                                                  long generation)
+            throws IOException
+    {
+        RepositoryPath subRepositoryPath = repositoryPathResolver.resolve(subRepository, repositoryPath);
+
+        RepositoryPath result;
+        try
+        {
+            result = resolvePathFromGroupMember(subRepositoryPath);
+        }
+        catch (IOException e)
+        {
+            // Not cached, as the member could have failed temporarily.
+            logger.error("Failed to resolve path [{}]", subRepositoryPath);
+            return null;
+        }
+
+        if (result == null)
+        {
+            groupRepositoryPathCache.putMissing(groupRepository, path, subRepository, generation);
+        }
+
+        return result;
+    }
+
+    private RepositoryPath servedBy(Repository groupRepository,
+                                    Repository subRepository,
+                                    String path,
+                                    RepositoryPath subRepositoryPath,
+                                    long generation)
+    {
+        groupRepositoryPathCache.putServedBy(groupRepository, path, subRepository, generation);
+
+        logger.debug("Located artifact: [{}]", subRepositoryPath);
+
+        return subRepositoryPath;
+    }
+
+    private boolean isRepositoryResolvable(Repository subRepository,
+                                           RoutingDecision routingDecision)
     {
         final boolean isInService = subRepository.isInService();
 
@@ -142,11 +360,11 @@ public class GroupRepositoryProvider
             logger.debug("- Repository [{}] is not in service, skipping...",
                          subRepository.getStorageIdAndRepositoryId());
 
-            // early break to avoid wasting time on looping through the routing rules.
+            // early break to avoid wasting time on looking up the routing rules.
             return false;
         }
 
-        final boolean isRoutable = !artifactRoutingRulesChecker.isDenied(groupRepository, repositoryPath);
+        final boolean isRoutable = !routingDecision.isDenied(subRepository);
 
         if (!isRoutable)
         {
@@ -169,16 +387,9 @@ public class GroupRepositoryProvider
     protected RepositoryPath resolvePathFromGroupMemberOrTraverse(RepositoryPath repositoryPath)
             throws IOException
     {
-        Repository repository = repositoryPath.getRepository();
-        if (getAlias().equals(repository.getType()))
-        {
-            return resolvePathTraversal(repositoryPath);
-        }
-
-        RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
         try
         {
-            return (RepositoryPath) provider.fetchPath(repositoryPath);
+            return resolvePathFromGroupMember(repositoryPath);
         }
         catch (IOException e)
         {
@@ -187,6 +398,20 @@ public class GroupRepositoryProvider
         }
     }
 
+    private RepositoryPath resolvePathFromGroupMember(RepositoryPath repositoryPath)
+            throws IOException
+    {
+        Repository repository = repositoryPath.getRepository();
+        if (getAlias().equals(repository.getType()))
+        {
+            return resolvePathTraversal(repositoryPath);
+        }
+
+        RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        return (RepositoryPath) provider.fetchPath(repositoryPath);
+    }
+
     @Override
     protected OutputStream getOutputStreamInternal(RepositoryPath repositoryPath)
     {
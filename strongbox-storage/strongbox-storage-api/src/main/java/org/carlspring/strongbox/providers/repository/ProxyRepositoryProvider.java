@@ -11,6 +11,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.providers.repository.event.ProxyRepositoryPathExpiredEvent;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
+import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactFetch;
 import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
 
 import javax.inject.Inject;
@@ -83,6 +84,12 @@ public class ProxyRepositoryProvider
     private RepositoryPath resolvePathExclusive(RepositoryPath repositoryPath)
             throws IOException
     {
+        // The path is already being fetched by another request, so we don't need to wait for the repository locks.
+        ProxyRepositoryArtifactFetch fetch = proxyRepositoryArtifactResolver.getFetch(repositoryPath);
+        if (fetch != null)
+        {
+            return fetch.await();
+        }
 
         ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "pre-remote-fetch");
         Lock lock = lockSource.writeLock();
@@ -0,0 +1,281 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.server.ServerEvent;
+import org.carlspring.strongbox.event.server.ServerEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.cache.GenerationGuardedCache;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the group repository path resolutions: which member has served a path (the positive lookup), and which
+ * members don't have it (the negative lookups), so that the members are not scanned again on every request.
+ * <br>
+ * The lookups are kept by the directory of the path, and once a path is stored, updated, fetched, moved or deleted in
+ * any repository, the lookups of its directory (which covers its checksums and signatures as well) and of all the
+ * parent directories are invalidated. All the lookups are invalidated once the configuration (such as the group
+ * members, or the routing rules) has been changed. The positive lookups are verified by fetching the path from the
+ * member, and the lookups also expire after <code>strongbox.group.pathCache.ttl</code> seconds, as the remote
+ * repositories of the proxy members can change at any time.
+ */
+@Component
+public class GroupRepositoryPathCache
+        extends GenerationGuardedCache<GroupRepositoryPathCache.Lookup>
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupRepositoryPathCache.class);
+
+    @Value("${strongbox.group.pathCache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${strongbox.group.pathCache.maxSize:10000}")
+    private int maxSize = 10000;
+
+    @Value("${strongbox.group.pathCache.ttl:300}")
+    private long ttl = 300;
+
+    private final LongAdder skippedMembers = new LongAdder();
+
+    /**
+     * @param path the repository relative path
+     * @return the lookup of the path in the group, or <code>null</code> if it hasn't been resolved yet
+     */
+    public Lookup get(Repository groupRepository,
+                      String path)
+    {
+        return get(getParent(path), getKey(groupRepository, path));
+    }
+
+    /**
+     * Records that the member repository has served the path.
+     * <br>
+     * The generation should be taken with {@link #getGeneration(String)} before the members are scanned, so that the
+     * lookup isn't cached if the directory of the path has been invalidated in the meantime.
+     */
+    public void putServedBy(Repository groupRepository,
+                            String path,
+                            Repository subRepository,
+                            long generation)
+    {
+        Lookup lookup = getOrCreate(groupRepository, path, generation);
+        if (lookup != null)
+        {
+            lookup.servedBy = subRepository.getStorageIdAndRepositoryId();
+            lookup.missingFrom.remove(lookup.servedBy);
+        }
+    }
+
+    /**
+     * Records that the member repository doesn't have the path.
+     */
+    public void putMissing(Repository groupRepository,
+                           String path,
+                           Repository subRepository,
+                           long generation)
+    {
+        Lookup lookup = getOrCreate(groupRepository, path, generation);
+        if (lookup != null)
+        {
+            String storageIdAndRepositoryId = subRepository.getStorageIdAndRepositoryId();
+            lookup.missingFrom.add(storageIdAndRepositoryId);
+            if (storageIdAndRepositoryId.equals(lookup.servedBy))
+            {
+                lookup.servedBy = null;
+            }
+        }
+    }
+
+    private Lookup getOrCreate(Repository groupRepository,
+                               String path,
+                               long generation)
+    {
+        return compute(getParent(path),
+                       generation,
+                       getKey(groupRepository, path),
+                       (k, v) -> v == null ? new Lookup() : v);
+    }
+
+    /**
+     * @param path the repository relative path
+     * @return the generation of the directory of the path
+     */
+    @Override
+    public long getGeneration(String path)
+    {
+        return super.getGeneration(getParent(path));
+    }
+
+    /**
+     * Invalidates the lookups of the path, of the other files in its directory, of the paths within it (if it's a
+     * directory) and of its parent directories.
+     */
+    @Override
+    public void invalidate(String path)
+    {
+        super.invalidate(path);
+        for (String directory = getParent(path); directory != null; directory = getParent(directory))
+        {
+            super.invalidate(directory);
+        }
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        if (!isModification(event.getType()))
+        {
+            return;
+        }
+
+        invalidatePath(event.getPath());
+
+        Path targetPath = event.getTargetPath();
+        if (targetPath instanceof RepositoryPath)
+        {
+            invalidatePath((RepositoryPath) targetPath);
+        }
+    }
+
+    @EventListener
+    public void handle(final ServerEvent event)
+    {
+        if (event.getType() == ServerEventTypeEnum.EVENT_SERVER_CONFIGURATION_CHANGED.getType())
+        {
+            invalidateAll();
+        }
+    }
+
+    private void invalidatePath(RepositoryPath repositoryPath)
+    {
+        try
+        {
+            invalidate(RepositoryFiles.relativizePath(repositoryPath));
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to resolve the path of [{}].", repositoryPath, e);
+
+            invalidateAll();
+        }
+    }
+
+    /**
+     * @return the parent directory of the repository relative path (the empty string for the repository root), or
+     *         <code>null</code> for the repository root itself
+     */
+    static String getParent(String path)
+    {
+        if (path.isEmpty())
+        {
+            return null;
+        }
+
+        int i = path.lastIndexOf('/');
+
+        return i < 0 ? "" : path.substring(0, i);
+    }
+
+    private static String getKey(Repository groupRepository,
+                                 String path)
+    {
+        return groupRepository.getStorageIdAndRepositoryId() + "/" + path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Counts the member repositories which were not scanned thanks to a negative lookup.
+     */
+    public void memberSkipped()
+    {
+        skippedMembers.increment();
+    }
+
+    public long getSkippedMembers()
+    {
+        return skippedMembers.sum();
+    }
+
+    @Override
+    protected long getCreated(Lookup lookup)
+    {
+        return lookup.getCreated();
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected long getTtl()
+    {
+        return ttl;
+    }
+
+    public void setTtl(long ttl)
+    {
+        this.ttl = ttl;
+    }
+
+    /**
+     * The resolution of a path in a group repository.
+     */
+    public static class Lookup
+    {
+
+        private final long created = System.currentTimeMillis();
+
+        private volatile String servedBy;
+
+        private final Set<String> missingFrom = ConcurrentHashMap.newKeySet();
+
+        public long getCreated()
+        {
+            return created;
+        }
+
+        /**
+         * @return the <code>storageId:repositoryId</code> of the member which has served the path, if any
+         */
+        public String getServedBy()
+        {
+            return servedBy;
+        }
+
+        public boolean isMissingFrom(Repository subRepository)
+        {
+            return missingFrom.contains(subRepository.getStorageIdAndRepositoryId());
+        }
+
+    }
+
+}
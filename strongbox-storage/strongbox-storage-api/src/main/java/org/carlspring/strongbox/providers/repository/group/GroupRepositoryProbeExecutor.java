@@ -0,0 +1,150 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded executor of the probes of the group repository members, which are resolved concurrently in the parallel
+ * resolution mode (<code>strongbox.group.parallelResolution.enabled</code>).
+ * <br>
+ * The probes which can't be queued are run by the calling thread. The probes don't fan out any further (the nested
+ * groups are resolved sequentially within a probe), so that the pool threads never wait for the tasks queued behind
+ * them.
+ */
+@Component
+public class GroupRepositoryProbeExecutor
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupRepositoryProbeExecutor.class);
+
+    private static final ThreadLocal<Boolean> PROBING = new ThreadLocal<>();
+
+    @Value("${strongbox.group.parallelResolution.enabled:false}")
+    private boolean enabled;
+
+    @Value("${strongbox.group.parallelResolution.threads:8}")
+    private int threads = 8;
+
+    @Value("${strongbox.group.parallelResolution.queueCapacity:256}")
+    private int queueCapacity = 256;
+
+    private final LongAdder submittedProbes = new LongAdder();
+
+    private final LongAdder callerRunProbes = new LongAdder();
+
+    private final LongAdder cancelledProbes = new LongAdder();
+
+    private ThreadPoolExecutor executor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                                          new ArrayBlockingQueue<>(queueCapacity),
+                                          r -> {
+                                              Thread thread = new Thread(r, "group-repository-probe-" +
+                                                                            threadNumber.incrementAndGet());
+                                              thread.setDaemon(true);
+
+                                              return thread;
+                                          },
+                                          new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        if (enabled)
+        {
+            logger.info("Group repository members will be resolved in parallel by [{}] threads.", threads);
+        }
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return <code>true</code> if the members should be probed in parallel by the current thread
+     */
+    public boolean isEnabled()
+    {
+        return enabled && PROBING.get() == null;
+    }
+
+    public <T> Future<T> submit(Callable<T> probe)
+    {
+        FutureTask<T> task = new FutureTask<>(() -> {
+            PROBING.set(Boolean.TRUE);
+            try
+            {
+                return probe.call();
+            }
+            finally
+            {
+                PROBING.remove();
+            }
+        });
+
+        submittedProbes.increment();
+        try
+        {
+            executor.execute(task);
+        }
+        catch (RejectedExecutionException e)
+        {
+            callerRunProbes.increment();
+            task.run();
+        }
+
+        return task;
+    }
+
+    /**
+     * Cancels the probe, unless it has already started: the running probes are not interrupted, as an interrupted
+     * remote download would leave a partial file in the proxy repository.
+     */
+    public void cancel(Future<?> probe)
+    {
+        if (probe != null && probe.cancel(false))
+        {
+            cancelledProbes.increment();
+        }
+    }
+
+    public long getSubmittedProbes()
+    {
+        return submittedProbes.sum();
+    }
+
+    public long getCallerRunProbes()
+    {
+        return callerRunProbes.sum();
+    }
+
+    public long getCancelledProbes()
+    {
+        return cancelledProbes.sum();
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+}
@@ -32,6 +32,8 @@ import static org.carlspring.strongbox.services.support.ArtifactEntrySearchCrite
 public class LocalStorageProxyRepositoryExpiredArtifactsCleaner
 {
 
+    private static final int CLEANUP_PAGE_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(LocalStorageProxyRepositoryExpiredArtifactsCleaner.class);
 
     @Inject
@@ -59,17 +61,28 @@ public class LocalStorageProxyRepositoryExpiredArtifactsCleaner
                                                                    .withMinSizeInBytes(minSizeInBytes)
                                                                    .build();
 
-        final List<ArtifactEntry> artifactEntries = artifactEntryService.findMatching(searchCriteria,
-                                                                                      PagingCriteria.ALL);
-        filterAccessibleProxiedArtifacts(artifactEntries);
-
-        if (CollectionUtils.isEmpty(artifactEntries))
+        // Key paging keeps the entries deleted from the previous pages from shifting the next ones
+        PagingCriteria pagingCriteria = PagingCriteria.seek(CLEANUP_PAGE_SIZE);
+        int pageSize;
+        do
         {
-            return;
-        }
+            final List<ArtifactEntry> artifactEntries = artifactEntryService.findMatching(searchCriteria, pagingCriteria);
+            if (CollectionUtils.isEmpty(artifactEntries))
+            {
+                return;
+            }
+
+            pageSize = artifactEntries.size();
+            pagingCriteria = pagingCriteria.next(artifactEntries.get(pageSize - 1).getUuid());
 
-        logger.debug("Cleaning artifacts {}", artifactEntries);
-        deleteFromStorage(artifactEntries);
+            filterAccessibleProxiedArtifacts(artifactEntries);
+            if (!artifactEntries.isEmpty())
+            {
+                logger.debug("Cleaning artifacts {}", artifactEntries);
+                deleteFromStorage(artifactEntries);
+            }
+        }
+        while (pageSize == CLEANUP_PAGE_SIZE);
     }
 
     private void filterAccessibleProxiedArtifacts(final List<ArtifactEntry> artifactEntries)
@@ -0,0 +1,273 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.TempRepositoryPath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.apache.commons.io.input.ProxyInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fetch of the remote resource into the proxy repository, which is currently in progress.
+ * <br>
+ * The remote content is stored into the {@link TempRepositoryPath} first, and moved into the repository once it has
+ * been completely fetched. Concurrent requests of the same path don't fetch it once more, they either wait for the
+ * fetch result with {@link #await()}, or read the growing temporary file with {@link #newInputStream()} while the
+ * fetch is still in progress.
+ *
+ * @see ProxyRepositoryArtifactResolver#fetchRemoteResource(RepositoryPath)
+ */
+public class ProxyRepositoryArtifactFetch
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ProxyRepositoryArtifactFetch.class);
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final RepositoryPath repositoryPath;
+
+    private final Path file;
+
+    private long bytesFetched;
+
+    private boolean done;
+
+    private RepositoryPath result;
+
+    private IOException failure;
+
+    ProxyRepositoryArtifactFetch(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        this(repositoryPath, RepositoryFiles.temporary(repositoryPath).getTarget());
+    }
+
+    ProxyRepositoryArtifactFetch(RepositoryPath repositoryPath,
+                                 Path file)
+    {
+        this.repositoryPath = repositoryPath;
+        this.file = file;
+    }
+
+    public RepositoryPath getRepositoryPath()
+    {
+        return repositoryPath;
+    }
+
+    public synchronized boolean isDone()
+    {
+        return done;
+    }
+
+    /**
+     * Decorates the remote stream, so that the fetch progress is tracked while it's being read.
+     */
+    InputStream track(InputStream is)
+    {
+        return new ProxyInputStream(is)
+        {
+
+            @Override
+            protected void afterRead(int n)
+            {
+                if (n > 0)
+                {
+                    progress(n);
+                }
+            }
+
+        };
+    }
+
+    synchronized void progress(long n)
+    {
+        bytesFetched += n;
+        notifyAll();
+    }
+
+    synchronized void complete(RepositoryPath result)
+    {
+        this.result = result;
+        this.done = true;
+        notifyAll();
+    }
+
+    synchronized void fail(IOException failure)
+    {
+        this.failure = failure;
+        this.done = true;
+        notifyAll();
+    }
+
+    /**
+     * Waits until the fetch completes.
+     *
+     * @return the fetched path, or the fetch failure cause is thrown
+     */
+    public synchronized RepositoryPath await()
+        throws IOException
+    {
+        while (!done)
+        {
+            doWait(0);
+        }
+        if (failure != null)
+        {
+            throw failure;
+        }
+
+        return result;
+    }
+
+    /**
+     * Waits until the first bytes have been fetched from the remote.
+     *
+     * @return <code>true</code> if the fetch is in progress and can be read with {@link #newInputStream()},
+     *         <code>false</code> if it has already been completed
+     */
+    public synchronized boolean awaitStarted()
+        throws IOException
+    {
+        while (!done && bytesFetched == 0)
+        {
+            doWait(0);
+        }
+
+        return !done;
+    }
+
+    /**
+     * Waits for the bytes after the <code>position</code> to be fetched.
+     *
+     * @return <code>false</code> if the fetch has been completed and there are no bytes left after the
+     *         <code>position</code>
+     */
+    private synchronized boolean awaitProgress(long position)
+        throws IOException
+    {
+        if (!done)
+        {
+            // The fetched bytes can still be buffered by the writer, so we wait for them even if they were counted.
+            doWait(POLL_INTERVAL_MILLIS);
+        }
+        if (failure != null)
+        {
+            throw new IOException(String.format("Failed to fetch [%s].", repositoryPath), failure);
+        }
+
+        return !done || position < bytesFetched;
+    }
+
+    private void doWait(long timeout)
+        throws InterruptedIOException
+    {
+        try
+        {
+            wait(timeout);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(String.format("Interrupted while waiting for [%s].", repositoryPath));
+        }
+    }
+
+    /**
+     * Opens the stream which reads the fetched content, starting from the beginning, while the fetch is still in
+     * progress. The stream blocks when it reaches the bytes which are not fetched yet, and ends when the fetch is
+     * completed.
+     */
+    public InputStream newInputStream()
+    {
+        return new StreamThroughInputStream();
+    }
+
+    private class StreamThroughInputStream extends InputStream
+    {
+
+        private InputStream target;
+
+        private long position;
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            byte[] b = new byte[1];
+
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b,
+                        int off,
+                        int len)
+            throws IOException
+        {
+            if (len == 0)
+            {
+                return 0;
+            }
+
+            for (;;)
+            {
+                int n = getTarget().read(b, off, len);
+                if (n > 0)
+                {
+                    position += n;
+
+                    return n;
+                }
+
+                if (!awaitProgress(position))
+                {
+                    return -1;
+                }
+            }
+        }
+
+        private InputStream getTarget()
+            throws IOException
+        {
+            if (target != null)
+            {
+                return target;
+            }
+
+            try
+            {
+                target = Files.newInputStream(file);
+            }
+            catch (NoSuchFileException e)
+            {
+                // Already moved from the temporary location, so the fetch should be completed.
+                logger.debug("Fetched [{}] has been moved into [{}].", file, repositoryPath);
+
+                target = Files.newInputStream(await());
+            }
+
+            return target;
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            if (target != null)
+            {
+                target.close();
+            }
+        }
+
+    }
+
+}
@@ -3,7 +3,10 @@ package org.carlspring.strongbox.providers.repository.proxied;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.file.Files;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
@@ -12,6 +15,7 @@ import javax.inject.Inject;
 import org.carlspring.strongbox.client.RestArtifactResolver;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.services.ArtifactManagementService;
@@ -20,6 +24,7 @@ import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
 import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -45,12 +50,48 @@ public class ProxyRepositoryArtifactResolver
     @Inject
     private ArtifactManagementService artifactManagementService;
 
+    @Value("${strongbox.proxy.streamThrough.enabled:true}")
+    private boolean streamThroughEnabled = true;
+
+    private final ConcurrentMap<URI, ProxyRepositoryArtifactFetch> fetches = new ConcurrentHashMap<>();
+
+    /**
+     * @return the fetch of the path which is currently in progress, or <code>null</code> if there is no such fetch
+     */
+    public ProxyRepositoryArtifactFetch getFetch(RepositoryPath repositoryPath)
+    {
+        return fetches.get(repositoryPath.toUri());
+    }
+
+    /**
+     * Only the HTTP downloads can serve an artifact while it's still being fetched (see
+     * {@link ProxyRepositoryArtifactFetch#newInputStream()}), all the other callers get the fetched path once it has
+     * been completed.
+     *
+     * @return the fetch of the artifact which is in progress and has started to receive the remote content, or
+     *         <code>null</code> if the artifact should be resolved as usual
+     */
+    public ProxyRepositoryArtifactFetch getStreamThroughFetch(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        if (!streamThroughEnabled || !RepositoryFiles.isArtifact(repositoryPath))
+        {
+            return null;
+        }
+
+        ProxyRepositoryArtifactFetch fetch = getFetch(repositoryPath);
+
+        return fetch != null && fetch.awaitStarted() ? fetch : null;
+    }
+
     /**
      * This method has been developed to force fetch resource from remote.
      *
      * It should not contain any local / cache existence checks.
      *
      * Update this method carefully.
+     *
+     * Concurrent fetches of the same path are not repeated, all of them get the result of the first one.
      */
     public RepositoryPath fetchRemoteResource(RepositoryPath repositoryPath)
         throws IOException
@@ -64,13 +105,54 @@ public class ProxyRepositoryArtifactResolver
             return null;
         }
 
+        URI fetchId = repositoryPath.toUri();
+        ProxyRepositoryArtifactFetch fetch = new ProxyRepositoryArtifactFetch(repositoryPath);
+        ProxyRepositoryArtifactFetch inProgressFetch = fetches.putIfAbsent(fetchId, fetch);
+        if (inProgressFetch != null)
+        {
+            logger.debug("Fetch of [{}] is already in progress, waiting for it.", repositoryPath);
+
+            return inProgressFetch.await();
+        }
+
+        try
+        {
+            RepositoryPath result = fetchRemoteResource(repositoryPath, remoteRepository, fetch);
+            fetch.complete(result);
+
+            return result;
+        }
+        catch (IOException e)
+        {
+            fetch.fail(e);
+
+            throw e;
+        }
+        catch (RuntimeException e)
+        {
+            fetch.fail(new IOException(e));
+
+            throw e;
+        }
+        finally
+        {
+            fetches.remove(fetchId, fetch);
+        }
+    }
+
+    private RepositoryPath fetchRemoteResource(RepositoryPath repositoryPath,
+                                               RemoteRepository remoteRepository,
+                                               ProxyRepositoryArtifactFetch fetch)
+        throws IOException
+    {
         RestArtifactResolver client = restArtifactResolverFactory.newInstance(remoteRepository);
 
         ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "remote-fetch");
         Lock lock = lockSource.writeLock();
         lock.lock();
 
-        try (InputStream is = new BufferedInputStream(new ProxyRepositoryInputStream(client, repositoryPath)))
+        try (InputStream is = new BufferedInputStream(fetch.track(new ProxyRepositoryInputStream(client,
+                                                                                                 repositoryPath))))
         {
             return doFetch(repositoryPath, is);
         }
@@ -1,19 +1,32 @@
 package org.carlspring.strongbox.providers.repository.proxied;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Inject;
+import javax.ws.rs.client.Client;
 
 import org.carlspring.strongbox.client.RemoteRepositoryRetryArtifactDownloadConfiguration;
 import org.carlspring.strongbox.client.RestArtifactResolver;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.event.server.ServerEvent;
+import org.carlspring.strongbox.event.server.ServerEventTypeEnum;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
 import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessService;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
+ * Creates the resolvers of the remote repositories.
+ * <br>
+ * The resolvers of a remote repository share a long-lived client (with its credentials), so that the client isn't
+ * built again for every fetch, and the kept alive connections of the pool are reused. The clients are dropped once
+ * the configuration has been changed, as the URL or the credentials of the remote repository could have been changed.
+ * The dropped clients aren't closed, as they could still be in use by the running fetches.
+ *
  * @author Przemyslaw Fusik
  */
 @Component
@@ -29,6 +42,8 @@ public class RestArtifactResolverFactory
     @Inject
     private RemoteRepositoryAlivenessService remoteRepositoryAlivenessCacheManager;
 
+    private final ConcurrentMap<String, Client> clients = new ConcurrentHashMap<>();
+
     public RestArtifactResolver newInstance(RemoteRepository repository)
     {
         Objects.requireNonNull(repository);
@@ -40,12 +55,11 @@ public class RestArtifactResolverFactory
         String username = repository.getUsername();
         String password = repository.getPassword();
         String url = repository.getUrl();
-        
-        final HttpAuthenticationFeature authenticationFeature = (username != null && password != null) ? HttpAuthenticationFeature.basic(username, password) : null;
-                
-        return new RestArtifactResolver(proxyRepositoryConnectionPoolConfigurationService.getRestClient(), url,
-                                        configuration,
-                                        authenticationFeature)
+
+        Client client = clients.computeIfAbsent(url + "\n" + username + "\n" + password,
+                                                k -> createClient(username, password));
+
+        return new RestArtifactResolver(client, url, configuration)
                                 {
                         
                                     @Override
@@ -53,8 +67,35 @@ public class RestArtifactResolverFactory
                                     {
                                         return remoteRepositoryAlivenessCacheManager.isAlive(repository);
                                     }
+
+                                    @Override
+                                    public void close()
+                                    {
+                                        // The client is shared by all the resolvers of the remote repository.
+                                    }
                         
                                 };
     }
 
+    private Client createClient(String username,
+                                String password)
+    {
+        Client client = proxyRepositoryConnectionPoolConfigurationService.getRestClient();
+        if (username != null && password != null)
+        {
+            client.register(HttpAuthenticationFeature.basic(username, password));
+        }
+
+        return client;
+    }
+
+    @EventListener
+    public void handle(final ServerEvent event)
+    {
+        if (event.getType() == ServerEventTypeEnum.EVENT_SERVER_CONFIGURATION_CHANGED.getType())
+        {
+            clients.clear();
+        }
+    }
+
 }
@@ -13,5 +13,8 @@ public interface ArtifactGroupService<T extends ArtifactGroupEntry>
 
     void addArtifactToGroup(T artifactGroup,
                             ArtifactEntry artifactEntry);
+
+    void removeArtifactFromGroup(T artifactGroup,
+                                 ArtifactEntry artifactEntry);
     
 }
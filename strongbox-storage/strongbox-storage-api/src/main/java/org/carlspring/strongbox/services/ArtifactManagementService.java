@@ -9,8 +9,6 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -31,7 +29,6 @@ import org.carlspring.strongbox.providers.layout.LayoutFileSystemProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.Storage;
-import org.carlspring.strongbox.storage.checksum.ArtifactChecksum;
 import org.carlspring.strongbox.storage.checksum.ChecksumCacheManager;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.ArtifactCoordinatesValidator;
@@ -235,34 +232,15 @@ public class ArtifactManagementService
                                     String checksumExtension)
     {
         String checksum = new String(pChecksum, StandardCharsets.UTF_8);
-        ArtifactChecksum artifactChecksum = checksumCacheManager.getArtifactChecksum(artifactBasePath);
+        boolean matches = checksumCacheManager.matchesArtifactChecksum(artifactBasePath, checksum);
 
-        if (artifactChecksum == null)
-        {
-            return false;
-        }
-
-        Map<Boolean, Set<String>> matchingMap = artifactChecksum.getChecksums()
-                                                                .entrySet()
-                                                                .stream()
-                                                                .collect(Collectors.groupingBy(e -> e.getValue()
-                                                                                                     .equals(checksum),
-                                                                                               Collectors.mapping(
-                                                                                                       e -> e.getKey(),
-                                                                                                       Collectors.toSet())));
-
-        Set<String> matched = matchingMap.get(Boolean.TRUE);
-        Set<String> unmatched = matchingMap.get(Boolean.FALSE);
-
-        logger.debug("Artifact checksum matchings: artifact-[{}]; ext-[{}]; matched-[{}];" +
-                     " unmatched-[{}]; checksum-[{}]",
+        logger.debug("Artifact checksum matching: artifact-[{}]; ext-[{}]; matches-[{}]; checksum-[{}]",
                      artifactBasePath,
                      checksumExtension,
-                     matched,
-                     unmatched,
+                     matches,
                      checksum);
 
-        return matched != null && !matched.isEmpty();
+        return matches;
     }
 
     private void addChecksumsToCacheManager(Map<String, String> digestMap,
@@ -22,4 +22,24 @@ public interface ChecksumService
                             boolean forceRegeneration)
             throws IOException;
 
+    /**
+     * Regenerate checksum for artifact using artifactPath (string), with the given number of threads and the limit
+     * of the artifact bytes read per second. An interrupted regeneration is resumed by the next regeneration of the
+     * same repository and base path.
+     *
+     * @param storageId         String
+     * @param repositoryId      String
+     * @param basePath          String
+     * @param forceRegeneration boolean
+     * @param parallelism       the number of the threads, <code>1</code> to regenerate in the calling thread
+     * @param maxBytesPerSecond the limit of the bytes read per second, or <code>0</code> for no limit
+     */
+    void regenerateChecksum(String storageId,
+                            String repositoryId,
+                            String basePath,
+                            boolean forceRegeneration,
+                            int parallelism,
+                            long maxBytesPerSecond)
+            throws IOException;
+
 }
@@ -111,14 +111,13 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
     {
         StringBuilder sb = new StringBuilder();
         sb.append("SELECT FROM ").append(getEntityClass().getSimpleName());
-        Map<String, Object> parameterMap = Collections.emptyMap();
+        Map<String, Object> parameterMap = new HashMap<>();
 
 
         if (!searchCriteria.isEmpty())
         {
             StringBuilder criteriaQueryClasuse = new StringBuilder();
             sb.append(" WHERE ");
-            parameterMap = new HashMap<>();
 
             if (searchCriteria.getMinSizeInBytes() != null && searchCriteria.getMinSizeInBytes() > 0)
             {
@@ -139,7 +138,7 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
             sb.append(criteriaQueryClasuse);
         }
 
-        appendPagingCriteria(sb, pagingCriteria);
+        appendPagingCriteria(sb, pagingCriteria, parameterMap);
 
         logger.debug("Executing SQL query> {}", sb);
 
@@ -2,10 +2,12 @@ package org.carlspring.strongbox.services.impl;
 
 import org.carlspring.strongbox.artifact.locator.ArtifactDirectoryLocator;
 import org.carlspring.strongbox.artifact.locator.handlers.ArtifactLocationGenerateChecksumOperation;
+import org.carlspring.strongbox.booters.PropertiesBooter;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.ChecksumRegeneration;
 import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.services.ChecksumService;
@@ -14,7 +16,14 @@ import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
 import java.util.Optional;
+import java.util.Properties;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +38,14 @@ public class ChecksumServiceImpl
 {
     private final Logger logger = LoggerFactory.getLogger(ChecksumServiceImpl.class);
 
+    private static final String CHECKPOINTS_DIRECTORY = "checkpoints/regenerate-checksum";
+
+    private static final String CHECKPOINT_BASE_PATH = "basePath";
+
+    private static final String CHECKPOINT_FORCE_REGENERATION = "forceRegeneration";
+
+    private static final String CHECKPOINT_STARTED_AT = "startedAt";
+
     @Inject
     private ConfigurationManager configurationManager;
     
@@ -38,12 +55,28 @@ public class ChecksumServiceImpl
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private PropertiesBooter propertiesBooter;
+
     @Override
     public void regenerateChecksum(String storageId,
                                    String repositoryId,
                                    String basePath,
                                    boolean forceRegeneration)
         throws IOException
+    {
+        regenerateChecksum(storageId, repositoryId, basePath, forceRegeneration,
+                           Runtime.getRuntime().availableProcessors(), 0);
+    }
+
+    @Override
+    public void regenerateChecksum(String storageId,
+                                   String repositoryId,
+                                   String basePath,
+                                   boolean forceRegeneration,
+                                   int parallelism,
+                                   long maxBytesPerSecond)
+        throws IOException
     {
         Storage storage = getConfiguration().getStorage(storageId);
         Repository repository = storage.getRepository(repositoryId);
@@ -60,14 +93,113 @@ public class ChecksumServiceImpl
         RepositoryPath repositoryBasePath = Optional.ofNullable(basePath)
                                                     .map(p -> repositoryPathResolver.resolve(repository, basePath))
                                                     .orElseGet(() -> repositoryPathResolver.resolve(repository));
-        
+
+        Path checkpointPath = getCheckpointPath(storageId, repositoryId);
+        long startedAt = readCheckpoint(checkpointPath, basePath, forceRegeneration);
+        if (startedAt > 0)
+        {
+            logger.info("Resuming the checksum regeneration of [{}], started at [{}].",
+                        repositoryBasePath, new Date(startedAt));
+        }
+        else
+        {
+            startedAt = System.currentTimeMillis();
+            writeCheckpoint(checkpointPath, basePath, forceRegeneration, startedAt);
+        }
+
+        ChecksumRegeneration regeneration = new ChecksumRegeneration(forceRegeneration, startedAt, maxBytesPerSecond);
+
         ArtifactLocationGenerateChecksumOperation operation = new ArtifactLocationGenerateChecksumOperation();
         operation.setBasePath(repositoryBasePath);
         operation.setForceRegeneration(forceRegeneration);
+        operation.setRegeneration(regeneration);
 
         ArtifactDirectoryLocator locator = new ArtifactDirectoryLocator();
         locator.setOperation(operation);
+        locator.setParallelism(parallelism);
         locator.locateArtifactDirectories();
+
+        Files.deleteIfExists(checkpointPath);
+
+        logger.info("Regenerated the checksums of [{}] files, skipped [{}] up to date files, read [{}] bytes in [{}].",
+                    regeneration.getRegeneratedFiles(), regeneration.getSkippedFiles(), regeneration.getReadBytes(),
+                    repositoryBasePath);
+    }
+
+    /**
+     * The checkpoint is kept until the regeneration of the repository completes, so that the regeneration interrupted
+     * by a restart can be resumed with its original start time.
+     */
+    private Path getCheckpointPath(String storageId,
+                                   String repositoryId)
+    {
+        return Paths.get(propertiesBooter.getVaultDirectory(), CHECKPOINTS_DIRECTORY, storageId,
+                         repositoryId + ".properties");
+    }
+
+    /**
+     * @return the start time of the interrupted regeneration with the same parameters, or <code>0</code> if there is
+     *         none
+     */
+    private long readCheckpoint(Path checkpointPath,
+                                String basePath,
+                                boolean forceRegeneration)
+    {
+        if (!Files.exists(checkpointPath))
+        {
+            return 0;
+        }
+
+        Properties checkpoint = new Properties();
+        try (InputStream is = Files.newInputStream(checkpointPath))
+        {
+            checkpoint.load(is);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to read the checksum regeneration checkpoint [{}].", checkpointPath, e);
+
+            return 0;
+        }
+
+        if (!String.valueOf(basePath).equals(checkpoint.getProperty(CHECKPOINT_BASE_PATH))
+                || !String.valueOf(forceRegeneration).equals(checkpoint.getProperty(CHECKPOINT_FORCE_REGENERATION)))
+        {
+            return 0;
+        }
+
+        try
+        {
+            return Long.parseLong(checkpoint.getProperty(CHECKPOINT_STARTED_AT));
+        }
+        catch (NumberFormatException e)
+        {
+            return 0;
+        }
+    }
+
+    private void writeCheckpoint(Path checkpointPath,
+                                 String basePath,
+                                 boolean forceRegeneration,
+                                 long startedAt)
+    {
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty(CHECKPOINT_BASE_PATH, String.valueOf(basePath));
+        checkpoint.setProperty(CHECKPOINT_FORCE_REGENERATION, String.valueOf(forceRegeneration));
+        checkpoint.setProperty(CHECKPOINT_STARTED_AT, String.valueOf(startedAt));
+
+        try
+        {
+            Files.createDirectories(checkpointPath.getParent());
+            try (OutputStream os = Files.newOutputStream(checkpointPath))
+            {
+                checkpoint.store(os, null);
+            }
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to write the checksum regeneration checkpoint [{}].", checkpointPath, e);
+        }
     }
 
     public Configuration getConfiguration()
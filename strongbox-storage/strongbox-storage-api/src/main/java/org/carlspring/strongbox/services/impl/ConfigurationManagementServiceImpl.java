@@ -5,6 +5,7 @@ import org.carlspring.strongbox.configuration.*;
 import org.carlspring.strongbox.event.repository.RepositoryEvent;
 import org.carlspring.strongbox.event.repository.RepositoryEventListenerRegistry;
 import org.carlspring.strongbox.event.repository.RepositoryEventTypeEnum;
+import org.carlspring.strongbox.event.server.ServerEventListenerRegistry;
 import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
@@ -20,7 +21,6 @@ import java.io.IOException;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
@@ -41,7 +41,7 @@ public class ConfigurationManagementServiceImpl
         implements ConfigurationManagementService
 {
 
-    private final ReadWriteLock configurationLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock configurationLock = new ReentrantReadWriteLock();
 
     @Inject
     private ConfigurationFileManager configurationFileManager;
@@ -49,6 +49,9 @@ public class ConfigurationManagementServiceImpl
     @Inject
     private RepositoryEventListenerRegistry repositoryEventListenerRegistry;
 
+    @Inject
+    private ServerEventListenerRegistry serverEventListenerRegistry;
+
     @Inject
     private LayoutProviderRegistry layoutProviderRegistry;
 
@@ -67,6 +70,12 @@ public class ConfigurationManagementServiceImpl
      */
     private MutableConfiguration configuration;
 
+    /**
+     * The immutable snapshot of the {@link #configuration}, which is built once per modification, so that it could be
+     * read without locking and copying.
+     */
+    private volatile ConfigurationSnapshot snapshot = new ConfigurationSnapshot(null, 0);
+
     @PostConstruct
     public void init()
     {
@@ -109,17 +118,13 @@ public class ConfigurationManagementServiceImpl
     @Override
     public Configuration getConfiguration()
     {
-        final Lock readLock = configurationLock.readLock();
-        readLock.lock();
+        return snapshot.configuration;
+    }
 
-        try
-        {
-            return new Configuration(configuration);
-        }
-        finally
-        {
-            readLock.unlock();
-        }
+    @Override
+    public long getConfigurationVersion()
+    {
+        return snapshot.version;
     }
 
     @Override
@@ -614,8 +619,41 @@ public class ConfigurationManagementServiceImpl
         }
         finally
         {
+            // The nested modifications are published by the outermost one.
+            if (configurationLock.getWriteHoldCount() == 1)
+            {
+                publishSnapshot();
+            }
+
             writeLock.unlock();
         }
+
+        if (!configurationLock.isWriteLockedByCurrentThread())
+        {
+            serverEventListenerRegistry.dispatchConfigurationChangedEvent();
+        }
+    }
+
+    private void publishSnapshot()
+    {
+        snapshot = new ConfigurationSnapshot(configuration != null ? new Configuration(configuration) : null,
+                                             snapshot.version + 1);
+    }
+
+    private static class ConfigurationSnapshot
+    {
+
+        private final Configuration configuration;
+
+        private final long version;
+
+        ConfigurationSnapshot(Configuration configuration,
+                              long version)
+        {
+            this.configuration = configuration;
+            this.version = version;
+        }
+
     }
 
 }
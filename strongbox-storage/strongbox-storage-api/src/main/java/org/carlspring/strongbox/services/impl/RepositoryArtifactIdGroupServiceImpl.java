@@ -10,10 +10,15 @@ import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -40,6 +45,16 @@ public class RepositoryArtifactIdGroupServiceImpl
     @Inject
     private ArtifactTagService artifactTagService;
 
+    /**
+     * Moves the {@link ArtifactTag#LAST_VERSION} tag with a single comparison against the
+     * {@link RepositoryArtifactIdGroupEntry#getLastVersionEntries()}, so that the cost of the upload doesn't depend on
+     * the number of the versions in the group: when the tag moves to a new version, it's removed from the files of
+     * the previous one only. The group is scanned once for the groups created before the last version entries were
+     * kept, to initialize them.
+     * <br>
+     * Only the new entry, the previous last version entries (when their tag is removed) and the group record itself
+     * are saved: the other entries of the group are left as they are, instead of being cascaded with the group.
+     */
     @Override
     public void addArtifactToGroup(RepositoryArtifactIdGroupEntry artifactGroup,
                                    ArtifactEntry artifactEntry)
@@ -49,35 +64,92 @@ public class RepositoryArtifactIdGroupServiceImpl
 
         ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
 
-        artifactEntry.getTagSet().add(lastVersionTag);
-        artifactGroup.putArtifactEntry(artifactEntry);
+        Set<ArtifactEntry> lastVersionEntries = new HashSet<>(getLastVersionEntries(artifactGroup, lastVersionTag));
+        lastVersionEntries.remove(artifactEntry);
 
-        artifactGroup.getArtifactEntries()
-                     .stream()
-                     .filter(e -> e.getTagSet().contains(lastVersionTag))
-                     .sorted((e1,
-                              e2) -> e1.getArtifactCoordinates().compareTo(e2.getArtifactCoordinates()))
-                     .forEach(e -> checkAndUpdateLastVersionTagIfNeeded(e, artifactEntry, lastVersionTag));
+        List<ArtifactEntry> previousLastVersionEntries = Collections.emptyList();
+        if (lastVersionEntries.isEmpty())
+        {
+            logger.debug("Set [{}] last version to [{}]",
+                         artifactEntry.getArtifactPath(),
+                         coordinates.getVersion());
+            artifactEntry.getTagSet().add(lastVersionTag);
+        }
+        else if (checkAndUpdateLastVersionTagIfNeeded(lastVersionEntries.iterator().next(), artifactEntry,
+                                                      lastVersionTag))
+        {
+            // The other files of the previous last version (such as the POM or the classifiers) hold the tag as well.
+            previousLastVersionEntries = new ArrayList<>(lastVersionEntries);
+            previousLastVersionEntries.forEach(e -> e.getTagSet().remove(lastVersionTag));
+            lastVersionEntries.clear();
+        }
 
+        ArtifactEntry savedArtifactEntry = (ArtifactEntry) tryToCascadeEntitySave(artifactEntry);
+        previousLastVersionEntries.forEach(this::tryToCascadeEntitySave);
 
-        save(artifactGroup);
+        if (savedArtifactEntry.getTagSet().contains(lastVersionTag))
+        {
+            lastVersionEntries.add(savedArtifactEntry);
+        }
+        artifactGroup.setLastVersionEntries(lastVersionEntries);
+        artifactGroup.putArtifactEntry(savedArtifactEntry);
+
+        identifyEntity(artifactGroup);
+        getDelegate().save(artifactGroup);
     }
 
-    private <S extends ArtifactEntry> Optional<S> checkAndUpdateLastVersionTagIfNeeded(S lastVersionEntry,
-                                                                                       S entity,
-                                                                                       ArtifactTag lastVersionTag)
+    /**
+     * Removes the entry from the group. Once the last version is removed, the group is scanned to move the
+     * {@link ArtifactTag#LAST_VERSION} tag to the files of the greatest remaining version.
+     */
+    @Override
+    public void removeArtifactFromGroup(RepositoryArtifactIdGroupEntry artifactGroup,
+                                        ArtifactEntry artifactEntry)
+    {
+        artifactGroup.removeArtifactEntry(artifactEntry);
+
+        Set<ArtifactEntry> lastVersionEntries = new HashSet<>(artifactGroup.getLastVersionEntries());
+        if (lastVersionEntries.remove(artifactEntry) && lastVersionEntries.isEmpty())
+        {
+            ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
+
+            lastVersionEntries = findLastVersionEntries(artifactGroup, e -> true);
+            for (ArtifactEntry e : lastVersionEntries)
+            {
+                if (e.getTagSet().add(lastVersionTag))
+                {
+                    logger.debug("Set [{}] last version to [{}]",
+                                 e.getArtifactPath(),
+                                 e.getArtifactCoordinates().getVersion());
+                    tryToCascadeEntitySave(e);
+                }
+            }
+        }
+        artifactGroup.setLastVersionEntries(lastVersionEntries);
+
+        identifyEntity(artifactGroup);
+        getDelegate().save(artifactGroup);
+    }
+
+    /**
+     * @return <code>true</code> if the tag has been moved from the <code>lastVersionEntry</code> to the
+     *         <code>entity</code>
+     */
+    private boolean checkAndUpdateLastVersionTagIfNeeded(ArtifactEntry lastVersionEntry,
+                                                         ArtifactEntry entity,
+                                                         ArtifactTag lastVersionTag)
     {
-        Optional<S> result = Optional.empty();
         ArtifactCoordinates coordinates = entity.getArtifactCoordinates();
 
-        int artifactCoordinatesComparison = entity.getArtifactCoordinates()
-                                                  .compareTo(lastVersionEntry.getArtifactCoordinates());
+        int artifactCoordinatesComparison = coordinates.compareTo(lastVersionEntry.getArtifactCoordinates());
         if (artifactCoordinatesComparison == 0)
         {
             logger.debug("Set [{}] last version to [{}]",
                          entity.getArtifactPath(),
                          coordinates.getVersion());
             entity.getTagSet().add(lastVersionTag);
+
+            return false;
         }
         else if (artifactCoordinatesComparison > 0)
         {
@@ -87,18 +159,59 @@ public class RepositoryArtifactIdGroupServiceImpl
                          coordinates.getVersion());
             entity.getTagSet().add(lastVersionTag);
 
-            lastVersionEntry.getTagSet().remove(lastVersionTag);
-            result = Optional.of(lastVersionEntry);
+            return true;
         }
-        else
+
+        logger.debug("Keep [{}] last version [{}]",
+                     entity.getArtifactPath(),
+                     lastVersionEntry.getArtifactCoordinates().getVersion());
+        entity.getTagSet().remove(lastVersionTag);
+
+        return false;
+    }
+
+    private Set<ArtifactEntry> getLastVersionEntries(RepositoryArtifactIdGroupEntry artifactGroup,
+                                                     ArtifactTag lastVersionTag)
+    {
+        Set<ArtifactEntry> lastVersionEntries = artifactGroup.getLastVersionEntries();
+        if (!lastVersionEntries.isEmpty() || artifactGroup.getArtifactEntries().isEmpty())
         {
-            logger.debug("Keep [{}] last version [{}]",
-                         entity.getArtifactPath(),
-                         lastVersionEntry.getArtifactCoordinates().getVersion());
-            entity.getTagSet().remove(lastVersionTag);
+            return lastVersionEntries;
+        }
+
+        logger.debug("Initialize [{}] last version entries", artifactGroup.getName());
+
+        return findLastVersionEntries(artifactGroup, e -> e.getTagSet().contains(lastVersionTag));
+    }
+
+    /**
+     * @return the entries of the greatest version among the ones which match the filter
+     */
+    private Set<ArtifactEntry> findLastVersionEntries(RepositoryArtifactIdGroupEntry artifactGroup,
+                                                      Predicate<ArtifactEntry> filter)
+    {
+        Set<ArtifactEntry> lastVersionEntries = new HashSet<>();
+        for (ArtifactEntry e : artifactGroup.getArtifactEntries())
+        {
+            if (e == null || e.getArtifactCoordinates() == null || !filter.test(e))
+            {
+                continue;
+            }
+
+            int comparison = lastVersionEntries.isEmpty() ? 1 :
+                             e.getArtifactCoordinates()
+                              .compareTo(lastVersionEntries.iterator().next().getArtifactCoordinates());
+            if (comparison > 0)
+            {
+                lastVersionEntries.clear();
+            }
+            if (comparison >= 0)
+            {
+                lastVersionEntries.add(e);
+            }
         }
 
-        return result;
+        return lastVersionEntries;
     }
 
     @Override
@@ -129,15 +242,16 @@ public class RepositoryArtifactIdGroupServiceImpl
         params.put("repositoryId", repositoryId);
 
         String sQuery = buildQuery(params);
+        Map<String, Object> parameterMap = new HashMap<>(params);
 
         StringBuilder sb = new StringBuilder(sQuery);
-        appendPagingCriteria(sb, pagingCriteria);
+        appendPagingCriteria(sb, pagingCriteria, parameterMap);
 
         logger.debug("Executing SQL query> {}", sb);
 
         OSQLSynchQuery<ArtifactEntry> oQuery = new OSQLSynchQuery<>(sb.toString());
 
-        return getDelegate().command(oQuery).execute(params);
+        return getDelegate().command(oQuery).execute(parameterMap);
     }
 
     public RepositoryArtifactIdGroupEntry findOneOrCreate(String storageId,
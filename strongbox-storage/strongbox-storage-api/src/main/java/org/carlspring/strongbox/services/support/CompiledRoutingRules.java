@@ -0,0 +1,418 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.ConfigurationUtils;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.routing.RepositoryIdentifiable;
+import org.carlspring.strongbox.storage.routing.RoutingRule;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The routing rules of a configuration, compiled into a decision table per group repository.
+ * <br>
+ * The table of a group keeps only the rules which apply to the group, merged by pattern, each pattern with the
+ * bitsets of the members it denies and accepts. The patterns are indexed by their literal prefixes, so a path is only
+ * matched against the patterns which can match it, and each of them only once, whatever the number of the members
+ * and of the rules sharing the pattern.
+ *
+ * @see <a href="https://strongbox.github.io/user-guide/artifact-routing-rules.html">Artifact Routing Rules</a>
+ */
+public class CompiledRoutingRules
+{
+
+    private static final String PATTERN_METACHARACTERS = "\\[](){}.*+?^$";
+
+    private final RoutingRules routingRules;
+
+    private final long version;
+
+    private final ConcurrentMap<String, GroupRoutingTable> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Compiles the tables of all the group repositories of the configuration.
+     */
+    public CompiledRoutingRules(Configuration configuration,
+                                long version)
+    {
+        this.routingRules = configuration.getRoutingRules();
+        this.version = version;
+
+        for (Repository groupRepository : configuration.getGroupRepositories())
+        {
+            tables.put(groupRepository.getStorageIdAndRepositoryId(), compile(configuration, groupRepository));
+        }
+    }
+
+    public long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * @param path the repository relative path
+     */
+    public RoutingDecision decide(Repository groupRepository,
+                                  String path)
+    {
+        GroupRoutingTable table = tables.get(groupRepository.getStorageIdAndRepositoryId());
+        if (table == null)
+        {
+            // Not a group of this configuration (it has been added since), so its members can't be resolved.
+            table = compile(null, groupRepository);
+        }
+
+        return table.decide(path);
+    }
+
+    private GroupRoutingTable compile(Configuration configuration,
+                                      Repository groupRepository)
+    {
+        List<RoutingRule> rules = new ArrayList<>();
+        if (routingRules != null)
+        {
+            for (RoutingRule rule : routingRules.getRules())
+            {
+                if (isMatch(rule, groupRepository))
+                {
+                    rules.add(rule);
+                }
+            }
+        }
+
+        Map<String, Integer> memberIndexes = new HashMap<>();
+        List<Repository> members = new ArrayList<>();
+        for (String storageAndRepositoryId : groupRepository.getGroupRepositories())
+        {
+            String sId = ConfigurationUtils.getStorageId(groupRepository.getStorage().getId(), storageAndRepositoryId);
+            String rId = ConfigurationUtils.getRepositoryId(storageAndRepositoryId);
+
+            Storage storage = configuration != null ? configuration.getStorage(sId) : null;
+            Repository member = storage != null ? storage.getRepository(rId) : null;
+            if (member != null && !memberIndexes.containsKey(member.getStorageIdAndRepositoryId()))
+            {
+                memberIndexes.put(member.getStorageIdAndRepositoryId(), members.size());
+                members.add(member);
+            }
+        }
+
+        Map<String, PatternEntry> entries = new LinkedHashMap<>();
+        for (RoutingRule rule : rules)
+        {
+            BitSet ruleMembers = new BitSet(members.size());
+            for (int i = 0; i < members.size(); i++)
+            {
+                if (appliesTo(rule, members.get(i)))
+                {
+                    ruleMembers.set(i);
+                }
+            }
+
+            PatternEntry entry = entries.computeIfAbsent(rule.getPattern(), p -> new PatternEntry(rule.getRegex()));
+            if (rule.isDeny())
+            {
+                entry.deniedMembers.or(ruleMembers);
+            }
+            else if (rule.isAccept())
+            {
+                entry.acceptedMembers.or(ruleMembers);
+            }
+        }
+
+        return new GroupRoutingTable(rules, memberIndexes, new ArrayList<>(entries.values()));
+    }
+
+    /**
+     * @return <code>true</code> if the rule applies to the member of the group, whatever the path
+     */
+    private static boolean appliesTo(RoutingRule rule,
+                                     Repository subRepository)
+    {
+        // an empty collection means the rule is applied to **all** repositories in the group.
+        if (rule.getRepositories().isEmpty())
+        {
+            return true;
+        }
+
+        return rule.getRepositories().stream().anyMatch(r -> isMatch(r, subRepository));
+    }
+
+    private static boolean isMatch(RepositoryIdentifiable rule,
+                                   Repository repository)
+    {
+        boolean result = false;
+
+        // exact match == storageId:repositoryId
+        if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), repository.getStorageIdAndRepositoryId()))
+        {
+            result = true;
+        }
+        // wildcard == *:*
+        else if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), StringUtils.EMPTY))
+        {
+            result = true;
+        }
+        // wildcard == storageId:*
+        else if (equalsIgnoreCase(rule.getRepositoryId(), StringUtils.EMPTY) &&
+                 equalsIgnoreCase(rule.getStorageId(), repository.getStorage().getId()))
+        {
+            result = true;
+        }
+        // wildcard == *:repositoryId
+        else if (equalsIgnoreCase(rule.getStorageId(), StringUtils.EMPTY) &&
+                 equalsIgnoreCase(rule.getRepositoryId(), repository.getId()))
+        {
+            result = true;
+        }
+
+        return result;
+    }
+
+    private static boolean equalsIgnoreCase(final String a,
+                                            final String b)
+    {
+        return StringUtils.trimToEmpty(a).equalsIgnoreCase(StringUtils.trimToEmpty(b));
+    }
+
+    /**
+     * Evaluates the rules one by one, as they were evaluated before they were compiled.
+     */
+    static boolean isDeniedByScanning(RoutingRules routingRules,
+                                      Repository groupRepository,
+                                      Repository subRepository,
+                                      String path)
+    {
+        return hasCandidates(groupRepository, subRepository, path, routingRules.getDenied()) &&
+               !hasCandidates(groupRepository, subRepository, path, routingRules.getAccepted());
+    }
+
+    private static boolean hasCandidates(Repository groupRepository,
+                                         Repository subRepository,
+                                         String path,
+                                         List<RoutingRule> routingRules)
+    {
+        return routingRules.stream()
+                           .anyMatch(rule -> isMatch(rule, groupRepository) &&
+                                             rule.getRegex().matcher(path).matches() &&
+                                             appliesTo(rule, subRepository));
+    }
+
+    /**
+     * @return the literal prefix, which all the paths matched by the pattern start with
+     */
+    static String getLiteralPrefix(String pattern)
+    {
+        // The alternatives could start with different prefixes.
+        if (pattern.indexOf('|') >= 0)
+        {
+            return StringUtils.EMPTY;
+        }
+
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++)
+        {
+            char c = pattern.charAt(i);
+            if (PATTERN_METACHARACTERS.indexOf(c) >= 0)
+            {
+                // The last literal character is optional.
+                if ((c == '*' || c == '?' || c == '{') && prefix.length() > 0)
+                {
+                    prefix.setLength(prefix.length() - 1);
+                }
+                break;
+            }
+            prefix.append(c);
+        }
+
+        return prefix.toString();
+    }
+
+    /**
+     * The rules which apply to a path requested from a group repository.
+     */
+    public static class RoutingDecision
+    {
+
+        private final GroupRoutingTable table;
+
+        private final String path;
+
+        private final BitSet deniedMembers;
+
+        private RoutingDecision(GroupRoutingTable table,
+                                String path,
+                                BitSet deniedMembers)
+        {
+            this.table = table;
+            this.path = path;
+            this.deniedMembers = deniedMembers;
+        }
+
+        public boolean isDenied(Repository subRepository)
+        {
+            Integer index = table.memberIndexes.get(subRepository.getStorageIdAndRepositoryId());
+            if (index == null)
+            {
+                // Not a member of the group in the compiled configuration.
+                return table.isDeniedByScanning(subRepository, path);
+            }
+
+            return deniedMembers.get(index);
+        }
+
+    }
+
+    private static class PatternEntry
+    {
+
+        private final Pattern regex;
+
+        private final BitSet deniedMembers = new BitSet();
+
+        private final BitSet acceptedMembers = new BitSet();
+
+        private PatternEntry(Pattern regex)
+        {
+            this.regex = regex;
+        }
+
+    }
+
+    private static class GroupRoutingTable
+    {
+
+        private final List<RoutingRule> rules;
+
+        private final Map<String, Integer> memberIndexes;
+
+        private final List<PatternEntry> entries;
+
+        private final PrefixNode prefixes = new PrefixNode();
+
+        private GroupRoutingTable(List<RoutingRule> rules,
+                                  Map<String, Integer> memberIndexes,
+                                  List<PatternEntry> entries)
+        {
+            this.rules = rules;
+            this.memberIndexes = memberIndexes;
+            this.entries = entries;
+
+            for (int i = 0; i < entries.size(); i++)
+            {
+                PatternEntry entry = entries.get(i);
+                if (!entry.deniedMembers.isEmpty() || !entry.acceptedMembers.isEmpty())
+                {
+                    prefixes.add(getLiteralPrefix(entry.regex.pattern()), i);
+                }
+            }
+        }
+
+        private RoutingDecision decide(String path)
+        {
+            BitSet deniedMembers = new BitSet();
+            BitSet acceptedMembers = new BitSet();
+
+            PrefixNode node = prefixes;
+            for (int i = 0; node != null; i++)
+            {
+                for (int index : node.entries)
+                {
+                    PatternEntry entry = entries.get(index);
+                    if (!isSubset(entry.deniedMembers, deniedMembers) ||
+                        !isSubset(entry.acceptedMembers, acceptedMembers))
+                    {
+                        if (entry.regex.matcher(path).matches())
+                        {
+                            deniedMembers.or(entry.deniedMembers);
+                            acceptedMembers.or(entry.acceptedMembers);
+                        }
+                    }
+                }
+
+                node = i < path.length() ? node.children.get(path.charAt(i)) : null;
+            }
+
+            deniedMembers.andNot(acceptedMembers);
+
+            return new RoutingDecision(this, path, deniedMembers);
+        }
+
+        private boolean isDeniedByScanning(Repository subRepository,
+                                           String path)
+        {
+            boolean denied = false;
+            for (RoutingRule rule : rules)
+            {
+                if (!appliesTo(rule, subRepository) || !rule.getRegex().matcher(path).matches())
+                {
+                    continue;
+                }
+                if (rule.isAccept())
+                {
+                    return false;
+                }
+                denied |= rule.isDeny();
+            }
+
+            return denied;
+        }
+
+        private static boolean isSubset(BitSet subset,
+                                        BitSet set)
+        {
+            for (int i = subset.nextSetBit(0); i >= 0; i = subset.nextSetBit(i + 1))
+            {
+                if (!set.get(i))
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+    private static class PrefixNode
+    {
+
+        private Map<Character, PrefixNode> children = Collections.emptyMap();
+
+        private List<Integer> entries = Collections.emptyList();
+
+        private void add(String prefix,
+                         int entry)
+        {
+            PrefixNode node = this;
+            for (int i = 0; i < prefix.length(); i++)
+            {
+                if (node.children.isEmpty())
+                {
+                    node.children = new HashMap<>();
+                }
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new PrefixNode());
+            }
+
+            if (node.entries.isEmpty())
+            {
+                node.entries = new ArrayList<>();
+            }
+            node.entries.add(entry);
+        }
+
+    }
+
+}
@@ -0,0 +1,207 @@
+package org.carlspring.strongbox.storage.cache;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Base class of the in-memory caches, which are invalidated by key (such as a package, or a directory), and which
+ * keep several values for each key (such as the documents of the package in each repository).
+ * <br>
+ * The values are usually built from the repository state without holding any locks, so the generation of the key
+ * should be taken with {@link #getGeneration(String)} before a value is built, and passed to
+ * {@link #put(String, long, String, Object)}. Once the key has been invalidated in the meantime, the value is dropped,
+ * so that a value which could have been built from the outdated state is never cached. The generations are kept by
+ * key, so the invalidation of a key doesn't affect the values being built for the other keys.
+ *
+ * @param <V> the type of the cached values
+ */
+public abstract class GenerationGuardedCache<V>
+{
+
+    /**
+     * The values by key and by sub key.
+     */
+    private final ConcurrentMap<String, Values<V>> values = new ConcurrentHashMap<>();
+
+    /**
+     * The source of the key generations, which only advances once the values of a key are (re)created.
+     */
+    private final AtomicLong generations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @return the value, or <code>null</code> if it isn't cached or has expired
+     */
+    protected V get(String key,
+                    String subKey)
+    {
+        Values<V> keyValues = isEnabled() ? values.get(key) : null;
+        V value = keyValues == null ? null : keyValues.values.get(subKey);
+        if (value == null || isExpired(value))
+        {
+            misses.increment();
+
+            return null;
+        }
+        hits.increment();
+
+        return value;
+    }
+
+    /**
+     * Caches the value, unless the key has been invalidated (or evicted) since the generation was taken.
+     */
+    protected void put(String key,
+                       long generation,
+                       String subKey,
+                       V value)
+    {
+        compute(key, generation, subKey, (k, v) -> value);
+    }
+
+    /**
+     * Computes the value, unless the key has been invalidated (or evicted) since the generation was taken.
+     *
+     * @param remappingFunction the function which is called with the current value, or with <code>null</code> if it
+     *                          isn't cached or has expired
+     * @return the new value, or <code>null</code> if the key has been invalidated
+     */
+    protected V compute(String key,
+                        long generation,
+                        String subKey,
+                        BiFunction<String, V, V> remappingFunction)
+    {
+        Values<V> keyValues = isEnabled() ? values.get(key) : null;
+
+        // Invalidated concurrently, so the value could have been built from the outdated state.
+        if (keyValues == null || keyValues.generation != generation)
+        {
+            return null;
+        }
+
+        return keyValues.values.compute(subKey,
+                                        (k, v) -> remappingFunction.apply(k, v == null || isExpired(v) ? null : v));
+    }
+
+    public long getGeneration(String key)
+    {
+        Values<V> keyValues = values.get(key);
+        if (keyValues == null)
+        {
+            evictIfNeeded();
+
+            keyValues = values.computeIfAbsent(key, k -> new Values<>(generations.incrementAndGet()));
+        }
+
+        return keyValues.generation;
+    }
+
+    public void invalidate(String key)
+    {
+        values.remove(key);
+    }
+
+    public void invalidateAll()
+    {
+        values.clear();
+    }
+
+    /**
+     * @return whether the artifact event changes the repository contents, so that the cached values should be
+     *         invalidated
+     */
+    protected static boolean isModification(int type)
+    {
+        return type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType() ||
+               type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType() ||
+               type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_FETCHED_FROM_REMOTE.getType() ||
+               type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_MOVED.getType() ||
+               type == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType();
+    }
+
+    private boolean isExpired(V value)
+    {
+        long ttl = getTtl();
+
+        return ttl > 0 && System.currentTimeMillis() - getCreated(value) > TimeUnit.SECONDS.toMillis(ttl);
+    }
+
+    /**
+     * The eviction is approximate: about a tenth of the keys, in the hash order, are dropped once the cache is full.
+     */
+    private void evictIfNeeded()
+    {
+        int maxSize = getMaxSize();
+        if (values.size() < maxSize)
+        {
+            return;
+        }
+
+        int toEvict = Math.max(1, maxSize / 10);
+        for (Iterator<String> i = values.keySet().iterator(); i.hasNext() && toEvict > 0; toEvict--)
+        {
+            i.next();
+            i.remove();
+        }
+    }
+
+    public abstract boolean isEnabled();
+
+    /**
+     * @return the maximum number of keys
+     */
+    protected abstract int getMaxSize();
+
+    /**
+     * @return the time to live of the values, in seconds, or <code>0</code> if they don't expire
+     */
+    protected abstract long getTtl();
+
+    /**
+     * @return the creation time of the value, in milliseconds
+     */
+    protected abstract long getCreated(V value);
+
+    public int getSize()
+    {
+        return values.size();
+    }
+
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * The values of a key, which are dropped together once the key is invalidated.
+     */
+    private static class Values<V>
+    {
+
+        private final long generation;
+
+        private final ConcurrentMap<String, V> values = new ConcurrentHashMap<>();
+
+        Values(long generation)
+        {
+            this.generation = generation;
+        }
+
+    }
+
+}
@@ -1,10 +1,11 @@
 package org.carlspring.strongbox.storage.checksum;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,11 @@ import org.slf4j.LoggerFactory;
  * - a checksum is not claimed within cachedChecksumLifetime, trigger an event and log
  * this, then remove the checksum from the cache. (If this checksums set is empty,
  * remove the respective Checksum from the cachedChecksums).
+ * <p>
+ * The cache is safe for the concurrent uploads without a global lock: the entries are only locked per key (by the
+ * {@link ConcurrentHashMap} bins). Expired entries are treated as absent on lookup, and they are swept by the
+ * writers once every cachedChecksumExpiredCheckInterval, so no monitor thread is required. The number of cached
+ * artifacts is bounded by maxSize.
  *
  * @author mtodorov
  */
@@ -37,20 +43,37 @@ public class ChecksumCacheManager
      * Key:     Artifact path
      * Value:   Artifact checksum.
      */
-    private Map<String, ArtifactChecksum> cachedChecksums = new LinkedHashMap<>();
+    private final ConcurrentMap<String, ArtifactChecksum> cachedChecksums = new ConcurrentHashMap<>();
 
     /**
      * Specifies how long to keep the cached checksums.
      * <p>
      * The default is five minutes.
      */
-    private long cachedChecksumLifetime = 5 * 60000;
+    private volatile long cachedChecksumLifetime = 5 * 60000;
 
     /**
      * Specifies at what interval to check if the checksums have expired.
      * The default is to check once every minute.
      */
-    private long cachedChecksumExpiredCheckInterval = 60000L;
+    private volatile long cachedChecksumExpiredCheckInterval = 60000L;
+
+    /**
+     * Specifies the maximum number of the cached artifact paths.
+     */
+    private volatile int maxSize = 100000;
+
+    private final AtomicLong nextExpiredCheck = new AtomicLong(System.currentTimeMillis() + 60000L);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder mismatches = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
 
 
     public ChecksumCacheManager()
@@ -59,7 +82,7 @@ public class ChecksumCacheManager
 
     public boolean containsArtifactPath(String artifactPath)
     {
-        final boolean containsChecksum = cachedChecksums.containsKey(artifactPath);
+        final boolean containsChecksum = getArtifactChecksum(artifactPath) != null;
         if (containsChecksum)
         {
             logger.debug("Cache contains artifact path '{}'.", artifactPath);
@@ -71,12 +94,12 @@ public class ChecksumCacheManager
     public String getArtifactChecksum(String artifactBasePath,
                                       String algorithm)
     {
-        if (!cachedChecksums.containsKey(artifactBasePath))
+        final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
+        if (artifactChecksum == null)
         {
             return null;
         }
 
-        final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
         final String checksum = artifactChecksum.getChecksum(algorithm);
         if (checksum != null)
         {
@@ -88,40 +111,98 @@ public class ChecksumCacheManager
 
     public ArtifactChecksum getArtifactChecksum(String artifactBasePath)
     {
-        return cachedChecksums.get(artifactBasePath);
+        ArtifactChecksum artifactChecksum = cachedChecksums.get(artifactBasePath);
+        if (artifactChecksum == null)
+        {
+            return null;
+        }
+
+        if (isExpired(artifactChecksum, System.currentTimeMillis()))
+        {
+            expire(artifactBasePath, artifactChecksum);
+
+            return null;
+        }
+
+        return artifactChecksum;
     }
 
     public boolean validateChecksum(String artifactPath,
                                     String algorithm,
                                     String checksum)
     {
-        return getArtifactChecksum(artifactPath, algorithm).equals(checksum);
+        return checksum.equals(getArtifactChecksum(artifactPath, algorithm));
     }
 
-    public synchronized void addArtifactChecksum(String artifactBasePath,
-                                                 String algorithm,
-                                                 String checksum)
+    /**
+     * Checks whether the uploaded checksum matches any of the checksums cached for the artifact, and records the
+     * result in the cache metrics.
+     *
+     * @return <code>true</code> if the checksum matches, <code>false</code> if it doesn't or there are no checksums
+     *         cached for the artifact
+     */
+    public boolean matchesArtifactChecksum(String artifactBasePath,
+                                           String checksum)
     {
-        logger.debug("Adding checksum '{}' [{}] for '{}' in cache.", checksum, algorithm, artifactBasePath);
-
-        if (cachedChecksums.containsKey(artifactBasePath))
+        ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
+        if (artifactChecksum == null)
         {
-            final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
-            artifactChecksum.addChecksum(algorithm, checksum);
+            misses.increment();
+
+            return false;
         }
-        else
+
+        if (artifactChecksum.getChecksums().containsValue(checksum))
         {
-            ArtifactChecksum artifactChecksum = new ArtifactChecksum();
+            hits.increment();
+
+            return true;
+        }
+
+        mismatches.increment();
+        logger.debug("Artifact checksum mismatch: artifact-[{}]; cached-[{}]; checksum-[{}]",
+                     artifactBasePath,
+                     artifactChecksum,
+                     checksum);
+
+        return false;
+    }
+
+    public void addArtifactChecksum(String artifactBasePath,
+                                    String algorithm,
+                                    String checksum)
+    {
+        logger.debug("Adding checksum '{}' [{}] for '{}' in cache.", checksum, algorithm, artifactBasePath);
+
+        long now = System.currentTimeMillis();
+        cachedChecksums.compute(artifactBasePath, (k, artifactChecksum) -> {
+            if (artifactChecksum == null || isExpired(artifactChecksum, now))
+            {
+                if (artifactChecksum != null)
+                {
+                    expirations.increment();
+                }
+                artifactChecksum = new ArtifactChecksum();
+            }
             artifactChecksum.addChecksum(algorithm, checksum);
 
-            cachedChecksums.put(artifactBasePath, artifactChecksum);
+            return artifactChecksum;
+        });
+
+        if (now >= nextExpiredCheck.get())
+        {
+            removeExpiredChecksums();
+        }
+        if (cachedChecksums.size() > maxSize)
+        {
+            evict();
         }
     }
 
-    public synchronized void removeArtifactChecksum(String artifactBasePath,
-                                                    String algorithm)
+    public void removeArtifactChecksum(String artifactBasePath,
+                                       String algorithm)
     {
-        Optional.ofNullable(getArtifactChecksum(artifactBasePath)).map(ac -> {
+        cachedChecksums.computeIfPresent(artifactBasePath, (k, ac) -> {
             logger.debug(ac.removeChecksum(algorithm)
                            .map(c -> String.format("Removed [%s] artifact checksum value [%s] from cache.",
                                                    artifactBasePath,
@@ -129,40 +210,74 @@ public class ChecksumCacheManager
                            .orElseGet(() -> String.format("Checksum algorithm [%s] not found for [%s] in cache.",
                                                           algorithm,
                                                           artifactBasePath)));
-            return ac;
-        }).filter(ac -> ac.getChecksums().isEmpty()).ifPresent(ac -> cachedChecksums.values().remove(ac));
-    }
 
-    public synchronized void removeArtifactChecksum(String artifactBasePath)
-    {
-        Optional.ofNullable(cachedChecksums.remove(artifactBasePath))
-                .ifPresent(ac -> logger.debug("Removed [{}] artifact checksum value [{}] from cache.",
-                                              artifactBasePath, ac));
+            return ac.getChecksums().isEmpty() ? null : ac;
+        });
     }
 
-    public synchronized void removeExpiredChecksums()
+    public void removeArtifactChecksum(String artifactBasePath)
     {
-        for (String checksum : getExpiredChecksums())
+        ArtifactChecksum ac = cachedChecksums.remove(artifactBasePath);
+        if (ac != null)
         {
-            removeArtifactChecksum(checksum);
+            logger.debug("Removed [{}] artifact checksum value [{}] from cache.", artifactBasePath, ac);
         }
     }
 
-    private Set<String> getExpiredChecksums()
+    public void removeExpiredChecksums()
     {
-        Set<String> expiredChecksums = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+        nextExpiredCheck.set(now + cachedChecksumExpiredCheckInterval);
 
         for (Map.Entry<String, ArtifactChecksum> artifactChecksumEntry : cachedChecksums.entrySet())
         {
             ArtifactChecksum checksum = artifactChecksumEntry.getValue();
 
-            if (System.currentTimeMillis() - checksum.getLastAccessed() > cachedChecksumLifetime)
+            if (isExpired(checksum, now))
             {
-                expiredChecksums.add(artifactChecksumEntry.getKey());
+                expire(artifactChecksumEntry.getKey(), checksum);
             }
         }
+    }
+
+    private boolean isExpired(ArtifactChecksum checksum,
+                              long now)
+    {
+        return now - checksum.getLastAccessed() > cachedChecksumLifetime;
+    }
+
+    private void expire(String artifactBasePath,
+                        ArtifactChecksum checksum)
+    {
+        if (cachedChecksums.remove(artifactBasePath, checksum))
+        {
+            expirations.increment();
+            logger.debug("Checksums [{}] for [{}] were not claimed within [{}] ms, removed from cache.",
+                         checksum, artifactBasePath, cachedChecksumLifetime);
+        }
+    }
 
-        return expiredChecksums;
+    /**
+     * Drops the expired entries first, and then, if the cache is still full, about a tenth of the entries in the hash
+     * order, which is cheaper than keeping them ordered by the access time.
+     */
+    private void evict()
+    {
+        removeExpiredChecksums();
+
+        int toEvict = cachedChecksums.size() - maxSize;
+        if (toEvict <= 0)
+        {
+            return;
+        }
+        toEvict += maxSize / 10;
+
+        for (Iterator<String> i = cachedChecksums.keySet().iterator(); i.hasNext() && toEvict > 0; toEvict--)
+        {
+            i.next();
+            i.remove();
+            evictions.increment();
+        }
     }
 
     public long getCachedChecksumLifetime()
@@ -183,6 +298,17 @@ public class ChecksumCacheManager
     public void setCachedChecksumExpiredCheckInterval(long cachedChecksumExpiredCheckInterval)
     {
         this.cachedChecksumExpiredCheckInterval = cachedChecksumExpiredCheckInterval;
+        this.nextExpiredCheck.set(System.currentTimeMillis() + cachedChecksumExpiredCheckInterval);
+    }
+
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize)
+    {
+        this.maxSize = maxSize;
     }
 
     public long getSize()
@@ -190,6 +316,31 @@ public class ChecksumCacheManager
         return cachedChecksums.size();
     }
 
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    public long getMismatches()
+    {
+        return mismatches.sum();
+    }
+
+    public long getExpirations()
+    {
+        return expirations.sum();
+    }
+
+    public long getEvictions()
+    {
+        return evictions.sum();
+    }
+
     public void startMonitor()
     {
         new CachedChecksumExpirer();
@@ -201,6 +352,7 @@ public class ChecksumCacheManager
 
         private CachedChecksumExpirer()
         {
+            setDaemon(true);
             start();
         }
 
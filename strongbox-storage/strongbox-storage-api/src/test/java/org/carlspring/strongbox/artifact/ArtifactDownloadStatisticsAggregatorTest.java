@@ -0,0 +1,77 @@
+package org.carlspring.strongbox.artifact;
+
+import org.carlspring.strongbox.artifact.ArtifactDownloadStatisticsAggregator.ArtifactDownload;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Pair;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArtifactDownloadStatisticsAggregatorTest
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    private static final String REPOSITORY_ID = "releases";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/test/hot-artifact/1.0/hot-artifact-1.0.jar";
+
+    @Test
+    public void testConcurrentDownloadsAreAggregated()
+        throws Exception
+    {
+        ArtifactDownloadStatisticsAggregator aggregator = new ArtifactDownloadStatisticsAggregator();
+
+        int threads = 8;
+        int downloadsPerThread = 10000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++)
+        {
+            executor.execute(() -> {
+                for (int j = 0; j < downloadsPerThread; j++)
+                {
+                    aggregator.recordDownload(STORAGE_ID, REPOSITORY_ID, ARTIFACT_PATH);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(aggregator.getPendingDownloads()).isEqualTo(threads * downloadsPerThread);
+
+        Map<Pair<String, String>, List<ArtifactDownload>> downloads = aggregator.drain();
+        List<ArtifactDownload> repositoryDownloads = downloads.get(Pair.with(STORAGE_ID, REPOSITORY_ID));
+
+        assertThat(repositoryDownloads).hasSize(1);
+        assertThat(repositoryDownloads.get(0).getArtifactPath()).isEqualTo(ARTIFACT_PATH);
+        assertThat(repositoryDownloads.get(0).getCount()).isEqualTo(threads * downloadsPerThread);
+        assertThat(repositoryDownloads.get(0).getLastUsed()).isPositive();
+        assertThat(aggregator.getPendingDownloads()).isZero();
+    }
+
+    @Test
+    public void testIdleCountersAreRetired()
+    {
+        ArtifactDownloadStatisticsAggregator aggregator = new ArtifactDownloadStatisticsAggregator();
+
+        aggregator.recordDownload(STORAGE_ID, REPOSITORY_ID, ARTIFACT_PATH);
+        assertThat(aggregator.drain()).hasSize(1);
+
+        // Nothing was downloaded since the last drain, so the counter should be retired.
+        assertThat(aggregator.drain()).isEmpty();
+
+        aggregator.recordDownload(STORAGE_ID, REPOSITORY_ID, ARTIFACT_PATH);
+        aggregator.recordDownload(STORAGE_ID, REPOSITORY_ID, ARTIFACT_PATH);
+
+        List<ArtifactDownload> downloads = aggregator.drain().get(Pair.with(STORAGE_ID, REPOSITORY_ID));
+        assertThat(downloads).hasSize(1);
+        assertThat(downloads.get(0).getCount()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,185 @@
+package org.carlspring.strongbox.artifact.locator;
+
+import org.carlspring.strongbox.artifact.locator.handlers.AbstractArtifactLocationHandler;
+import org.carlspring.strongbox.booters.PropertiesBooter;
+import org.carlspring.strongbox.providers.io.LayoutFileSystem;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.RepositoryData;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.testing.NullFileSystem;
+import org.carlspring.strongbox.testing.NullFileSystemProvider;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.FileSystemUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArtifactDirectoryLocatorTest
+{
+
+    private static final Path REPOSITORY_BASEDIR = Paths.get("target/strongbox-vault/storages/storage0/adlt-releases")
+                                                        .toAbsolutePath();
+
+    private static final String METADATA = "maven-metadata.xml";
+
+    private static final List<String> ARTIFACT_DIRECTORIES = Stream.of("org/carlspring/foo",
+                                                                       "org/carlspring/bar",
+                                                                       "org/carlspring/commons/baz",
+                                                                       "com/example/qux")
+                                                                   .collect(Collectors.toList());
+
+    /**
+     * The root, <code>org</code>, <code>org/carlspring</code>, <code>org/carlspring/commons</code>, <code>com</code>,
+     * <code>com/example</code>, and the artifact directories with three versions each.
+     */
+    private static final int DIRECTORIES = 6 + 4 * 4;
+
+    private RepositoryPath rootPath;
+
+    @BeforeEach
+    public void setup()
+        throws IOException
+    {
+        FileSystemUtils.deleteRecursively(REPOSITORY_BASEDIR);
+
+        for (String artifactDirectory : ARTIFACT_DIRECTORIES)
+        {
+            for (String version : new String[]{ "1.0", "1.1", "2.0" })
+            {
+                Path versionDirectory = Files.createDirectories(REPOSITORY_BASEDIR.resolve(artifactDirectory)
+                                                                                  .resolve(version));
+                Files.createFile(versionDirectory.resolve(METADATA));
+            }
+            Files.createFile(REPOSITORY_BASEDIR.resolve(artifactDirectory).resolve(METADATA));
+        }
+
+        RepositoryDto repository = new RepositoryDto();
+        repository.setBasedir(REPOSITORY_BASEDIR.toString());
+
+        LayoutFileSystem fileSystem = new NullFileSystem(new PropertiesBooter(),
+                                                         new RepositoryData(repository),
+                                                         FileSystems.getDefault(),
+                                                         new NullFileSystemProvider(
+                                                                 FileSystems.getDefault().provider()));
+        rootPath = fileSystem.getRootDirectory();
+    }
+
+    @AfterEach
+    public void cleanup()
+        throws IOException
+    {
+        FileSystemUtils.deleteRecursively(REPOSITORY_BASEDIR);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4 })
+    public void testArtifactDirectoriesAreVisitedOnce(int parallelism)
+        throws IOException
+    {
+        ClaimingOperation operation = new ClaimingOperation();
+
+        ArtifactDirectoryLocator locator = new ArtifactDirectoryLocator();
+        locator.setBasedir(rootPath);
+        locator.setOperation(operation);
+        locator.setParallelism(parallelism);
+        locator.locateArtifactDirectories();
+
+        Set<String> expectedDirectories = ARTIFACT_DIRECTORIES.stream()
+                                                              .map(this::relativize)
+                                                              .collect(Collectors.toSet());
+
+        // Every directory is executed once, and every artifact directory is claimed once.
+        assertThat(operation.executions.values()).allMatch(count -> count.get() == 1);
+        assertThat(operation.executions).hasSize(DIRECTORIES);
+        assertThat(operation.claims.keySet()).isEqualTo(expectedDirectories);
+        assertThat(operation.claims.values()).allMatch(count -> count.get() == 1);
+
+        // The claims are released once the subtrees have been visited, not only at the end of the walk.
+        assertThat(operation.released).containsAll(expectedDirectories);
+        assertThat(operation.getVisitedRootPaths()).isEmpty();
+        assertThat(locator.getVisitedDirectories()).isEqualTo(DIRECTORIES);
+    }
+
+    private String relativize(Object path)
+    {
+        return path instanceof RepositoryPath ? ((RepositoryPath) path).relativize().toString() : path.toString();
+    }
+
+    /**
+     * Claims the directories which contain the metadata, but not the version directories within the claimed ones.
+     */
+    private class ClaimingOperation
+            extends AbstractArtifactLocationHandler
+    {
+
+        private final ConcurrentMap<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<String, AtomicInteger> claims = new ConcurrentHashMap<>();
+
+        private final Set<String> released = ConcurrentHashMap.newKeySet();
+
+        private final Map<RepositoryPath, List<RepositoryPath>> visitedRootPaths = new ConcurrentHashMap<RepositoryPath,
+                List<RepositoryPath>>()
+        {
+
+            @Override
+            public List<RepositoryPath> remove(Object key)
+            {
+                List<RepositoryPath> claim = super.remove(key);
+                if (claim != null)
+                {
+                    released.add(relativize(key));
+                }
+
+                return claim;
+            }
+
+        };
+
+        @Override
+        public void execute(RepositoryPath path)
+        {
+            executions.computeIfAbsent(relativize(path), k -> new AtomicInteger()).incrementAndGet();
+
+            if (!Files.exists(path.resolve(METADATA)) || isWithinClaimedDirectory(path))
+            {
+                return;
+            }
+
+            if (getVisitedRootPaths().putIfAbsent(path, Collections.emptyList()) == null)
+            {
+                claims.computeIfAbsent(relativize(path), k -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+
+        private boolean isWithinClaimedDirectory(RepositoryPath path)
+        {
+            return getVisitedRootPaths().keySet().stream().anyMatch(claimed -> path.startsWith(claimed));
+        }
+
+        @Override
+        public Map<RepositoryPath, List<RepositoryPath>> getVisitedRootPaths()
+        {
+            return visitedRootPaths;
+        }
+
+    }
+
+}
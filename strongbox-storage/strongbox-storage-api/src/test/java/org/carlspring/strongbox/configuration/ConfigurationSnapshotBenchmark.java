@@ -0,0 +1,93 @@
+package org.carlspring.strongbox.configuration;
+
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of a repository lookup through the configuration, when the immutable {@link Configuration} is copied on every
+ * read (as it used to be) and when the snapshot is published once per modification.
+ * <br>
+ * The allocation per lookup is reported by the GC profiler as <code>gc.alloc.rate.norm</code>. It isn't run with the
+ * tests, run it with the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationSnapshotBenchmark
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    @Param({ "10", "100", "500" })
+    private int repositories;
+
+    private MutableConfiguration mutableConfiguration;
+
+    private volatile Configuration snapshot;
+
+    private String repositoryId;
+
+    @Setup
+    public void setup()
+    {
+        StorageDto storage = new StorageDto(STORAGE_ID);
+        for (int i = 0; i < repositories; i++)
+        {
+            RepositoryDto repository = new RepositoryDto("repository-" + i);
+            repository.setType(RepositoryTypeEnum.HOSTED.getType());
+            repository.setLayout("Maven 2");
+            repository.setStorage(storage);
+            storage.addRepository(repository);
+        }
+
+        mutableConfiguration = new MutableConfiguration();
+        mutableConfiguration.addStorage(storage);
+
+        snapshot = new Configuration(mutableConfiguration);
+        repositoryId = "repository-" + (repositories / 2);
+    }
+
+    @Benchmark
+    public Repository copyOnRead()
+    {
+        return new Configuration(mutableConfiguration).getStorage(STORAGE_ID).getRepository(repositoryId);
+    }
+
+    @Benchmark
+    public Repository snapshotRead()
+    {
+        return snapshot.getStorage(STORAGE_ID).getRepository(repositoryId);
+    }
+
+    public static void main(String[] args)
+        throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(ConfigurationSnapshotBenchmark.class.getSimpleName())
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+
+}
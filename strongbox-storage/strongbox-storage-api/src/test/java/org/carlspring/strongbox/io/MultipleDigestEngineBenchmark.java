@@ -0,0 +1,127 @@
+package org.carlspring.strongbox.io;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of the artifact checksum calculation, for the single algorithms and for all the algorithms at once,
+ * with the 4 KB chunks of the stream copies and with the {@link MultipleDigestEngine} chunks.
+ * <br>
+ * It isn't run with the tests, run it with the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultipleDigestEngineBenchmark
+{
+
+    private static final int CONTENT_SIZE = 16 * 1024 * 1024;
+
+    private static final int STREAM_CHUNK_SIZE = 4 * 1024;
+
+    @Param({ MessageDigestAlgorithms.MD5,
+             MessageDigestAlgorithms.SHA_1,
+             MessageDigestAlgorithms.SHA_256,
+             MessageDigestAlgorithms.SHA_512,
+             "ALL" })
+    private String algorithm;
+
+    private byte[] content;
+
+    private List<MessageDigest> digests;
+
+    @Setup
+    public void setup()
+        throws NoSuchAlgorithmException
+    {
+        content = new byte[CONTENT_SIZE];
+        new Random(42).nextBytes(content);
+
+        String[] algorithms = "ALL".equals(algorithm) ? new String[]{ MessageDigestAlgorithms.MD5,
+                                                                      MessageDigestAlgorithms.SHA_1,
+                                                                      MessageDigestAlgorithms.SHA_256,
+                                                                      MessageDigestAlgorithms.SHA_512 }
+                                                      : new String[]{ algorithm };
+        digests = new ArrayList<>();
+        for (String a : algorithms)
+        {
+            digests.add(MessageDigest.getInstance(a));
+        }
+    }
+
+    @Benchmark
+    public void sequentialSmallChunks(Blackhole blackhole)
+    {
+        for (int off = 0; off < content.length; off += STREAM_CHUNK_SIZE)
+        {
+            for (MessageDigest digest : digests)
+            {
+                digest.update(content, off, STREAM_CHUNK_SIZE);
+            }
+        }
+        digest(blackhole);
+    }
+
+    @Benchmark
+    public void engineSmallChunks(Blackhole blackhole)
+    {
+        MultipleDigestEngine engine = new MultipleDigestEngine(() -> digests);
+        for (int off = 0; off < content.length; off += STREAM_CHUNK_SIZE)
+        {
+            engine.update(content, off, STREAM_CHUNK_SIZE);
+        }
+        engine.flush();
+        digest(blackhole);
+    }
+
+    @Benchmark
+    public void engineLargeChunks(Blackhole blackhole)
+    {
+        MultipleDigestEngine engine = new MultipleDigestEngine(() -> digests);
+        for (int off = 0; off < content.length; off += MultipleDigestEngine.BUFFER_SIZE)
+        {
+            engine.update(content, off, MultipleDigestEngine.BUFFER_SIZE);
+        }
+        engine.flush();
+        digest(blackhole);
+    }
+
+    private void digest(Blackhole blackhole)
+    {
+        for (MessageDigest digest : digests)
+        {
+            blackhole.consume(digest.digest());
+        }
+    }
+
+    public static void main(String[] args)
+        throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(MultipleDigestEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
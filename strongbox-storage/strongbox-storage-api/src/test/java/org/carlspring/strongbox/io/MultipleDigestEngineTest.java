@@ -0,0 +1,114 @@
+package org.carlspring.strongbox.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultipleDigestEngineTest
+{
+
+    private static final Set<String> ALGORITHMS = Stream.of(MessageDigestAlgorithms.MD5,
+                                                            MessageDigestAlgorithms.SHA_1,
+                                                            MessageDigestAlgorithms.SHA_256,
+                                                            MessageDigestAlgorithms.SHA_512)
+                                                        .collect(Collectors.toSet());
+
+    @Test
+    public void testDigestsOfMixedWritesMatchSequentialDigests()
+        throws Exception
+    {
+        byte[] content = new byte[3 * MultipleDigestEngine.BUFFER_SIZE + 12345];
+        new Random(42).nextBytes(content);
+
+        Map<String, MessageDigest> digests = newDigests();
+        MultipleDigestEngine engine = new MultipleDigestEngine(digests::values);
+
+        int off = 0;
+        int[] chunkSizes = { 1, 100, 4096, MultipleDigestEngine.PARALLEL_THRESHOLD, MultipleDigestEngine.BUFFER_SIZE,
+                             MultipleDigestEngine.BUFFER_SIZE + 1 };
+        for (int i = 0; off < content.length; i++)
+        {
+            int len = Math.min(chunkSizes[i % chunkSizes.length], content.length - off);
+            if (len == 1)
+            {
+                engine.update(content[off]);
+            }
+            else
+            {
+                engine.update(content, off, len);
+            }
+            off += len;
+        }
+        engine.flush();
+
+        assertDigests(digests, content);
+    }
+
+    @Test
+    public void testLayoutStreamsDigestsMatchSequentialDigests()
+        throws Exception
+    {
+        byte[] content = new byte[MultipleDigestEngine.BUFFER_SIZE + 1];
+        new Random(7).nextBytes(content);
+
+        try (LayoutInputStream is = new LayoutInputStream(new ByteArrayInputStream(content), ALGORITHMS))
+        {
+            byte[] buffer = new byte[4096];
+            while (is.read(buffer) != -1)
+            {
+                // digests are calculated while the stream is read
+            }
+
+            assertDigests(is.getDigests(), content);
+        }
+
+        try (LayoutOutputStream os = new LayoutOutputStream(new ByteArrayOutputStream()))
+        {
+            for (String algorithm : ALGORITHMS)
+            {
+                os.addAlgorithm(algorithm);
+            }
+            os.write(content[0]);
+            os.write(content, 1, content.length - 1);
+
+            assertDigests(os.getDigests(), content);
+        }
+    }
+
+    private Map<String, MessageDigest> newDigests()
+        throws Exception
+    {
+        Map<String, MessageDigest> digests = new LinkedHashMap<>();
+        for (String algorithm : ALGORITHMS)
+        {
+            digests.put(algorithm, MessageDigest.getInstance(algorithm));
+        }
+
+        return digests;
+    }
+
+    private void assertDigests(Map<String, MessageDigest> digests,
+                               byte[] content)
+        throws Exception
+    {
+        assertThat(digests.keySet()).containsExactlyInAnyOrderElementsOf(ALGORITHMS);
+        for (Map.Entry<String, MessageDigest> e : digests.entrySet())
+        {
+            byte[] expected = MessageDigest.getInstance(e.getKey()).digest(content);
+
+            assertThat(Arrays.equals(e.getValue().digest(), expected)).as(e.getKey()).isTrue();
+        }
+    }
+
+}
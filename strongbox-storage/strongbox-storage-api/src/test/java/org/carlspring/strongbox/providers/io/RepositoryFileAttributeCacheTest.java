@@ -0,0 +1,115 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.artifact.coordinates.RawArtifactCoordinates;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RepositoryFileAttributeCacheTest
+{
+
+    private RepositoryFileAttributeCache cache = new RepositoryFileAttributeCache();
+
+    @Test
+    public void testCachedAttributes()
+    {
+        RepositoryPath path = mockPath("strongbox:/storage0/releases/org/carlspring/test/1.0/test-1.0.jar");
+
+        Map<RepositoryFileAttributeType, Object> result = new HashMap<>();
+        assertThat(cache.get(path, RepositoryFileAttributeType.ARTIFACT, result)).isFalse();
+
+        cache.put(path, RepositoryFileAttributeType.ARTIFACT, Boolean.TRUE);
+        cache.put(path, RepositoryFileAttributeType.ARTIFACT_PATH, null);
+        cache.put(path, RepositoryFileAttributeType.EXPIRED, Boolean.FALSE);
+
+        assertThat(cache.get(path, RepositoryFileAttributeType.ARTIFACT, result)).isTrue();
+        assertThat(cache.get(path, RepositoryFileAttributeType.ARTIFACT_PATH, result)).isTrue();
+        assertThat(cache.get(path, RepositoryFileAttributeType.EXPIRED, result)).isFalse();
+
+        assertThat(result).containsOnlyKeys(RepositoryFileAttributeType.ARTIFACT);
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCachedCoordinatesAreCopied()
+    {
+        RepositoryPath path = mockPath("strongbox:/storage0/releases/org/carlspring/test/1.0/test-1.0.jar");
+
+        RawArtifactCoordinates coordinates = new RawArtifactCoordinates("org/carlspring/test/1.0/test-1.0.jar");
+        cache.put(path, RepositoryFileAttributeType.COORDINATES, coordinates);
+        coordinates.setId("changed-by-the-caller");
+
+        Map<RepositoryFileAttributeType, Object> result = new HashMap<>();
+        assertThat(cache.get(path, RepositoryFileAttributeType.COORDINATES, result)).isTrue();
+
+        RawArtifactCoordinates cached = (RawArtifactCoordinates) result.get(RepositoryFileAttributeType.COORDINATES);
+        assertThat(cached).isNotSameAs(coordinates);
+        assertThat(cached.getPath()).isEqualTo("org/carlspring/test/1.0/test-1.0.jar");
+        cached.setId("changed-by-the-reader");
+
+        assertThat(cache.get(path, RepositoryFileAttributeType.COORDINATES, result)).isTrue();
+        assertThat(result.get(RepositoryFileAttributeType.COORDINATES))
+                .isNotSameAs(cached)
+                .hasFieldOrPropertyWithValue("path", "org/carlspring/test/1.0/test-1.0.jar");
+    }
+
+    @Test
+    public void testNotCopyableCoordinatesAreNotCached()
+    {
+        RepositoryPath path = mockPath("strongbox:/storage0/releases/org/carlspring/test/1.0/test-1.0.jar");
+
+        cache.put(path, RepositoryFileAttributeType.COORDINATES, new Object());
+
+        assertThat(cache.get(path, RepositoryFileAttributeType.COORDINATES, new HashMap<>())).isFalse();
+    }
+
+    @Test
+    public void testInvalidateTree()
+    {
+        RepositoryPath directory = mockPath("strongbox:/storage0/releases/org/carlspring/test");
+        RepositoryPath file = mockPath("strongbox:/storage0/releases/org/carlspring/test/1.0/test-1.0.jar");
+        RepositoryPath sibling = mockPath("strongbox:/storage0/releases/org/carlspring/test-other/1.0/test-1.0.jar");
+
+        cache.put(directory, RepositoryFileAttributeType.ARTIFACT, Boolean.FALSE);
+        cache.put(file, RepositoryFileAttributeType.ARTIFACT, Boolean.TRUE);
+        cache.put(sibling, RepositoryFileAttributeType.ARTIFACT, Boolean.TRUE);
+
+        cache.invalidateTree(directory);
+
+        Map<RepositoryFileAttributeType, Object> result = new HashMap<>();
+        assertThat(cache.get(directory, RepositoryFileAttributeType.ARTIFACT, result)).isFalse();
+        assertThat(cache.get(file, RepositoryFileAttributeType.ARTIFACT, result)).isFalse();
+        assertThat(cache.get(sibling, RepositoryFileAttributeType.ARTIFACT, result)).isTrue();
+    }
+
+    @Test
+    public void testCacheIsBounded()
+    {
+        cache.setMaxSize(100);
+
+        for (int i = 0; i < 1000; i++)
+        {
+            cache.put(mockPath("strongbox:/storage0/releases/file-" + i), RepositoryFileAttributeType.ARTIFACT,
+                      Boolean.TRUE);
+        }
+
+        assertThat(cache.getSize()).isLessThanOrEqualTo(100);
+        assertThat(cache.getEvictions()).isGreaterThanOrEqualTo(900);
+    }
+
+    private RepositoryPath mockPath(String uri)
+    {
+        RepositoryPath path = mock(RepositoryPath.class);
+        when(path.toUri()).thenReturn(URI.create(uri));
+
+        return path;
+    }
+
+}
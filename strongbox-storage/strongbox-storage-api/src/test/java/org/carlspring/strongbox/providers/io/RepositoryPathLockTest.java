@@ -0,0 +1,189 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.providers.io.RepositoryPathLock.LockWaitStatistics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class RepositoryPathLockTest
+{
+
+    private static final String REPOSITORY = "storage0:releases";
+
+    private RepositoryPathLock repositoryPathLock = new RepositoryPathLock();
+
+    private LocalRepositoryPathLockSource lockSource = new LocalRepositoryPathLockSource();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp()
+    {
+        repositoryPathLock.setLockSource(lockSource);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testDifferentNamesDontShareTheLock()
+        throws Exception
+    {
+        ReadWriteLock lock = repositoryPathLock.lock(REPOSITORY, "strongbox:/storage0/releases/c/1.0/c-1.0.jar");
+
+        lock.readLock().lock();
+        try
+        {
+            Future<Boolean> locked = executor.submit(
+                    () -> tryLock(repositoryPathLock.lock(REPOSITORY,
+                                                          "strongbox:/storage0/releases/d/1.0/d-1.0.jar").writeLock()));
+
+            assertThat(locked.get(1, TimeUnit.MINUTES)).isTrue();
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Test
+    public void testLocksAreReleased()
+    {
+        ReadWriteLock lock = repositoryPathLock.lock(REPOSITORY, "strongbox:/storage0/releases/e/1.0/e-1.0.jar");
+
+        lock.writeLock().lock();
+        lock.readLock().lock();
+        assertThat(lockSource.getSize()).isEqualTo(1);
+
+        lock.writeLock().unlock();
+        assertThat(lockSource.getSize()).isEqualTo(1);
+
+        lock.readLock().unlock();
+        assertThat(lockSource.getSize()).isEqualTo(0);
+
+        assertThat(tryLock(lock.writeLock())).isTrue();
+        assertThat(lockSource.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSameNameSharesTheLock()
+        throws Exception
+    {
+        ReadWriteLock lock = repositoryPathLock.lock(REPOSITORY, "strongbox:/storage0/releases/a/1.0/a-1.0.jar");
+
+        lock.writeLock().lock();
+        try
+        {
+            Future<Boolean> locked = executor.submit(
+                    () -> tryLock(repositoryPathLock.lock(REPOSITORY,
+                                                          "strongbox:/storage0/releases/a/1.0/a-1.0.jar").readLock()));
+
+            assertThat(locked.get(1, TimeUnit.MINUTES)).isFalse();
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Test
+    public void testConditionIsSignalled()
+        throws Exception
+    {
+        String lockName = "strongbox:/storage0/releases/f/1.0/f-1.0.jar";
+        Lock lock = repositoryPathLock.lock(REPOSITORY, lockName).writeLock();
+
+        assertThatExceptionOfType(IllegalMonitorStateException.class).isThrownBy(lock::newCondition);
+
+        lock.lock();
+        try
+        {
+            Condition condition = lock.newCondition();
+            Future<?> signaller = executor.submit(() -> {
+                Lock otherLock = repositoryPathLock.lock(REPOSITORY, lockName).writeLock();
+                otherLock.lock();
+                try
+                {
+                    condition.signal();
+                }
+                finally
+                {
+                    otherLock.unlock();
+                }
+            });
+
+            // The lock is released while waiting, so that the other thread can signal the condition.
+            assertThat(condition.await(1, TimeUnit.MINUTES)).isTrue();
+            signaller.get(1, TimeUnit.MINUTES);
+            assertThat(lockSource.getSize()).isEqualTo(1);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        assertThat(lockSource.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testLockWaitIsRecorded()
+        throws Exception
+    {
+        String lockName = "strongbox:/storage0/releases/b/1.0/b-1.0.jar";
+        ReadWriteLock lock = repositoryPathLock.lock(REPOSITORY, lockName);
+
+        CountDownLatch waiting = new CountDownLatch(1);
+        Future<?> reader;
+
+        lock.writeLock().lock();
+        try
+        {
+            reader = executor.submit(() -> {
+                Lock readLock = repositoryPathLock.lock(REPOSITORY, lockName).readLock();
+                waiting.countDown();
+                readLock.lock();
+                readLock.unlock();
+            });
+
+            waiting.await(1, TimeUnit.MINUTES);
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+        reader.get(1, TimeUnit.MINUTES);
+
+        LockWaitStatistics statistics = repositoryPathLock.getLockWaitStatistics().get(REPOSITORY);
+        assertThat(statistics.getCount()).isEqualTo(2);
+        assertThat(statistics.getMaxNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(statistics.getTotalNanos()).isGreaterThanOrEqualTo(statistics.getMaxNanos());
+    }
+
+    private boolean tryLock(Lock lock)
+    {
+        if (!lock.tryLock())
+        {
+            return false;
+        }
+        lock.unlock();
+
+        return true;
+    }
+
+}
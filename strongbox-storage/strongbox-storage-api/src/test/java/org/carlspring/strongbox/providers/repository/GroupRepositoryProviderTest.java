@@ -0,0 +1,189 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.booters.PropertiesBooter;
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.providers.io.LayoutFileSystem;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryPathCache;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryProbeExecutor;
+import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
+import org.carlspring.strongbox.services.support.CompiledRoutingRules.RoutingDecision;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryData;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.testing.NullFileSystem;
+import org.carlspring.strongbox.testing.NullFileSystemProvider;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GroupRepositoryProviderTest
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    private static final String PATH = "org/carlspring/foo/1.0/foo-1.0.jar";
+
+    @Mock
+    private ConfigurationManager configurationManager;
+
+    @Mock
+    private ArtifactRoutingRulesChecker artifactRoutingRulesChecker;
+
+    @Mock
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Mock
+    private RepositoryProviderRegistry repositoryProviderRegistry;
+
+    @Spy
+    private GroupRepositoryPathCache groupRepositoryPathCache = new GroupRepositoryPathCache();
+
+    @Spy
+    private GroupRepositoryProbeExecutor groupRepositoryProbeExecutor = new GroupRepositoryProbeExecutor();
+
+    @InjectMocks
+    private GroupRepositoryProvider groupRepositoryProvider = new GroupRepositoryProvider();
+
+    private RepositoryProvider proxyRepositoryProvider = mock(RepositoryProvider.class);
+
+    private Storage storage = mock(Storage.class);
+
+    private Repository slowProxy = mockProxyRepository("slow-proxy");
+
+    private Repository fastProxy = mockProxyRepository("fast-proxy");
+
+    private RepositoryPath groupPath;
+
+    @BeforeEach
+    public void setUp()
+            throws IOException
+    {
+        MockitoAnnotations.initMocks(this);
+
+        groupRepositoryProbeExecutor.setEnabled(true);
+        groupRepositoryProbeExecutor.afterPropertiesSet();
+
+        StorageDto storageDto = new StorageDto();
+        storageDto.setId(STORAGE_ID);
+
+        RepositoryDto group = new RepositoryDto();
+        group.setStorage(storageDto);
+        group.setId("group");
+        group.setType(RepositoryTypeEnum.GROUP.getType());
+        group.setBasedir(Paths.get("target/strongbox-vault/storages/storage0/group").toAbsolutePath().toString());
+
+        // The slow member comes first.
+        Set<String> members = new LinkedHashSet<>();
+        members.add(slowProxy.getId());
+        members.add(fastProxy.getId());
+        group.setGroupRepositories(members);
+
+        LayoutFileSystem fileSystem = new NullFileSystem(new PropertiesBooter(),
+                                                         new RepositoryData(group),
+                                                         FileSystems.getDefault(),
+                                                         new NullFileSystemProvider(
+                                                                 FileSystems.getDefault().provider()));
+        groupPath = fileSystem.getRootDirectory().resolve(PATH);
+
+        Configuration configuration = mock(Configuration.class);
+        when(configurationManager.getConfiguration()).thenReturn(configuration);
+        when(configuration.getStorage(STORAGE_ID)).thenReturn(storage);
+        when(artifactRoutingRulesChecker.getRoutingDecision(any(), anyString())).thenReturn(
+                mock(RoutingDecision.class));
+        when(repositoryProviderRegistry.getProvider(RepositoryTypeEnum.PROXY.getType())).thenReturn(
+                proxyRepositoryProvider);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        groupRepositoryProbeExecutor.destroy();
+    }
+
+    @Test
+    public void testFirstMemberServesThePath()
+            throws Exception
+    {
+        RepositoryPath slowPath = mockMemberPath(slowProxy);
+        RepositoryPath fastPath = mockMemberPath(fastProxy);
+
+        // The later member has the path first, while the earlier one is still reaching its remote repository.
+        CountDownLatch fastProbed = new CountDownLatch(1);
+        when(proxyRepositoryProvider.fetchPath(slowPath)).thenAnswer(invocation -> {
+            assertThat(fastProbed.await(10, TimeUnit.SECONDS)).isTrue();
+            return slowPath;
+        });
+        when(proxyRepositoryProvider.fetchPath(fastPath)).thenAnswer(invocation -> {
+            fastProbed.countDown();
+            return fastPath;
+        });
+
+        assertThat(groupRepositoryProvider.resolvePathTraversal(groupPath)).isSameAs(slowPath);
+        assertThat(groupRepositoryPathCache.get(groupPath.getRepository(), PATH).getServedBy())
+                .isEqualTo(slowProxy.getStorageIdAndRepositoryId());
+    }
+
+    @Test
+    public void testMemberFailureIsPropagated()
+            throws Exception
+    {
+        RepositoryPath slowPath = mockMemberPath(slowProxy);
+        RepositoryPath fastPath = mockMemberPath(fastProxy);
+
+        when(proxyRepositoryProvider.fetchPath(slowPath)).thenThrow(new IllegalStateException("slow-proxy"));
+        when(proxyRepositoryProvider.fetchPath(fastPath)).thenReturn(fastPath);
+
+        // Exactly as in the sequential resolution.
+        assertThatThrownBy(() -> groupRepositoryProvider.resolvePathTraversal(groupPath))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("slow-proxy");
+    }
+
+    private RepositoryPath mockMemberPath(Repository repository)
+            throws IOException
+    {
+        RepositoryPath path = mock(RepositoryPath.class);
+        when(path.getRepository()).thenReturn(repository);
+        when(repositoryPathResolver.resolve(repository, groupPath)).thenReturn(path);
+
+        return path;
+    }
+
+    private Repository mockProxyRepository(String repositoryId)
+    {
+        Repository repository = mock(Repository.class);
+        when(repository.getId()).thenReturn(repositoryId);
+        when(repository.getStorageIdAndRepositoryId()).thenReturn(STORAGE_ID + ":" + repositoryId);
+        when(repository.getType()).thenReturn(RepositoryTypeEnum.PROXY.getType());
+        when(repository.isInService()).thenReturn(true);
+        when(storage.getRepository(repositoryId)).thenReturn(repository);
+
+        return repository;
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.event.server.ServerEvent;
+import org.carlspring.strongbox.event.server.ServerEventTypeEnum;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GroupRepositoryPathCacheTest
+{
+
+    private static final String PATH = "org/carlspring/foo/1.0/foo-1.0.jar";
+
+    private GroupRepositoryPathCache cache = new GroupRepositoryPathCache();
+
+    private Repository group = mockRepository("storage0:group");
+
+    private Repository releases = mockRepository("storage0:releases");
+
+    private Repository snapshots = mockRepository("storage0:snapshots");
+
+    @Test
+    public void testParent()
+    {
+        assertThat(GroupRepositoryPathCache.getParent(PATH)).isEqualTo("org/carlspring/foo/1.0");
+        assertThat(GroupRepositoryPathCache.getParent("org")).isEqualTo("");
+        assertThat(GroupRepositoryPathCache.getParent("")).isNull();
+    }
+
+    @Test
+    public void testLookup()
+    {
+        assertThat(cache.get(group, PATH)).isNull();
+
+        cache.putMissing(group, PATH, snapshots, cache.getGeneration(PATH));
+        cache.putServedBy(group, PATH, releases, cache.getGeneration(PATH));
+
+        GroupRepositoryPathCache.Lookup lookup = cache.get(group, PATH);
+        assertThat(lookup).isNotNull();
+        assertThat(lookup.getServedBy()).isEqualTo("storage0:releases");
+        assertThat(lookup.isMissingFrom(snapshots)).isTrue();
+        assertThat(lookup.isMissingFrom(releases)).isFalse();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+
+        // The lookups are kept by group.
+        assertThat(cache.get(mockRepository("storage0:other-group"), PATH)).isNull();
+
+        // The path is not served by the member anymore.
+        cache.putMissing(group, PATH, releases, cache.getGeneration(PATH));
+        assertThat(cache.get(group, PATH).getServedBy()).isNull();
+    }
+
+    @Test
+    public void testSiblingsAndParentsAreInvalidated()
+    {
+        String checksumPath = PATH + ".sha1";
+        String directoryPath = "org/carlspring/foo";
+        String otherPath = "org/carlspring/bar/1.0/bar-1.0.jar";
+
+        cache.putMissing(group, PATH, releases, cache.getGeneration(PATH));
+        cache.putMissing(group, checksumPath, releases, cache.getGeneration(checksumPath));
+        cache.putMissing(group, directoryPath, releases, cache.getGeneration(directoryPath));
+        cache.putMissing(group, otherPath, releases, cache.getGeneration(otherPath));
+
+        cache.invalidate(PATH);
+
+        assertThat(cache.get(group, PATH)).isNull();
+        assertThat(cache.get(group, checksumPath)).isNull();
+        assertThat(cache.get(group, directoryPath)).isNull();
+        assertThat(cache.get(group, otherPath)).isNotNull();
+    }
+
+    @Test
+    public void testConcurrentlyInvalidatedLookupIsNotCached()
+    {
+        long generation = cache.getGeneration(PATH);
+        cache.invalidate(PATH);
+        cache.putMissing(group, PATH, releases, generation);
+
+        assertThat(cache.get(group, PATH)).isNull();
+    }
+
+    @Test
+    public void testOtherDirectoriesAreCachedConcurrently()
+    {
+        String otherPath = "org/carlspring/bar/1.0/bar-1.0.jar";
+
+        long generation = cache.getGeneration(PATH);
+        long otherGeneration = cache.getGeneration(otherPath);
+
+        // The stale lookup is dropped, and it doesn't invalidate the other directories.
+        cache.invalidate(PATH);
+        cache.putMissing(group, PATH, releases, generation);
+        cache.putMissing(group, otherPath, releases, otherGeneration);
+
+        assertThat(cache.get(group, PATH)).isNull();
+        assertThat(cache.get(group, otherPath)).isNotNull();
+
+        cache.putServedBy(group, PATH, releases, cache.getGeneration(PATH));
+
+        assertThat(cache.get(group, PATH).getServedBy()).isEqualTo("storage0:releases");
+    }
+
+    @Test
+    public void testConfigurationChangeInvalidatesAll()
+    {
+        cache.putServedBy(group, PATH, releases, cache.getGeneration(PATH));
+
+        cache.handle(new ServerEvent(ServerEventTypeEnum.EVENT_SERVER_CONFIGURATION_CHANGED.getType()));
+
+        assertThat(cache.get(group, PATH)).isNull();
+    }
+
+    private Repository mockRepository(String storageIdAndRepositoryId)
+    {
+        Repository repository = mock(Repository.class);
+        when(repository.getStorageIdAndRepositoryId()).thenReturn(storageIdAndRepositoryId);
+
+        return repository;
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GroupRepositoryProbeExecutorTest
+{
+
+    private GroupRepositoryProbeExecutor executor = new GroupRepositoryProbeExecutor();
+
+    @BeforeEach
+    public void setUp()
+    {
+        executor.setEnabled(true);
+        executor.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        executor.destroy();
+    }
+
+    @Test
+    public void testProbesDontFanOut()
+            throws Exception
+    {
+        assertThat(executor.isEnabled()).isTrue();
+
+        Future<Boolean> probe = executor.submit(executor::isEnabled);
+
+        assertThat(probe.get(10, TimeUnit.SECONDS)).isFalse();
+        assertThat(executor.isEnabled()).isTrue();
+    }
+
+    @Test
+    public void testPendingProbeIsCancelled()
+            throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?>[] running = new Future<?>[8];
+        for (int i = 0; i < running.length; i++)
+        {
+            running[i] = executor.submit(() -> release.await(10, TimeUnit.SECONDS));
+        }
+
+        // All the threads are busy, so the probe is queued.
+        Future<String> pending = executor.submit(() -> "pending");
+        executor.cancel(pending);
+
+        release.countDown();
+        for (Future<?> probe : running)
+        {
+            probe.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(pending.isCancelled()).isTrue();
+        assertThat(executor.getCancelledProbes()).isEqualTo(1);
+        assertThat(executor.getSubmittedProbes()).isEqualTo(running.length + 1);
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProxyRepositoryArtifactFetchTest
+{
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private static final int CHUNKS = 64;
+
+    private Path file;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp()
+        throws IOException
+    {
+        file = Files.createTempFile("proxy-fetch", ".tmp");
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown()
+        throws IOException
+    {
+        executor.shutdownNow();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testConcurrentReadersTailTheGrowingFile()
+        throws Exception
+    {
+        byte[] content = new byte[CHUNK_SIZE * CHUNKS];
+        new Random().nextBytes(content);
+
+        ProxyRepositoryArtifactFetch fetch = new ProxyRepositoryArtifactFetch(null, file);
+
+        Future<byte[]> reader1 = executor.submit(() -> read(fetch));
+        Future<byte[]> reader2 = executor.submit(() -> read(fetch));
+
+        try (OutputStream os = Files.newOutputStream(file))
+        {
+            for (int i = 0; i < CHUNKS; i++)
+            {
+                os.write(content, i * CHUNK_SIZE, CHUNK_SIZE);
+                os.flush();
+                fetch.progress(CHUNK_SIZE);
+
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        }
+        fetch.complete(null);
+
+        assertThat(reader1.get(1, TimeUnit.MINUTES)).isEqualTo(content);
+        assertThat(reader2.get(1, TimeUnit.MINUTES)).isEqualTo(content);
+    }
+
+    @Test
+    public void testReadersFailWhenFetchFails()
+        throws Exception
+    {
+        ProxyRepositoryArtifactFetch fetch = new ProxyRepositoryArtifactFetch(null, file);
+
+        Files.write(file, new byte[CHUNK_SIZE]);
+        fetch.progress(CHUNK_SIZE);
+
+        Future<byte[]> reader = executor.submit(() -> read(fetch));
+        fetch.fail(new IOException("Connection reset."));
+
+        assertThatThrownBy(() -> reader.get(1, TimeUnit.MINUTES)).hasRootCauseMessage("Connection reset.");
+        assertThatThrownBy(fetch::await).hasMessage("Connection reset.");
+    }
+
+    private byte[] read(ProxyRepositoryArtifactFetch fetch)
+        throws IOException
+    {
+        fetch.awaitStarted();
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream is = fetch.newInputStream())
+        {
+            IOUtils.copy(is, result);
+        }
+
+        return result.toByteArray();
+    }
+
+}
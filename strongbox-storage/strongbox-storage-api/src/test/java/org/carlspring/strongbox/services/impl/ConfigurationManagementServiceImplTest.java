@@ -118,6 +118,27 @@ public class ConfigurationManagementServiceImplTest
         assertThat(iterator.next()).isEqualTo("jboss-public-releases");
     }
 
+    @Test
+    public void configurationSnapshotShouldBePublishedOncePerModification()
+            throws IOException
+    {
+        Configuration configuration = configurationManagementService.getConfiguration();
+        long version = configurationManagementService.getConfigurationVersion();
+
+        assertThat(configurationManagementService.getConfiguration()).isSameAs(configuration);
+
+        configurationManagementService.addRepositoryToGroup(STORAGE_COMMON_PROXIES,
+                                                            REPOSITORY_GROUP_COMMON_PROXIES,
+                                                            "maven-central");
+
+        assertThat(configurationManagementService.getConfigurationVersion()).isGreaterThan(version);
+        assertThat(configurationManagementService.getConfiguration()).isNotSameAs(configuration);
+        assertThat(configurationManagementService.getConfiguration()
+                                                 .getRepository(STORAGE_COMMON_PROXIES,
+                                                                REPOSITORY_GROUP_COMMON_PROXIES)
+                                                 .getGroupRepositories()).hasSize(4);
+    }
+
     @Test
     public void testGetRepositories()
     {
@@ -1,11 +1,22 @@
 package org.carlspring.strongbox.services.impl;
 
 import org.carlspring.strongbox.StorageApiTestConfig;
+import org.carlspring.strongbox.artifact.ArtifactTag;
+import org.carlspring.strongbox.artifact.coordinates.RawArtifactCoordinates;
 import org.carlspring.strongbox.data.CacheManagerTestExecutionListener;
+import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.ArtifactTagEntry;
 import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import org.junit.jupiter.api.Test;
@@ -13,6 +24,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
@@ -29,6 +41,12 @@ class RepositoryArtifactIdGroupServiceImplTest
     @Inject
     private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
 
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private ArtifactTagService artifactTagService;
+
     @Test
     public void repositoryArtifactIdGroupShouldBeProtectedByIndex()
     {
@@ -47,4 +65,94 @@ class RepositoryArtifactIdGroupServiceImplTest
                     System.out.println(repositoryArtifactIdGroupService.save(g2).getObjectId());
         });
     }
+
+    @Test
+    public void lastVersionShouldBeMaintainedByPointer()
+    {
+        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
+
+        RepositoryArtifactIdGroupEntry group = addArtifactsToGroup("a2", "1.0", "3.0", "2.0");
+
+        assertThat(group.getLastVersionEntries()).extracting(ArtifactEntry::getArtifactPath)
+                                                 .containsOnly("a2/3.0/a2.jar");
+        assertThat(artifactEntryService.findOneArtifact("s2", "r2", "a2/3.0/a2.jar").getTagSet())
+                .contains(lastVersionTag);
+        assertThat(artifactEntryService.findOneArtifact("s2", "r2", "a2/1.0/a2.jar").getTagSet())
+                .doesNotContain(lastVersionTag);
+        assertThat(artifactEntryService.findOneArtifact("s2", "r2", "a2/2.0/a2.jar").getTagSet())
+                .doesNotContain(lastVersionTag);
+    }
+
+    @Test
+    public void lastVersionShouldBeMovedWhenItIsRemoved()
+    {
+        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
+
+        RepositoryArtifactIdGroupEntry group = addArtifactsToGroup("a4", "1.0", "3.0", "2.0");
+
+        ArtifactEntry lastVersionEntry = artifactEntryService.findOneArtifact("s2", "r2", "a4/3.0/a4.jar");
+        repositoryArtifactIdGroupService.removeArtifactFromGroup(group, lastVersionEntry);
+        artifactEntryService.delete(lastVersionEntry);
+
+        group = repositoryArtifactIdGroupService.findOne("s2", "r2", "a4");
+        assertThat(group.getArtifactEntries()).hasSize(2);
+        assertThat(group.getLastVersionEntries()).extracting(ArtifactEntry::getArtifactPath)
+                                                 .containsOnly("a4/2.0/a4.jar");
+        assertThat(artifactEntryService.findOneArtifact("s2", "r2", "a4/2.0/a4.jar").getTagSet())
+                .contains(lastVersionTag);
+
+        // The new versions are compared with the moved last version.
+        group = addArtifactsToGroup("a4", "1.5");
+        assertThat(group.getLastVersionEntries()).extracting(ArtifactEntry::getArtifactPath)
+                                                 .containsOnly("a4/2.0/a4.jar");
+        assertThat(artifactEntryService.findOneArtifact("s2", "r2", "a4/1.5/a4.jar").getTagSet())
+                .doesNotContain(lastVersionTag);
+    }
+
+    private RepositoryArtifactIdGroupEntry addArtifactsToGroup(String artifactId,
+                                                               String... versions)
+    {
+        RepositoryArtifactIdGroupEntry group = repositoryArtifactIdGroupService.findOneOrCreate("s2", "r2",
+                                                                                                artifactId);
+        for (String version : versions)
+        {
+            ArtifactEntry artifactEntry = new ArtifactEntry();
+            artifactEntry.setStorageId("s2");
+            artifactEntry.setRepositoryId("r2");
+            artifactEntry.setArtifactCoordinates(new RawArtifactCoordinates(
+                    artifactId + "/" + version + "/" + artifactId + ".jar"));
+
+            repositoryArtifactIdGroupService.addArtifactToGroup(group, artifactEntry);
+            group = repositoryArtifactIdGroupService.findOne("s2", "r2", artifactId);
+        }
+
+        return group;
+    }
+
+    @Test
+    public void groupsShouldBePagedByKey()
+    {
+        Set<String> expectedNames = new HashSet<>();
+        for (int i = 0; i < 7; i++)
+        {
+            expectedNames.add(repositoryArtifactIdGroupService.findOneOrCreate("s3", "r3", "a3-" + i).getName());
+        }
+
+        List<String> names = new ArrayList<>();
+        PagingCriteria pagingCriteria = PagingCriteria.seek(3);
+        List<RepositoryArtifactIdGroupEntry> page;
+        do
+        {
+            page = repositoryArtifactIdGroupService.findMatching("s3", "r3", pagingCriteria);
+            page.forEach(g -> names.add(g.getName()));
+            if (!page.isEmpty())
+            {
+                pagingCriteria = pagingCriteria.next(page.get(page.size() - 1).getUuid());
+            }
+        }
+        while (page.size() == 3);
+
+        assertThat(names).hasSize(7).containsExactlyInAnyOrderElementsOf(expectedNames);
+    }
+
 }
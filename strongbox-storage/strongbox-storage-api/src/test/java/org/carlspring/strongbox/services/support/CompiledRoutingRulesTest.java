@@ -0,0 +1,162 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.MutableConfiguration;
+import org.carlspring.strongbox.services.support.CompiledRoutingRules.RoutingDecision;
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRuleRepository;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRules;
+import org.carlspring.strongbox.storage.routing.RoutingRuleTypeEnum;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledRoutingRulesTest
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    private static final String[] PATHS = { "com/foo/bar/1.0/bar-1.0.jar",
+                                            "com/foo/baz/1.0/baz-1.0.jar",
+                                            "com/foobar/1.0/foobar-1.0.jar",
+                                            "com/artifacts/denied/in/memory/1.0/memory-1.0.jar",
+                                            "org/artifacts/denied/in/memory/1.0/memory-1.0.jar",
+                                            "org/carlspring/strongbox/1.0/strongbox-1.0.jar",
+                                            "" };
+
+    private Configuration configuration;
+
+    private Repository group;
+
+    @BeforeEach
+    public void setUp()
+    {
+        StorageDto storage = new StorageDto(STORAGE_ID);
+        for (int i = 0; i < 4; i++)
+        {
+            addRepository(storage, "repository-" + i, RepositoryTypeEnum.HOSTED);
+        }
+
+        RepositoryDto group = addRepository(storage, "group", RepositoryTypeEnum.GROUP);
+        group.addRepositoryToGroup("repository-0");
+        group.addRepositoryToGroup("repository-1");
+        group.addRepositoryToGroup(STORAGE_ID + ":repository-2");
+
+        MutableRoutingRules routingRules = new MutableRoutingRules();
+        routingRules.getRules()
+                    .add(MutableRoutingRule.create(STORAGE_ID, "group",
+                                                   Collections.singletonList(
+                                                           new MutableRoutingRuleRepository(STORAGE_ID, "repository-0")),
+                                                   ".*(com|org)/artifacts/denied/in/memory.*",
+                                                   RoutingRuleTypeEnum.DENY));
+        routingRules.getRules()
+                    .add(MutableRoutingRule.create(STORAGE_ID, "group",
+                                                   Collections.emptyList(),
+                                                   "com/foo/.*",
+                                                   RoutingRuleTypeEnum.DENY));
+        routingRules.getRules()
+                    .add(MutableRoutingRule.create(STORAGE_ID, "group",
+                                                   Collections.singletonList(
+                                                           new MutableRoutingRuleRepository(STORAGE_ID, "repository-1")),
+                                                   "com/foo/bar/.*",
+                                                   RoutingRuleTypeEnum.ACCEPT));
+        routingRules.getRules()
+                    .add(MutableRoutingRule.create(null, null,
+                                                   Arrays.asList(new MutableRoutingRuleRepository(null, "repository-2"),
+                                                                 new MutableRoutingRuleRepository(STORAGE_ID, null)),
+                                                   "org/carlspring/.*",
+                                                   RoutingRuleTypeEnum.DENY));
+        routingRules.getRules()
+                    .add(MutableRoutingRule.create(STORAGE_ID, "another-group",
+                                                   Collections.emptyList(),
+                                                   ".*",
+                                                   RoutingRuleTypeEnum.DENY));
+
+        MutableConfiguration mutableConfiguration = new MutableConfiguration();
+        mutableConfiguration.addStorage(storage);
+        mutableConfiguration.setRoutingRules(routingRules);
+
+        configuration = new Configuration(mutableConfiguration);
+        this.group = configuration.getRepository(STORAGE_ID, "group");
+    }
+
+    private RepositoryDto addRepository(StorageDto storage,
+                                        String repositoryId,
+                                        RepositoryTypeEnum type)
+    {
+        RepositoryDto repository = new RepositoryDto(repositoryId);
+        repository.setType(type.getType());
+        repository.setLayout("Maven 2");
+        repository.setStorage(storage);
+        storage.addRepository(repository);
+
+        return repository;
+    }
+
+    @Test
+    public void testDecisionsMatchTheRulesEvaluatedOneByOne()
+    {
+        CompiledRoutingRules compiledRoutingRules = new CompiledRoutingRules(configuration, 1);
+
+        for (String path : PATHS)
+        {
+            RoutingDecision decision = compiledRoutingRules.decide(group, path);
+
+            // repository-3 isn't a member of the group.
+            for (int i = 0; i < 4; i++)
+            {
+                Repository subRepository = configuration.getRepository(STORAGE_ID, "repository-" + i);
+
+                assertThat(decision.isDenied(subRepository))
+                        .as("%s in %s", path, subRepository.getStorageIdAndRepositoryId())
+                        .isEqualTo(CompiledRoutingRules.isDeniedByScanning(configuration.getRoutingRules(), group,
+                                                                           subRepository, path));
+            }
+        }
+    }
+
+    @Test
+    public void testDecisions()
+    {
+        CompiledRoutingRules compiledRoutingRules = new CompiledRoutingRules(configuration, 1);
+        Repository repository0 = configuration.getRepository(STORAGE_ID, "repository-0");
+        Repository repository1 = configuration.getRepository(STORAGE_ID, "repository-1");
+        Repository repository2 = configuration.getRepository(STORAGE_ID, "repository-2");
+
+        RoutingDecision decision = compiledRoutingRules.decide(group, "com/foo/bar/1.0/bar-1.0.jar");
+        assertThat(decision.isDenied(repository0)).isTrue();
+        assertThat(decision.isDenied(repository1)).isFalse();
+        assertThat(decision.isDenied(repository2)).isTrue();
+
+        decision = compiledRoutingRules.decide(group, "org/artifacts/denied/in/memory/1.0/memory-1.0.jar");
+        assertThat(decision.isDenied(repository0)).isTrue();
+        assertThat(decision.isDenied(repository1)).isFalse();
+        assertThat(decision.isDenied(repository2)).isFalse();
+
+        decision = compiledRoutingRules.decide(group, "com/foobar/1.0/foobar-1.0.jar");
+        assertThat(decision.isDenied(repository0)).isFalse();
+        assertThat(decision.isDenied(repository1)).isFalse();
+        assertThat(decision.isDenied(repository2)).isFalse();
+    }
+
+    @Test
+    public void testLiteralPrefix()
+    {
+        assertThat(CompiledRoutingRules.getLiteralPrefix("com/foo/.*")).isEqualTo("com/foo/");
+        assertThat(CompiledRoutingRules.getLiteralPrefix("com/foo/bar")).isEqualTo("com/foo/bar");
+        assertThat(CompiledRoutingRules.getLiteralPrefix("com/foos?/.*")).isEqualTo("com/foo");
+        assertThat(CompiledRoutingRules.getLiteralPrefix("com/fo{2}/.*")).isEqualTo("com/f");
+        assertThat(CompiledRoutingRules.getLiteralPrefix("com\\.foo/.*")).isEqualTo("com");
+        assertThat(CompiledRoutingRules.getLiteralPrefix("com/(foo|bar)/.*")).isEmpty();
+        assertThat(CompiledRoutingRules.getLiteralPrefix(".*")).isEmpty();
+    }
+
+}
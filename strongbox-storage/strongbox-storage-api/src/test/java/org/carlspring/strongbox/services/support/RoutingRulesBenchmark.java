@@ -0,0 +1,151 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.MutableConfiguration;
+import org.carlspring.strongbox.services.support.CompiledRoutingRules.RoutingDecision;
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRuleRepository;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRules;
+import org.carlspring.strongbox.storage.routing.RoutingRuleTypeEnum;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of the routing rules check of all the members of a group repository, when the rules are evaluated one by one
+ * for every member (as they used to be) and when a single decision is taken from the compiled rules.
+ * <br>
+ * It isn't run with the tests, run it with the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingRulesBenchmark
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    private static final String PATH = "org/carlspring/strongbox/strongbox-commons/1.0/strongbox-commons-1.0.jar";
+
+    @Param({ "10", "100", "1000" })
+    private int rules;
+
+    @Param({ "5", "20" })
+    private int members;
+
+    private Configuration configuration;
+
+    private CompiledRoutingRules compiledRoutingRules;
+
+    private Repository group;
+
+    private List<Repository> subRepositories;
+
+    @Setup
+    public void setup()
+    {
+        StorageDto storage = new StorageDto(STORAGE_ID);
+        RepositoryDto groupRepository = new RepositoryDto("group");
+        groupRepository.setType(RepositoryTypeEnum.GROUP.getType());
+        groupRepository.setLayout("Maven 2");
+        groupRepository.setStorage(storage);
+        storage.addRepository(groupRepository);
+
+        for (int i = 0; i < members; i++)
+        {
+            RepositoryDto repository = new RepositoryDto("repository-" + i);
+            repository.setType(RepositoryTypeEnum.HOSTED.getType());
+            repository.setLayout("Maven 2");
+            repository.setStorage(storage);
+            storage.addRepository(repository);
+            groupRepository.addRepositoryToGroup(repository.getId());
+        }
+
+        // Most of the rules deny a namespace to a member, a few of them accept it again.
+        MutableRoutingRules routingRules = new MutableRoutingRules();
+        for (int i = 0; i < rules; i++)
+        {
+            RoutingRuleTypeEnum type = i % 10 == 9 ? RoutingRuleTypeEnum.ACCEPT : RoutingRuleTypeEnum.DENY;
+            routingRules.getRules()
+                        .add(MutableRoutingRule.create(STORAGE_ID, "group",
+                                                       Collections.singletonList(new MutableRoutingRuleRepository(
+                                                               STORAGE_ID, "repository-" + (i % members))),
+                                                       "org/namespace" + (i / 2) + "/.*",
+                                                       type));
+        }
+        routingRules.getRules()
+                    .add(MutableRoutingRule.create(STORAGE_ID, "group",
+                                                   Collections.emptyList(),
+                                                   ".*/strongbox-commons/.*",
+                                                   RoutingRuleTypeEnum.DENY));
+
+        MutableConfiguration mutableConfiguration = new MutableConfiguration();
+        mutableConfiguration.addStorage(storage);
+        mutableConfiguration.setRoutingRules(routingRules);
+
+        configuration = new Configuration(mutableConfiguration);
+        compiledRoutingRules = new CompiledRoutingRules(configuration, 1);
+        group = configuration.getRepository(STORAGE_ID, "group");
+
+        subRepositories = new ArrayList<>();
+        for (int i = 0; i < members; i++)
+        {
+            subRepositories.add(configuration.getRepository(STORAGE_ID, "repository-" + i));
+        }
+    }
+
+    @Benchmark
+    public void scanning(Blackhole blackhole)
+    {
+        for (Repository subRepository : subRepositories)
+        {
+            blackhole.consume(CompiledRoutingRules.isDeniedByScanning(configuration.getRoutingRules(), group,
+                                                                      subRepository, PATH));
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole)
+    {
+        RoutingDecision decision = compiledRoutingRules.decide(group, PATH);
+        for (Repository subRepository : subRepositories)
+        {
+            blackhole.consume(decision.isDenied(subRepository));
+        }
+    }
+
+    public static void main(String[] args)
+        throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(RoutingRulesBenchmark.class.getSimpleName())
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+
+}
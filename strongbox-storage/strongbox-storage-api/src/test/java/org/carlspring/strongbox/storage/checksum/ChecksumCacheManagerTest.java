@@ -6,6 +6,12 @@ import org.carlspring.strongbox.util.MessageDigestUtils;
 import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.fail;
@@ -54,6 +60,88 @@ public class ChecksumCacheManagerTest
         checkerThread.interrupt();
     }
 
+    @Test
+    public void testExpiredChecksumsAreNotReturned()
+            throws Exception
+    {
+        ChecksumCacheManager manager = new ChecksumCacheManager();
+        manager.setCachedChecksumLifetime(100L);
+
+        final String artifactBasePath = "storage0/releases/org/carlspring/test/1.0/test-1.0.jar";
+
+        manager.addArtifactChecksum(artifactBasePath, "md5", "120ea8a25e5d487bf68b5f7096440019");
+        assertThat(manager.containsArtifactPath(artifactBasePath)).isTrue();
+
+        Thread.sleep(200L);
+
+        assertThat(manager.getArtifactChecksum(artifactBasePath, "md5")).isNull();
+        assertThat(manager.getSize()).isEqualTo(0);
+        assertThat(manager.getExpirations()).isEqualTo(1);
+    }
+
+    @Test
+    public void testMatchesArtifactChecksum()
+    {
+        ChecksumCacheManager manager = new ChecksumCacheManager();
+
+        final String artifactBasePath = "storage0/releases/org/carlspring/test/1.0/test-1.0.jar";
+
+        manager.addArtifactChecksum(artifactBasePath, "md5", "120ea8a25e5d487bf68b5f7096440019");
+        manager.addArtifactChecksum(artifactBasePath, "sha1", "afa6c8b3a2fae95785dc7d9685a57835d703ac88");
+
+        assertThat(manager.matchesArtifactChecksum(artifactBasePath, "afa6c8b3a2fae95785dc7d9685a57835d703ac88"))
+                .isTrue();
+        assertThat(manager.matchesArtifactChecksum(artifactBasePath, "0000")).isFalse();
+        assertThat(manager.matchesArtifactChecksum("storage0/releases/unknown.jar", "0000")).isFalse();
+
+        assertThat(manager.getHits()).isEqualTo(1);
+        assertThat(manager.getMismatches()).isEqualTo(1);
+        assertThat(manager.getMisses()).isEqualTo(1);
+
+        manager.removeArtifactChecksum(artifactBasePath, "md5");
+        manager.removeArtifactChecksum(artifactBasePath, "sha-1");
+
+        assertThat(manager.containsArtifactPath(artifactBasePath)).isFalse();
+    }
+
+    @Test
+    public void testConcurrentUploadsAreBounded()
+            throws Exception
+    {
+        ChecksumCacheManager manager = new ChecksumCacheManager();
+        manager.setMaxSize(1000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<?>> uploads = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+            {
+                int thread = i;
+                uploads.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++)
+                    {
+                        String artifactBasePath = String.format("storage0/releases/test-%s-%s.jar", thread, j);
+
+                        manager.addArtifactChecksum(artifactBasePath, "md5", "md5-" + j);
+                        manager.addArtifactChecksum(artifactBasePath, "sha1", "sha1-" + j);
+                    }
+                }));
+            }
+            for (Future<?> upload : uploads)
+            {
+                upload.get(1, TimeUnit.MINUTES);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertThat(manager.getSize()).isLessThanOrEqualTo(1000 + 8);
+        assertThat(manager.getEvictions()).isGreaterThan(0);
+    }
+
     @Test
     public void testDigests()
             throws NoSuchAlgorithmException, IOException, CloneNotSupportedException
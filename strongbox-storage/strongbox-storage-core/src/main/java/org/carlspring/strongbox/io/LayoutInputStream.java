@@ -41,6 +41,8 @@ public class LayoutInputStream
 
     private Map<String, String> hexDigests = new LinkedHashMap<>();
 
+    private final MultipleDigestEngine digestEngine = new MultipleDigestEngine(() -> digests.values());
+
     public LayoutInputStream(InputStream is,
                              Set<String> checkSumDigestAlgorithmSet)
         throws NoSuchAlgorithmException
@@ -69,11 +71,15 @@ public class LayoutInputStream
 
     public MessageDigest getMessageDigest(String algorithm)
     {
+        digestEngine.flush();
+
         return digests.get(algorithm);
     }
 
     public Map<String, MessageDigest> getDigests()
     {
+        digestEngine.flush();
+
         return digests;
     }
 
@@ -106,6 +112,7 @@ public class LayoutInputStream
 
     public void setDigests(Map<String, MessageDigest> digests)
     {
+        digestEngine.flush();
         this.digests = digests;
     }
 
@@ -116,11 +123,7 @@ public class LayoutInputStream
         int ch = in.read();
         if (ch != -1)
         {
-            for (Map.Entry entry : digests.entrySet())
-            {
-                MessageDigest digest = (MessageDigest) entry.getValue();
-                digest.update((byte) ch);
-            }
+            digestEngine.update((byte) ch);
         }
 
         return ch;
@@ -135,11 +138,7 @@ public class LayoutInputStream
         int numberOfBytesRead = in.read(bytes, off, len);
         if (numberOfBytesRead != -1)
         {
-            for (Map.Entry entry : digests.entrySet())
-            {
-                MessageDigest digest = (MessageDigest) entry.getValue();
-                digest.update(bytes, off, numberOfBytesRead);
-            }
+            digestEngine.update(bytes, off, numberOfBytesRead);
         }
 
         return numberOfBytesRead;
@@ -149,15 +148,7 @@ public class LayoutInputStream
     public int read(byte[] bytes)
             throws IOException
     {
-        int len = in.read(bytes);
-
-        for (Map.Entry entry : digests.entrySet())
-        {
-            MessageDigest digest = (MessageDigest) entry.getValue();
-            digest.update(bytes);
-        }
-
-        return len;
+        return read(bytes, 0, bytes.length);
     }
 
     InputStream getTarget()
@@ -6,6 +6,7 @@ import org.carlspring.strongbox.util.MessageDigestUtils;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Map;
 import java.util.function.Function;
@@ -16,6 +17,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This class decorates storage {@link OutputStream} with common layout specific logic.
+ * <br>
+ * The digests are calculated with the {@link MultipleDigestEngine} rather than by the
+ * {@link MultipleDigestOutputStream} itself, so they have to be read with {@link #getDigests()} or
+ * {@link #getDigestMap()}.
  * 
  * Note that you don't need to instantiate it directly, see example below:
  * 
@@ -39,6 +44,11 @@ public class LayoutOutputStream extends MultipleDigestOutputStream
     private OutputStream cacheOutputStream;
     private Function<OutputStreamFunction, ?> cacheOutputStreamTemplate = this::doWithOutputStream;
     private Map<String, String> digestMap;
+
+    /**
+     * Updates the digests with large chunks, whatever the size of the writes.
+     */
+    private final MultipleDigestEngine digestEngine = new MultipleDigestEngine(() -> super.getDigests().values());
     
     public LayoutOutputStream(OutputStream source)
             throws NoSuchAlgorithmException
@@ -71,6 +81,14 @@ public class LayoutOutputStream extends MultipleDigestOutputStream
         this.digestStringifier = digestStringifier;
     }
 
+    @Override
+    public Map<String, MessageDigest> getDigests()
+    {
+        digestEngine.flush();
+
+        return super.getDigests();
+    }
+
     public Map<String, String> getDigestMap()
     {
         if (digestMap == null)
@@ -96,7 +114,8 @@ public class LayoutOutputStream extends MultipleDigestOutputStream
     public void write(int b)
         throws IOException
     {
-        super.write(b);
+        out.write(b);
+        digestEngine.update((byte) b);
         cacheOutputStreamTemplate.apply(o -> o.write(b));
     }
 
@@ -106,7 +125,8 @@ public class LayoutOutputStream extends MultipleDigestOutputStream
                       int len)
         throws IOException
     {
-        super.write(b, off, len);
+        out.write(b, off, len);
+        digestEngine.update(b, off, len);
         cacheOutputStreamTemplate.apply(o -> o.write(b, off, len));
     }
 
@@ -114,8 +134,7 @@ public class LayoutOutputStream extends MultipleDigestOutputStream
     public void write(byte[] b)
             throws IOException
     {
-        super.write(b);
-        cacheOutputStreamTemplate.apply(o -> o.write(b));
+        write(b, 0, b.length);
     }
 
     @Override
@@ -0,0 +1,284 @@
+package org.carlspring.strongbox.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Feeds the same bytes into several {@link MessageDigest}s, so that the artifact is read only once whatever the
+ * number of the checksum algorithms of its layout.
+ * <br>
+ * The small writes are collected into a buffer of up to {@link #BUFFER_SIZE} bytes, and the digests are updated with
+ * whole buffers: the digest implementations (and their intrinsics) perform best over long contiguous arrays. Once a
+ * chunk is at least {@link #PARALLEL_THRESHOLD} bytes long, the digests are updated on separate cores. The calling
+ * thread takes its share of the digests as well, and the rest of them if the helper threads are busy, so the update
+ * is never slower than the sequential one.
+ * <br>
+ * The digests must not be read before {@link #flush()}.
+ */
+public class MultipleDigestEngine
+{
+
+    public static final int BUFFER_SIZE = 1024 * 1024;
+
+    public static final int PARALLEL_THRESHOLD = 64 * 1024;
+
+    private static final int MIN_BUFFER_SIZE = 8 * 1024;
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private final Supplier<Collection<MessageDigest>> digests;
+
+    private byte[] buffer;
+
+    private int position;
+
+    /**
+     * @param digests the digests to be updated, which are looked up on every flush, so that the algorithms could be
+     *                added after the engine has been created
+     */
+    public MultipleDigestEngine(Supplier<Collection<MessageDigest>> digests)
+    {
+        this.digests = digests;
+    }
+
+    public void update(byte b)
+    {
+        if (digests.get().isEmpty())
+        {
+            return;
+        }
+        if (buffer == null || position == buffer.length)
+        {
+            ensureCapacity(1);
+        }
+
+        buffer[position++] = b;
+    }
+
+    public void update(byte[] b,
+                       int off,
+                       int len)
+    {
+        if (len <= 0 || digests.get().isEmpty())
+        {
+            return;
+        }
+
+        // Large chunks don't need to be copied.
+        if (position == 0 && len >= BUFFER_SIZE)
+        {
+            update(digests.get(), b, off, len);
+
+            return;
+        }
+
+        while (len > 0)
+        {
+            ensureCapacity(len);
+
+            int n = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, n);
+            position += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Updates the digests with the buffered bytes.
+     */
+    public void flush()
+    {
+        if (position > 0)
+        {
+            update(digests.get(), buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Reads the whole stream and updates the digests with its content.
+     *
+     * @return the number of bytes read
+     */
+    public long update(InputStream is,
+                       long sizeHint)
+            throws IOException
+    {
+        byte[] b = newBuffer(sizeHint);
+
+        long total = 0;
+        int n;
+        while ((n = is.read(b)) != -1)
+        {
+            update(b, 0, n);
+            total += n;
+        }
+        flush();
+
+        return total;
+    }
+
+    /**
+     * Grows the buffer (starting small, so that the small files don't allocate the whole {@link #BUFFER_SIZE}), and
+     * flushes it once it's full.
+     */
+    private void ensureCapacity(int len)
+    {
+        if (buffer == null)
+        {
+            buffer = new byte[MIN_BUFFER_SIZE];
+        }
+        if (buffer.length - position >= len)
+        {
+            return;
+        }
+        if (buffer.length < BUFFER_SIZE)
+        {
+            int capacity = buffer.length;
+            while (capacity - position < len && capacity < BUFFER_SIZE)
+            {
+                capacity <<= 1;
+            }
+
+            byte[] newBuffer = new byte[Math.min(capacity, BUFFER_SIZE)];
+            System.arraycopy(buffer, 0, newBuffer, 0, position);
+            buffer = newBuffer;
+        }
+        if (position == buffer.length)
+        {
+            flush();
+        }
+    }
+
+    /**
+     * @param sizeHint the expected number of bytes, if known, or a negative number otherwise
+     * @return a read buffer large enough for the whole content, but not larger than {@link #BUFFER_SIZE}
+     */
+    public static byte[] newBuffer(long sizeHint)
+    {
+        if (sizeHint < 0)
+        {
+            return new byte[BUFFER_SIZE];
+        }
+
+        return new byte[(int) Math.max(MIN_BUFFER_SIZE, Math.min(sizeHint, BUFFER_SIZE))];
+    }
+
+    /**
+     * Updates all the digests with the chunk, in parallel if it's worth it.
+     */
+    public static void update(Collection<MessageDigest> digests,
+                              byte[] b,
+                              int off,
+                              int len)
+    {
+        if (digests.size() < 2 || len < PARALLEL_THRESHOLD || PARALLELISM < 2)
+        {
+            for (MessageDigest digest : digests)
+            {
+                digest.update(b, off, len);
+            }
+
+            return;
+        }
+
+        List<MessageDigest> pending = new ArrayList<>(digests);
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(pending.size());
+
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < pending.size(); i = next.getAndIncrement())
+            {
+                try
+                {
+                    pending.get(i).update(b, off, len);
+                }
+                finally
+                {
+                    done.countDown();
+                }
+            }
+        };
+
+        for (int i = 1; i < pending.size(); i++)
+        {
+            Helpers.EXECUTOR.execute(worker);
+        }
+        worker.run();
+
+        awaitUninterruptibly(done);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch)
+    {
+        boolean interrupted = false;
+        try
+        {
+            while (true)
+            {
+                try
+                {
+                    latch.await();
+
+                    return;
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted = true;
+                }
+            }
+        }
+        finally
+        {
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The helper threads are created only once a large chunk is digested. The helper tasks which can't be queued are
+     * discarded, because the calling thread updates the digests which were not taken.
+     */
+    private static class Helpers
+    {
+
+        private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ThreadPoolExecutor createExecutor()
+        {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(PARALLELISM,
+                                                                 PARALLELISM,
+                                                                 60L,
+                                                                 TimeUnit.SECONDS,
+                                                                 new ArrayBlockingQueue<>(PARALLELISM * 4),
+                                                                 r -> {
+                                                                     Thread thread = new Thread(r,
+                                                                                                "strongbox-digest-" +
+                                                                                                threadNumber.incrementAndGet());
+                                                                     thread.setDaemon(true);
+
+                                                                     return thread;
+                                                                 },
+                                                                 new ThreadPoolExecutor.DiscardPolicy());
+            executor.allowCoreThreadTimeOut(true);
+
+            return executor;
+        }
+
+    }
+
+}
@@ -22,8 +22,17 @@ public interface ConfigurationManagementService
 
     MutableConfiguration getMutableConfigurationClone();
 
+    /**
+     * @return the immutable snapshot of the current configuration, which is cheap to obtain and is not affected by
+     *         the later modifications
+     */
     Configuration getConfiguration();
 
+    /**
+     * @return the version of the configuration, which is incremented on every modification
+     */
+    long getConfigurationVersion();
+
     void setConfiguration(MutableConfiguration configuration) throws IOException;
 
     void setInstanceName(String instanceName) throws IOException;
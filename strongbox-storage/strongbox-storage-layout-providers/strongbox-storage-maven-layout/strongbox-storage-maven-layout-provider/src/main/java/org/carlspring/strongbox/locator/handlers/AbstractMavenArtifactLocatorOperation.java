@@ -8,6 +8,7 @@ import org.carlspring.strongbox.storage.metadata.VersionCollector;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,9 +25,6 @@ public abstract class AbstractMavenArtifactLocatorOperation
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractMavenArtifactLocatorOperation.class);
 
-    private RepositoryPath previousPath;
-
-
     public AbstractMavenArtifactLocatorOperation()
     {
     }
@@ -48,8 +46,9 @@ public abstract class AbstractMavenArtifactLocatorOperation
         
         RepositoryPath artifactGroupDirectoryPath = direcotryPath.getParent();
         
-        // Don't enter visited paths (i.e. version directories such as 1.2, 1.3, 1.4...)
-        if (getVisitedRootPaths().containsKey(artifactGroupDirectoryPath) && getVisitedRootPaths().get(artifactGroupDirectoryPath).contains(direcotryPath))
+        // Don't enter visited paths (i.e. version directories such as 1.2, 1.3, 1.4...), the version directories can
+        // be visited concurrently, so the artifact directory is claimed before it's processed.
+        if (getVisitedRootPaths().putIfAbsent(artifactGroupDirectoryPath, Collections.emptyList()) != null)
         {
             return;
         }
@@ -60,18 +59,6 @@ public abstract class AbstractMavenArtifactLocatorOperation
             System.out.println(artifactGroupDirectoryPath);
         }
 
-        // The current directory is out of the tree
-        if (previousPath != null && !artifactGroupDirectoryPath.startsWith(previousPath))
-        {
-            getVisitedRootPaths().remove(previousPath);
-            previousPath = artifactGroupDirectoryPath;
-        }
-
-        if (previousPath == null)
-        {
-            previousPath = artifactGroupDirectoryPath;
-        }
-
         List<RepositoryPath> versionDirectories = getVersionDirectories(artifactGroupDirectoryPath);
         if (versionDirectories == null)
         {
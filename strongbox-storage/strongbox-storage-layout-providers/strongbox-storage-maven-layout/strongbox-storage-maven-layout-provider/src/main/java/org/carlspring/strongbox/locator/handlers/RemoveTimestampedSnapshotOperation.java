@@ -9,6 +9,7 @@ import org.carlspring.strongbox.storage.metadata.VersionCollector;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Stream;
@@ -27,8 +28,6 @@ public class RemoveTimestampedSnapshotOperation
     private static final Logger logger = LoggerFactory.getLogger(
             RemoveTimestampedSnapshotOperation.class);
 
-    private RepositoryPath previousPath;
-
     private int numberToKeep;
 
     private Date keepDate;
@@ -59,14 +58,9 @@ public class RemoveTimestampedSnapshotOperation
         }
         
         // Don't enter visited paths (i.e. version directories such as 1.2, 1.3, 1.4...)
-        if (getVisitedRootPaths().containsKey(basePath))
+        if (getVisitedRootPaths().putIfAbsent(basePath, Collections.emptyList()) != null)
         {
-            List<RepositoryPath> visitedVersionPaths = getVisitedRootPaths().get(basePath);
-
-            if (visitedVersionPaths.contains(basePath))
-            {
-                return;
-            }
+            return;
         }
 
         if (logger.isDebugEnabled())
@@ -75,18 +69,6 @@ public class RemoveTimestampedSnapshotOperation
             System.out.println(basePath);
         }
 
-        // The current directory is out of the tree
-        if (previousPath != null && !basePath.startsWith(previousPath))
-        {
-            getVisitedRootPaths().remove(previousPath);
-            previousPath = basePath;
-        }
-
-        if (previousPath == null)
-        {
-            previousPath = basePath;
-        }
-
         List<RepositoryPath> versionDirectories = getVersionDirectories(basePath);
         if (versionDirectories == null)
         {
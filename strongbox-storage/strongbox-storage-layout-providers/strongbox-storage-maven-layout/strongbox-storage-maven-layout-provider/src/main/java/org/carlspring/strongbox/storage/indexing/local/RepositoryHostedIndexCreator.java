@@ -73,64 +73,66 @@ public class RepositoryHostedIndexCreator
         final String storageId = repository.getStorage().getId();
         final String repositoryId = repository.getId();
 
-        final long totalArtifactGroupsInRepository = repositoryArtifactIdGroupService.count(storageId,
-                                                                                            repositoryId);
-        if (totalArtifactGroupsInRepository == 0)
+        // Key paging, so that the cost of a page does not grow with the number of the groups already indexed
+        PagingCriteria pagingCriteria = PagingCriteria.seek(REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE);
+        List<RepositoryArtifactIdGroupEntry> repositoryArtifactIdGroupEntries;
+        do
         {
-            return;
-        }
-
-        final long iterations = totalArtifactGroupsInRepository / REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE + 1;
+            repositoryArtifactIdGroupEntries = repositoryArtifactIdGroupService.findMatching(storageId,
+                                                                                             repositoryId,
+                                                                                             pagingCriteria);
+            if (repositoryArtifactIdGroupEntries.isEmpty())
+            {
+                break;
+            }
+            pagingCriteria = pagingCriteria.next(
+                    repositoryArtifactIdGroupEntries.get(repositoryArtifactIdGroupEntries.size() - 1).getUuid());
 
-        for (int i = 0; i < iterations; i++)
-        {
-            final PagingCriteria pagingCriteria = new PagingCriteria(i * REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE,
-                                                                     REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE);
-            final List<RepositoryArtifactIdGroupEntry> repositoryArtifactIdGroupEntries = repositoryArtifactIdGroupService.findMatching(
-                    storageId,
-                    repositoryId,
-                    pagingCriteria);
-
-            final List<ArtifactContext> artifactContexts = createArtifactContexts(repositoryArtifactIdGroupEntries);
+            final List<ArtifactContext> artifactContexts = new ArrayList<>();
+            for (final RepositoryArtifactIdGroupEntry repositoryArtifactIdGroupEntry : repositoryArtifactIdGroupEntries)
+            {
+                artifactContexts.addAll(createArtifactContexts(repositoryArtifactIdGroupEntry.getArtifactEntries()));
+            }
             Indexer.INSTANCE.addArtifactsToIndex(artifactContexts, indexingContext);
         }
+        while (repositoryArtifactIdGroupEntries.size() == REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE);
     }
 
-    private List<ArtifactContext> createArtifactContexts(final List<RepositoryArtifactIdGroupEntry> repositoryArtifactIdGroupEntries)
+    /**
+     * Creates the {@link ArtifactContext}s of the indexable artifact entries. The entries of the same version should
+     * be passed together, because the context of an artifact depends on its pom, sources and javadoc neighbours.
+     */
+    List<ArtifactContext> createArtifactContexts(final Collection<ArtifactEntry> artifactEntries)
     {
         final List<ArtifactContext> artifactContexts = new ArrayList<>();
-        for (final RepositoryArtifactIdGroupEntry repositoryArtifactIdGroupEntry : repositoryArtifactIdGroupEntries)
+        final Map<String, List<ArtifactEntry>> groupedByVersion = groupArtifactEntriesByVersion(artifactEntries);
+        for (final Map.Entry<String, List<ArtifactEntry>> sameVersionArtifactEntries : groupedByVersion.entrySet())
         {
-            final Map<String, List<ArtifactEntry>> groupedByVersion = groupArtifactEntriesByVersion(
-                    repositoryArtifactIdGroupEntry);
-            for (final Map.Entry<String, List<ArtifactEntry>> sameVersionArtifactEntries : groupedByVersion.entrySet())
+            for (final ArtifactEntry artifactEntry : sameVersionArtifactEntries.getValue())
             {
-                for (final ArtifactEntry artifactEntry : sameVersionArtifactEntries.getValue())
+                if (!isIndexable(artifactEntry))
                 {
-                    if (!isIndexable(artifactEntry))
-                    {
-                        continue;
-                    }
-
-                    final List<ArtifactEntry> groupClone = new ArrayList<>(sameVersionArtifactEntries.getValue());
-                    groupClone.remove(artifactEntry);
-
-                    final ArtifactEntryArtifactContextHelper artifactContextHelper = createArtifactContextHelper(
-                            artifactEntry,
-                            groupClone);
-                    final ArtifactEntryArtifactContext ac = new ArtifactEntryArtifactContext(artifactEntry,
-                                                                                             artifactContextHelper);
-                    artifactContexts.add(ac);
+                    continue;
                 }
+
+                final List<ArtifactEntry> groupClone = new ArrayList<>(sameVersionArtifactEntries.getValue());
+                groupClone.remove(artifactEntry);
+
+                final ArtifactEntryArtifactContextHelper artifactContextHelper = createArtifactContextHelper(
+                        artifactEntry,
+                        groupClone);
+                final ArtifactEntryArtifactContext ac = new ArtifactEntryArtifactContext(artifactEntry,
+                                                                                         artifactContextHelper);
+                artifactContexts.add(ac);
             }
         }
         return artifactContexts;
     }
 
-    private Map<String, List<ArtifactEntry>> groupArtifactEntriesByVersion(final RepositoryArtifactIdGroupEntry groupEntry)
+    private Map<String, List<ArtifactEntry>> groupArtifactEntriesByVersion(final Collection<ArtifactEntry> artifactEntries)
     {
         final Map<String, List<ArtifactEntry>> groupedByVersion = new LinkedHashMap<>();
-        for (final ArtifactEntry artifactEntry : groupEntry.getArtifactEntries())
+        for (final ArtifactEntry artifactEntry : artifactEntries)
         {
             final MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
             final String version = coordinates.getVersion();
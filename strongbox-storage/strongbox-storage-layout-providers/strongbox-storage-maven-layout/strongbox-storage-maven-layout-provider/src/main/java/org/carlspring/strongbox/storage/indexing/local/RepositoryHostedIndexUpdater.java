@@ -0,0 +1,385 @@
+package org.carlspring.strongbox.storage.indexing.local;
+
+import org.carlspring.strongbox.artifact.MavenArtifactUtils;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.repository.MavenRepositoryFeatures;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.indexing.IndexPacker;
+import org.carlspring.strongbox.storage.indexing.IndexTypeEnum;
+import org.carlspring.strongbox.storage.indexing.Indexer;
+import org.carlspring.strongbox.storage.indexing.RepositoryCloseableIndexingContext;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexDirectoryPathResolver;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexDirectoryPathResolver.RepositoryIndexDirectoryPathResolverQualifier;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory.RepositoryIndexingContextFactoryQualifier;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+import org.apache.maven.index.ArtifactContext;
+import org.apache.maven.index.ArtifactInfo;
+import org.apache.maven.index.artifact.Gav;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Incremental maintenance of the hosted repositories indexes.
+ * <p>
+ * The stored, updated and deleted artifact paths are collected from the {@link ArtifactEvent}s and periodically
+ * applied to the existing Lucene index: the documents of the affected artifact versions are replaced (or removed),
+ * and the index is packed once per flush, so that the changes are published as the next incremental chunk
+ * (<code>nexus-maven-repository-index.N.gz</code>) instead of rebuilding the whole index. The repositories which
+ * have never been packed are left to the full rebuild by {@link RepositoryHostedIndexCreator}.
+ */
+@Component
+public class RepositoryHostedIndexUpdater
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryHostedIndexUpdater.class);
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private MavenRepositoryFeatures mavenRepositoryFeatures;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    @Inject
+    private RepositoryHostedIndexCreator repositoryHostedIndexCreator;
+
+    @Inject
+    @RepositoryIndexDirectoryPathResolverQualifier(IndexTypeEnum.LOCAL)
+    private RepositoryIndexDirectoryPathResolver indexDirectoryPathResolver;
+
+    @Inject
+    @RepositoryIndexingContextFactoryQualifier(IndexTypeEnum.LOCAL)
+    private RepositoryIndexingContextFactory indexingContextFactory;
+
+    @Value("${strongbox.maven.index.hosted.flushIntervalSeconds:60}")
+    private int flushIntervalSeconds = 60;
+
+    /**
+     * The changed artifact paths by the <code>storageId:repositoryId</code> key.
+     */
+    private final ConcurrentMap<String, Set<String>> pendingChanges = new ConcurrentHashMap<>();
+
+    private final LongAdder recordedChanges = new LongAdder();
+
+    private final LongAdder updatedArtifacts = new LongAdder();
+
+    private final LongAdder removedArtifacts = new LongAdder();
+
+    private final LongAdder failedFlushes = new LongAdder();
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "maven-hosted-index-updater");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalSeconds, flushIntervalSeconds,
+                                        TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdown();
+        try
+        {
+            executor.awaitTermination(flushIntervalSeconds, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        flushSafely();
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            return;
+        }
+
+        final RepositoryPath repositoryPath = event.getPath();
+        final Repository repository = repositoryPath.getRepository();
+        if (!Maven2LayoutProvider.ALIAS.equals(repository.getLayout()) || !repository.isHostedRepository() ||
+            !mavenRepositoryFeatures.isIndexingEnabled(repository))
+        {
+            return;
+        }
+
+        final String path;
+        try
+        {
+            path = RepositoryFiles.relativizePath(repositoryPath);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to resolve the index change of [{}].", repositoryPath, e);
+
+            return;
+        }
+
+        final Gav gav = MavenArtifactUtils.convertPathToGav(path);
+        if (gav == null || gav.isHash() || gav.isSignature())
+        {
+            return;
+        }
+
+        pendingChanges.computeIfAbsent(repository.getStorageIdAndRepositoryId(),
+                                       k -> ConcurrentHashMap.newKeySet())
+                      .add(path);
+        recordedChanges.increment();
+    }
+
+    public void flush()
+    {
+        for (String repositoryKey : new ArrayList<>(pendingChanges.keySet()))
+        {
+            final Set<String> paths = pendingChanges.remove(repositoryKey);
+            if (paths == null || paths.isEmpty())
+            {
+                continue;
+            }
+
+            try
+            {
+                flush(repositoryKey, paths);
+            }
+            catch (IOException | RuntimeException e)
+            {
+                failedFlushes.increment();
+                logger.warn("Failed to update the index of [{}] with [{}] changes, will retry on next flush.",
+                            repositoryKey, paths.size(), e);
+
+                pendingChanges.computeIfAbsent(repositoryKey, k -> ConcurrentHashMap.newKeySet()).addAll(paths);
+            }
+        }
+    }
+
+    private void flushSafely()
+    {
+        try
+        {
+            flush();
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to update the hosted repositories indexes.", e);
+        }
+    }
+
+    private void flush(final String repositoryKey,
+                       final Set<String> paths)
+            throws IOException
+    {
+        final Repository repository = getRepository(repositoryKey);
+        if (repository == null || !mavenRepositoryFeatures.isIndexingEnabled(repository))
+        {
+            logger.debug("Skip [{}] index changes of [{}].", paths.size(), repositoryKey);
+
+            return;
+        }
+
+        final RepositoryPath indexDirectoryPath = indexDirectoryPathResolver.resolve(repository);
+        if (!IndexPacker.packageExists(indexDirectoryPath))
+        {
+            logger.debug("Index of [{}] has not been built yet, skip [{}] index changes.", repositoryKey,
+                         paths.size());
+
+            return;
+        }
+
+        final Lock lock = repositoryPathLock.lock(indexDirectoryPath).writeLock();
+        try
+        {
+            if (!lock.tryLock(5, TimeUnit.SECONDS))
+            {
+                throw new IOException(String.format("Index of repository [%s] is currently locked.", repositoryKey));
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+
+        try (final RepositoryCloseableIndexingContext indexingContext = indexingContextFactory.create(repository))
+        {
+            for (Map.Entry<String, List<String>> e : groupByVersion(paths).entrySet())
+            {
+                update(repository, e.getValue(), indexingContext);
+            }
+
+            indexingContext.updateTimestamp(true);
+            IndexPacker.pack(indexDirectoryPath, indexingContext);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        logger.debug("Index of [{}] was updated with [{}] changes.", repositoryKey, paths.size());
+    }
+
+    /**
+     * Replaces the documents of all the artifacts with the version of the changed ones, because the document of an
+     * artifact depends on its pom, sources and javadoc neighbours, and removes the documents of the deleted artifacts.
+     */
+    private void update(final Repository repository,
+                        final List<String> changedPaths,
+                        final RepositoryCloseableIndexingContext indexingContext)
+            throws IOException
+    {
+        final Gav version = MavenArtifactUtils.convertPathToGav(changedPaths.get(0));
+
+        final Map<String, String> coordinates = new HashMap<>();
+        coordinates.put("groupId", version.getGroupId());
+        coordinates.put("artifactId", version.getArtifactId());
+        coordinates.put("version", version.getVersion());
+
+        final List<ArtifactEntry> artifactEntries = artifactEntryService.findArtifactList(
+                repository.getStorage().getId(),
+                repository.getId(),
+                coordinates,
+                true);
+        final Set<String> artifactPaths = artifactEntries.stream()
+                                                         .map(ArtifactEntry::getArtifactPath)
+                                                         .collect(Collectors.toSet());
+
+        final List<ArtifactContext> removed = changedPaths.stream()
+                                                          .filter(path -> !artifactPaths.contains(path))
+                                                          .map(MavenArtifactUtils::convertPathToGav)
+                                                          .map(gav -> createArtifactContext(repository, gav))
+                                                          .collect(Collectors.toList());
+        if (!removed.isEmpty())
+        {
+            Indexer.INSTANCE.deleteArtifactsFromIndex(removed, indexingContext);
+            removedArtifacts.add(removed.size());
+        }
+
+        final List<ArtifactContext> updated = repositoryHostedIndexCreator.createArtifactContexts(artifactEntries);
+        if (!updated.isEmpty())
+        {
+            Indexer.INSTANCE.addArtifactsToIndex(updated, indexingContext);
+            updatedArtifacts.add(updated.size());
+        }
+    }
+
+    private ArtifactContext createArtifactContext(final Repository repository,
+                                                  final Gav gav)
+    {
+        final ArtifactInfo artifactInfo = new ArtifactInfo(repository.getId(),
+                                                           gav.getGroupId(),
+                                                           gav.getArtifactId(),
+                                                           gav.getVersion(),
+                                                           gav.getClassifier(),
+                                                           gav.getExtension());
+
+        return new ArtifactContext(null, null, null, artifactInfo, gav);
+    }
+
+    private Map<String, List<String>> groupByVersion(final Set<String> paths)
+    {
+        final Map<String, List<String>> result = new LinkedHashMap<>();
+        for (final String path : paths)
+        {
+            final Gav gav = MavenArtifactUtils.convertPathToGav(path);
+            final String key = String.format("%s:%s:%s", gav.getGroupId(), gav.getArtifactId(), gav.getVersion());
+
+            result.computeIfAbsent(key, k -> new ArrayList<>()).add(path);
+        }
+
+        return result;
+    }
+
+    private Repository getRepository(final String repositoryKey)
+    {
+        final String[] ids = repositoryKey.split(":", 2);
+        final Storage storage = configurationManager.getConfiguration().getStorage(ids[0]);
+
+        return storage != null ? storage.getRepository(ids[1]) : null;
+    }
+
+    public int getPendingChanges()
+    {
+        return pendingChanges.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public long getRecordedChanges()
+    {
+        return recordedChanges.sum();
+    }
+
+    public long getUpdatedArtifacts()
+    {
+        return updatedArtifacts.sum();
+    }
+
+    public long getRemovedArtifacts()
+    {
+        return removedArtifacts.sum();
+    }
+
+    public long getFailedFlushes()
+    {
+        return failedFlushes.sum();
+    }
+
+    public int getFlushIntervalSeconds()
+    {
+        return flushIntervalSeconds;
+    }
+
+    public void setFlushIntervalSeconds(int flushIntervalSeconds)
+    {
+        this.flushIntervalSeconds = flushIntervalSeconds;
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.providers.repository;
 
+import org.carlspring.strongbox.artifact.ArtifactDownloadStatisticsAggregator;
 import org.carlspring.strongbox.artifact.MavenArtifactUtils;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -52,6 +53,9 @@ public class ParallelDownloadRemoteArtifactTest
     @Inject
     private PlatformTransactionManager transactionManager;
 
+    @Inject
+    private ArtifactDownloadStatisticsAggregator artifactDownloadStatisticsAggregator;
+
     @Override
     public InputStream getInputStream()
     {
@@ -126,7 +130,10 @@ public class ParallelDownloadRemoteArtifactTest
         assertThat(result).hasSize(concurrency);
 
         assertThat(actual).isEqualTo(expected);
-        
+
+        // The downloads are counted in the background, so they need to be flushed before they can be checked.
+        artifactDownloadStatisticsAggregator.flush();
+
         RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId,
                                                                        repositoryId,
                                                                        path);
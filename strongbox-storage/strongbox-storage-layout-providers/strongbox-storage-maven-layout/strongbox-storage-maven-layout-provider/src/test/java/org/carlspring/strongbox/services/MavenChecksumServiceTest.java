@@ -12,8 +12,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
@@ -403,4 +405,46 @@ public class MavenChecksumServiceTest
                 .isTrue();
     }
 
+    @Test
+    @ExtendWith({RepositoryManagementTestExecutionListener.class,
+                 ArtifactManagementTestExecutionListener.class})
+    public void testRegenerateOnlyOutdatedMavenChecksums(@MavenRepository(repositoryId = REPOSITORY_RELEASES)
+                                                         Repository repository,
+                                                         @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES,
+                                                                            resource = A3)
+                                                         Path artifact)
+            throws IOException,
+                   XmlPullParserException,
+                   NoSuchAlgorithmException
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        String fileName = artifact.getFileName().toString();
+        Path md5File = artifact.resolveSibling(fileName + "." + MessageDigestAlgorithms.MD5.toLowerCase());
+        Path sha1File = artifact.resolveSibling(fileName + ".sha1");
+
+        long artifactModified = Files.getLastModifiedTime(artifact).toMillis();
+
+        // Written after the artifact, so it's considered to be up to date.
+        Files.write(md5File, "up-to-date".getBytes());
+        Files.setLastModifiedTime(md5File, FileTime.fromMillis(artifactModified + TimeUnit.MINUTES.toMillis(1)));
+
+        // Written before the artifact, so it's outdated.
+        Files.write(sha1File, "outdated".getBytes());
+        Files.setLastModifiedTime(sha1File, FileTime.fromMillis(artifactModified - TimeUnit.MINUTES.toMillis(1)));
+
+        checksumService.regenerateChecksum(storageId,
+                                           repositoryId,
+                                           "org/carlspring/strongbox/checksum/maven/checksum-rewrite",
+                                           false);
+
+        assertThat(new String(Files.readAllBytes(sha1File)))
+                .as("The outdated checksum file hasn't been rewritten!")
+                .isNotEqualTo("outdated");
+        assertThat(new String(Files.readAllBytes(md5File)))
+                .as("The up to date checksum file has been rewritten!")
+                .isEqualTo("up-to-date");
+    }
+
 }
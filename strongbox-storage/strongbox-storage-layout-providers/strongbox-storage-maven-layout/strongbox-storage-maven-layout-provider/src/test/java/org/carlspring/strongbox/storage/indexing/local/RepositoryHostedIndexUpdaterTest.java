@@ -0,0 +1,126 @@
+package org.carlspring.strongbox.storage.indexing.local;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.indexing.BaseRepositoryIndexCreatorTest;
+import org.carlspring.strongbox.storage.indexing.IndexTypeEnum;
+import org.carlspring.strongbox.storage.indexing.RepositoryCloseableIndexingContext;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexCreator;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexCreator.RepositoryIndexCreatorQualifier;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory.RepositoryIndexingContextFactoryQualifier;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.testing.MavenIndexedRepositorySetup;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.nio.file.Files;
+
+import org.apache.lucene.search.Query;
+import org.apache.maven.index.FlatSearchRequest;
+import org.apache.maven.index.FlatSearchResponse;
+import org.apache.maven.index.MAVEN;
+import org.apache.maven.index.expr.SourcedSearchExpression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+@Execution(CONCURRENT)
+public class RepositoryHostedIndexUpdaterTest
+        extends BaseRepositoryIndexCreatorTest
+{
+
+    private static final String REPOSITORY_RELEASES = "ri-releases-rhiut";
+
+    private static final String REPOSITORY_RELEASES_DIRECTORY = "ri-releases-rhiut-directory";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/properties-injector/1.7/properties-injector-1.7.jar";
+
+    private Resource jarArtifact = new ClassPathResource("artifacts/properties-injector-1.7.jar");
+
+    @Inject
+    private ArtifactManagementService artifactManagementService;
+
+    @Inject
+    private RepositoryHostedIndexUpdater repositoryHostedIndexUpdater;
+
+    @Inject
+    @RepositoryIndexCreatorQualifier(RepositoryTypeEnum.HOSTED)
+    private RepositoryIndexCreator repositoryIndexCreator;
+
+    @Inject
+    @RepositoryIndexingContextFactoryQualifier(IndexTypeEnum.LOCAL)
+    private RepositoryIndexingContextFactory indexingContextFactory;
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void changesShouldBePublishedAsIncrementalChunks(@MavenRepository(repositoryId = REPOSITORY_RELEASES,
+                                                                             setup = MavenIndexedRepositorySetup.class)
+                                                            Repository repository)
+            throws Exception
+    {
+        final RepositoryPath indexPath = repositoryIndexCreator.apply(repository);
+        final RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, ARTIFACT_PATH);
+
+        artifactManagementService.validateAndStore(repositoryPath, jarArtifact.getInputStream());
+        repositoryHostedIndexUpdater.flush();
+
+        assertThat(indexPath.resolve("nexus-maven-repository-index.1.gz")).matches(Files::exists);
+        assertHits(repository, 1);
+
+        artifactManagementService.delete(repositoryPath, true);
+        repositoryHostedIndexUpdater.flush();
+
+        assertThat(indexPath.resolve("nexus-maven-repository-index.2.gz")).matches(Files::exists);
+        assertHits(repository, 0);
+    }
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void deletedVersionDirectoryShouldBeRemovedFromIndex(@MavenRepository(repositoryId = REPOSITORY_RELEASES_DIRECTORY,
+                                                                                 setup = MavenIndexedRepositorySetup.class)
+                                                                Repository repository)
+            throws Exception
+    {
+        final RepositoryPath indexPath = repositoryIndexCreator.apply(repository);
+        final RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, ARTIFACT_PATH);
+
+        artifactManagementService.validateAndStore(repositoryPath, jarArtifact.getInputStream());
+        repositoryHostedIndexUpdater.flush();
+
+        assertHits(repository, 1);
+
+        artifactManagementService.delete(repositoryPath.getParent(), true);
+        repositoryHostedIndexUpdater.flush();
+
+        assertThat(indexPath.resolve("nexus-maven-repository-index.2.gz")).matches(Files::exists);
+        assertHits(repository, 0);
+    }
+
+    private void assertHits(final Repository repository,
+                            final int expectedHitsCount)
+            throws Exception
+    {
+        try (RepositoryCloseableIndexingContext indexingContext = indexingContextFactory.create(repository))
+        {
+            final Query q = indexer.constructQuery(MAVEN.ARTIFACT_ID, new SourcedSearchExpression("properties-injector"));
+            final FlatSearchResponse response = indexer.searchFlat(new FlatSearchRequest(q, indexingContext));
+
+            assertThat(response.getTotalHitsCount()).isEqualTo(expectedHitsCount);
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.carlspring.strongbox.providers.layout;
+
+/**
+ * Serialized npm package document (the <code>PackageFeed</code>), as it's served to the clients.
+ */
+public class NpmPackument
+{
+
+    private final String revision;
+
+    private final byte[] content;
+
+    private final long created = System.currentTimeMillis();
+
+    public NpmPackument(String revision,
+                        byte[] content)
+    {
+        this.revision = revision;
+        this.content = content;
+    }
+
+    /**
+     * @return the <code>_rev</code> of the package document, which is also used as its <code>ETag</code>
+     */
+    public String getRevision()
+    {
+        return revision;
+    }
+
+    public String getETag()
+    {
+        return "\"" + revision + "\"";
+    }
+
+    public byte[] getContent()
+    {
+        return content;
+    }
+
+    public long getCreated()
+    {
+        return created;
+    }
+
+}
@@ -0,0 +1,153 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.cache.GenerationGuardedCache;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the serialized {@link NpmPackument}s, by package and repository.
+ * <br>
+ * All the cached documents of a package are invalidated once any of its files are stored, updated or deleted in any
+ * repository (so that the group repositories are invalidated as well), and once new versions are fetched from the
+ * remote package feeds. The entries also expire after <code>strongbox.npm.packumentCache.ttl</code> seconds, which
+ * covers the changes made asynchronously, such as the <code>last-version</code> tag updates.
+ */
+@Component
+public class NpmPackumentCache
+        extends GenerationGuardedCache<NpmPackument>
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(NpmPackumentCache.class);
+
+    @Value("${strongbox.npm.packumentCache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${strongbox.npm.packumentCache.maxSize:1000}")
+    private int maxSize = 1000;
+
+    @Value("${strongbox.npm.packumentCache.ttl:300}")
+    private long ttl = 300;
+
+    public NpmPackument get(Repository repository,
+                            String packageId)
+    {
+        return get(packageId, repository.getStorageIdAndRepositoryId());
+    }
+
+    /**
+     * The generation should be taken with {@link #getGeneration(String)} before the packument is built, so that it
+     * isn't cached if the package has been invalidated in the meantime.
+     */
+    public void put(Repository repository,
+                    String packageId,
+                    NpmPackument packument,
+                    long generation)
+    {
+        put(packageId, generation, repository.getStorageIdAndRepositoryId(), packument);
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        if (!isModification(event.getType()))
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = event.getPath();
+        if (!NpmLayoutProvider.ALIAS.equals(repositoryPath.getRepository().getLayout()))
+        {
+            return;
+        }
+
+        String packageId;
+        try
+        {
+            packageId = getPackageId(RepositoryFiles.relativizePath(repositoryPath));
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to resolve the package of [{}].", repositoryPath, e);
+            packageId = null;
+        }
+
+        if (packageId == null)
+        {
+            invalidateAll();
+
+            return;
+        }
+
+        invalidate(packageId);
+    }
+
+    /**
+     * @param path the repository relative path, such as <code>@scope/name/1.0.0/name-1.0.0.tgz</code> or
+     *             <code>name</code>
+     * @return the package ID, or <code>null</code> if the path is above the package directories
+     */
+    static String getPackageId(String path)
+    {
+        String[] segments = path.split("/");
+        if (segments.length == 0 || segments[0].isEmpty())
+        {
+            return null;
+        }
+        if (!segments[0].startsWith("@"))
+        {
+            return segments[0];
+        }
+
+        return segments.length > 1 ? segments[0] + "/" + segments[1] : null;
+    }
+
+    @Override
+    protected long getCreated(NpmPackument packument)
+    {
+        return packument.getCreated();
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected long getTtl()
+    {
+        return ttl;
+    }
+
+    public void setTtl(long ttl)
+    {
+        this.ttl = ttl;
+    }
+
+}
@@ -27,6 +27,7 @@ import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.NpmPackumentCache;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
@@ -57,6 +58,9 @@ public class NpmPackageFeedParser
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    @Inject
+    private NpmPackumentCache npmPackumentCache;
+
     public void parseSearchResult(Repository repository,
                                   SearchResults searchResults)
         throws IOException
@@ -172,6 +176,8 @@ public class NpmPackageFeedParser
         {
             lock.unlock();
         }
+
+        npmPackumentCache.invalidate(coordinates.getId());
     }
 
     private RemoteArtifactEntry parseVersion(String storageId,
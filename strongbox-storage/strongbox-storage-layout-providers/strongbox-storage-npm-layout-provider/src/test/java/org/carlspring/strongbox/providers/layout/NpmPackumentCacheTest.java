@@ -0,0 +1,86 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NpmPackumentCacheTest
+{
+
+    private NpmPackumentCache cache = new NpmPackumentCache();
+
+    @Test
+    public void testPackageId()
+    {
+        assertThat(NpmPackumentCache.getPackageId("react-redux/react-redux/5.0.6/react-redux-5.0.6.tgz"))
+                .isEqualTo("react-redux");
+        assertThat(NpmPackumentCache.getPackageId("@types/node/8.0.51/node-8.0.51.tgz")).isEqualTo("@types/node");
+        assertThat(NpmPackumentCache.getPackageId("@types")).isNull();
+        assertThat(NpmPackumentCache.getPackageId("")).isNull();
+    }
+
+    @Test
+    public void testInvalidateAllRepositoriesOfPackage()
+    {
+        Repository releases = mockRepository("storage-npm:npm-releases");
+        Repository group = mockRepository("storage-npm:npm-group");
+
+        cache.put(releases, "@types/node", new NpmPackument("1-a", new byte[0]), cache.getGeneration("@types/node"));
+        cache.put(group, "@types/node", new NpmPackument("1-a", new byte[0]), cache.getGeneration("@types/node"));
+        cache.put(releases, "react", new NpmPackument("1-b", new byte[0]), cache.getGeneration("react"));
+
+        assertThat(cache.get(releases, "@types/node").getETag()).isEqualTo("\"1-a\"");
+        assertThat(cache.get(group, "@types/node")).isNotNull();
+
+        cache.invalidate("@types/node");
+
+        assertThat(cache.get(releases, "@types/node")).isNull();
+        assertThat(cache.get(group, "@types/node")).isNull();
+        assertThat(cache.get(releases, "react")).isNotNull();
+    }
+
+    @Test
+    public void testConcurrentlyInvalidatedPackumentIsNotCached()
+    {
+        Repository releases = mockRepository("storage-npm:npm-releases");
+
+        long generation = cache.getGeneration("react");
+        cache.invalidate("react");
+        cache.put(releases, "react", new NpmPackument("1-b", new byte[0]), generation);
+
+        assertThat(cache.get(releases, "react")).isNull();
+    }
+
+    @Test
+    public void testOtherPackagesAreCachedConcurrently()
+    {
+        Repository releases = mockRepository("storage-npm:npm-releases");
+
+        long reactGeneration = cache.getGeneration("react");
+        long nodeGeneration = cache.getGeneration("@types/node");
+
+        // The stale packument is dropped, and it doesn't invalidate the other packages.
+        cache.invalidate("react");
+        cache.put(releases, "react", new NpmPackument("1-b", new byte[0]), reactGeneration);
+        cache.put(releases, "@types/node", new NpmPackument("1-a", new byte[0]), nodeGeneration);
+
+        assertThat(cache.get(releases, "react")).isNull();
+        assertThat(cache.get(releases, "@types/node")).isNotNull();
+
+        cache.put(releases, "react", new NpmPackument("1-c", new byte[0]), cache.getGeneration("react"));
+
+        assertThat(cache.get(releases, "react").getETag()).isEqualTo("\"1-c\"");
+    }
+
+    private Repository mockRepository(String storageIdAndRepositoryId)
+    {
+        Repository repository = mock(Repository.class);
+        when(repository.getStorageIdAndRepositoryId()).thenReturn(storageIdAndRepositoryId);
+
+        return repository;
+    }
+
+}
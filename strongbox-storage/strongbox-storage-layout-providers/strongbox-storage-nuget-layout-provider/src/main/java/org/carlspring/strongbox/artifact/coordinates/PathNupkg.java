@@ -15,6 +15,7 @@ import java.util.*;
 
 import javax.xml.bind.DatatypeConverter;
 
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
@@ -39,8 +40,6 @@ public class PathNupkg implements Nupkg
         
         this.path = path;
         this.artifactCoordinates = (NugetArtifactCoordinates) path.getArtifactEntry().getArtifactCoordinates();
-        this.nuspecFile = createNuspecFile();
-        this.hash = createHash();
     }
 
     public RepositoryPath getPath()
@@ -57,6 +56,17 @@ public class PathNupkg implements Nupkg
     @Override
     public String getHash()
     {
+        if (hash == null)
+        {
+            try
+            {
+                hash = createHash();
+            }
+            catch (IOException e)
+            {
+                logger.error("Failed to read checksum for [{}]", path, e);
+            }
+        }
         return hash;
     }
 
@@ -64,6 +74,12 @@ public class PathNupkg implements Nupkg
         throws IOException,
         UnsupportedEncodingException
     {
+        String checksum = path.getArtifactEntry().getChecksums().get(MessageDigestAlgorithms.SHA_512);
+        if (checksum != null)
+        {
+            return checksum;
+        }
+
         Map<String, RepositoryPath> checksumPathMap = path.getFileSystem().provider().resolveChecksumPathMap(path);
         if (checksumPathMap.isEmpty())
         {
@@ -92,6 +108,10 @@ public class PathNupkg implements Nupkg
     public Nuspec getNuspec()
         throws NugetFormatException
     {
+        if (nuspecFile == null)
+        {
+            nuspecFile = createNuspecFile();
+        }
         return nuspecFile;
     }
 
@@ -0,0 +1,82 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.artifact.AsyncArtifactEntryHandler;
+import org.carlspring.strongbox.artifact.coordinates.NugetArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.metadata.nuget.NugetFormatException;
+import org.carlspring.strongbox.storage.metadata.nuget.NugetPackageMetadata;
+import org.carlspring.strongbox.storage.metadata.nuget.Nuspec;
+import org.carlspring.strongbox.storage.metadata.nuget.TempNupkgFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the <code>.nuspec</code> properties of the stored NuGet packages into the {@link ArtifactEntry} metadata.
+ *
+ * @see NugetPackageMetadata
+ */
+@Component
+public class NugetPackageStoredEventHandler
+        extends AsyncArtifactEntryHandler
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(NugetPackageStoredEventHandler.class);
+
+    public NugetPackageStoredEventHandler()
+    {
+        super(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED);
+    }
+
+    @Override
+    protected ArtifactEntry handleEvent(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        if (!NugetArtifactCoordinates.LAYOUT_NAME.equals(repositoryPath.getRepository().getLayout())
+                || !repositoryPath.getFileName().toString().endsWith(".nupkg"))
+        {
+            return null;
+        }
+
+        ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+        if (artifactEntry == null)
+        {
+            return null;
+        }
+
+        Nuspec nuspec;
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(repositoryPath)))
+        {
+            nuspec = TempNupkgFile.loadNuspec(is);
+        }
+        catch (NugetFormatException e)
+        {
+            logger.error("Failed to read .nuspec of [{}]", repositoryPath, e);
+
+            return null;
+        }
+
+        if (nuspec == null)
+        {
+            logger.warn("No .nuspec found in [{}]", repositoryPath);
+
+            return null;
+        }
+
+        NugetPackageMetadata.write(nuspec,
+                                   artifactEntry.getChecksums().get(MessageDigestAlgorithms.SHA_512),
+                                   artifactEntry.getMetadata());
+
+        return artifactEntry;
+    }
+
+}
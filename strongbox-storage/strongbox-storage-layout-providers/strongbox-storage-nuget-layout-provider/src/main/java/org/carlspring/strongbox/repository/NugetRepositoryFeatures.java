@@ -26,6 +26,7 @@ import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.metadata.nuget.NugetPackageMetadata;
 import org.carlspring.strongbox.storage.metadata.nuget.rss.PackageEntry;
 import org.carlspring.strongbox.storage.metadata.nuget.rss.PackageFeed;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -225,6 +226,7 @@ public class NugetRepositoryFeatures
             remoteArtifactEntry.setDownloadCount(0);
 
             remoteArtifactEntry.setSizeInBytes(packageEntry.getProperties().getPackageSize());
+            NugetPackageMetadata.write(packageEntry, remoteArtifactEntry.getMetadata());
 
             if (Boolean.TRUE.equals(packageEntry.getProperties().getIsLatestVersion()))
             {
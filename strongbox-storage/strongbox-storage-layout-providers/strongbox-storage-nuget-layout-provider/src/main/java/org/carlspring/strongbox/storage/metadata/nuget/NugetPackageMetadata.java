@@ -0,0 +1,158 @@
+package org.carlspring.strongbox.storage.metadata.nuget;
+
+import org.carlspring.strongbox.artifact.coordinates.NugetArtifactCoordinates;
+import org.carlspring.strongbox.artifact.coordinates.versioning.SemanticVersion;
+import org.carlspring.strongbox.storage.metadata.nuget.rss.EntryProperties;
+import org.carlspring.strongbox.storage.metadata.nuget.rss.PackageEntry;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maps the package properties of the NuGet feed to the metadata of the package <code>ArtifactEntry</code> and back.
+ * <br>
+ * The metadata is written once, from the <code>.nuspec</code> when the package is stored, or from the remote feed
+ * when the feed is synchronized, and the feed entries are then created from the query results only, without reading
+ * the <code>.nuspec</code> and the checksum files of every package.
+ */
+public class NugetPackageMetadata
+{
+
+    public static final String TITLE = "title";
+
+    public static final String AUTHORS = "authors";
+
+    public static final String DESCRIPTION = "description";
+
+    public static final String SUMMARY = "summary";
+
+    public static final String COPYRIGHT = "copyright";
+
+    public static final String TAGS = "tags";
+
+    public static final String DEPENDENCIES = "dependencies";
+
+    public static final String REQUIRE_LICENSE_ACCEPTANCE = "requireLicenseAcceptance";
+
+    public static final String ICON_URL = "iconUrl";
+
+    public static final String LICENSE_URL = "licenseUrl";
+
+    public static final String PROJECT_URL = "projectUrl";
+
+    public static final String PROJECT_SOURCE_URL = "projectSourceUrl";
+
+    public static final String PACKAGE_SOURCE_URL = "packageSourceUrl";
+
+    public static final String DOCS_URL = "docsUrl";
+
+    public static final String MAILING_LIST_URL = "mailingListUrl";
+
+    public static final String BUG_TRACKER_URL = "bugTrackerUrl";
+
+    public static final String PACKAGE_HASH = "packageHash";
+
+    private static final String TAGS_DELIMITER = " ";
+
+    private NugetPackageMetadata()
+    {
+    }
+
+    public static void write(Nuspec nuspec,
+                             String packageHash,
+                             Map<String, String> metadata)
+    {
+        EntryProperties properties = new EntryProperties();
+        properties.setNuspec(nuspec);
+        properties.setPackageHash(packageHash);
+
+        write(properties, nuspec.getAuthors(), metadata);
+    }
+
+    public static void write(PackageEntry packageEntry,
+                             Map<String, String> metadata)
+    {
+        String authors = Optional.ofNullable(packageEntry.getAuthor()).map(Author::getName).orElse(null);
+
+        write(packageEntry.getProperties(), authors, metadata);
+    }
+
+    public static void write(EntryProperties properties,
+                             String authors,
+                             Map<String, String> metadata)
+    {
+        put(metadata, TITLE, properties.getTitle());
+        put(metadata, AUTHORS, authors);
+        put(metadata, DESCRIPTION, properties.getDescription());
+        put(metadata, SUMMARY, properties.getSummary());
+        put(metadata, COPYRIGHT, properties.getCopyright());
+        put(metadata, TAGS, String.join(TAGS_DELIMITER, properties.getTags()));
+        put(metadata, DEPENDENCIES, properties.getDependencies());
+        put(metadata, REQUIRE_LICENSE_ACCEPTANCE,
+            String.valueOf(Boolean.TRUE.equals(properties.getRequireLicenseAcceptance())));
+        put(metadata, ICON_URL, properties.getIconUrl());
+        put(metadata, LICENSE_URL, properties.getLicenseUrl());
+        put(metadata, PROJECT_URL, properties.getProjectUrl());
+        put(metadata, PROJECT_SOURCE_URL, properties.getProjectSourceUrl());
+        put(metadata, PACKAGE_SOURCE_URL, properties.getPackageSourceUrl());
+        put(metadata, DOCS_URL, properties.getDocsUrl());
+        put(metadata, MAILING_LIST_URL, properties.getMailingListUrl());
+        put(metadata, BUG_TRACKER_URL, properties.getBugTrackerUrl());
+        put(metadata, PACKAGE_HASH, properties.getPackageHash());
+    }
+
+    /**
+     * @return <code>true</code> if the package metadata have been written, the entries stored before the metadata was
+     *         denormalized have to be read from the package files
+     */
+    public static boolean exists(Map<String, String> metadata)
+    {
+        return metadata.containsKey(REQUIRE_LICENSE_ACCEPTANCE);
+    }
+
+    public static EntryProperties read(NugetArtifactCoordinates coordinates,
+                                       Map<String, String> metadata)
+    {
+        EntryProperties properties = new EntryProperties();
+        properties.setId(coordinates.getId());
+        properties.setVersion(SemanticVersion.parse(coordinates.getVersion()));
+
+        properties.setTitle(metadata.getOrDefault(TITLE, coordinates.getId()));
+        properties.setDescription(metadata.get(DESCRIPTION));
+        properties.setSummary(metadata.get(SUMMARY));
+        properties.setCopyright(metadata.get(COPYRIGHT));
+        properties.setTags(new StringListTypeAdapter().unmarshal(metadata.getOrDefault(TAGS, "")));
+        properties.setDependencies(metadata.getOrDefault(DEPENDENCIES, ""));
+        properties.setRequireLicenseAcceptance(Boolean.valueOf(metadata.get(REQUIRE_LICENSE_ACCEPTANCE)));
+        properties.setIconUrl(metadata.getOrDefault(ICON_URL, ""));
+        properties.setLicenseUrl(metadata.getOrDefault(LICENSE_URL, ""));
+        properties.setProjectUrl(metadata.getOrDefault(PROJECT_URL, ""));
+        properties.setProjectSourceUrl(metadata.getOrDefault(PROJECT_SOURCE_URL, ""));
+        properties.setPackageSourceUrl(metadata.getOrDefault(PACKAGE_SOURCE_URL, ""));
+        properties.setDocsUrl(metadata.getOrDefault(DOCS_URL, ""));
+        properties.setMailingListUrl(metadata.getOrDefault(MAILING_LIST_URL, ""));
+        properties.setBugTrackerUrl(metadata.getOrDefault(BUG_TRACKER_URL, ""));
+        properties.setPackageHash(metadata.getOrDefault(PACKAGE_HASH, ""));
+
+        properties.setReportAbuseUrl("");
+        properties.setReleaseNotes("");
+        properties.setLanguage("");
+        properties.setPrice(Double.valueOf(0));
+        properties.setExternalPackageUri("");
+        properties.setCategories("");
+        properties.setPackageType("");
+
+        return properties;
+    }
+
+    private static void put(Map<String, String> metadata,
+                            String key,
+                            String value)
+    {
+        if (value != null)
+        {
+            metadata.put(key, value);
+        }
+    }
+
+}
@@ -159,15 +159,44 @@ public class PackageEntry
         getProperties().setNuspec(nuspec);
         this.updated = updateDate;
         this.author = new Author(nuspec.getAuthors());
+        addLinks();
+        this.getProperties().setPackageHash(packageHash.toString());
+        this.getProperties().setPackageSize(packageSize);
+        this.getProperties().setPublished(updateDate);
+    }
+
+    /**
+     * @param properties
+     *            package properties, read from the stored package metadata
+     * @param authors
+     *            package authors
+     * @param packageSize
+     *            package size
+     * @param updateDate
+     *            package update date
+     */
+    public PackageEntry(EntryProperties properties,
+                        String authors,
+                        Long packageSize,
+                        Date updateDate)
+    {
+        this.properties = properties;
+        this.title = new Title(properties.getId());
+        this.updated = updateDate;
+        this.author = new Author(authors);
+        addLinks();
+        this.getProperties().setPackageSize(packageSize);
+        this.getProperties().setPublished(updateDate);
+    }
+
+    private void addLinks()
+    {
         PackageEntry.this.getLinks()
                          .add(new Link("edit-media", "Package",
                                  "Packages" + getCombineIdAndVersion() + "/$value"));
         PackageEntry.this.getLinks()
                          .add(new Link("edit", "Package",
                                  "Packages" + getCombineIdAndVersion()));
-        this.getProperties().setPackageHash(packageHash.toString());
-        this.getProperties().setPackageSize(packageSize);
-        this.getProperties().setPublished(updateDate);
     }
 
     private String getCombineIdAndVersion()
@@ -294,7 +323,7 @@ public class PackageEntry
             this.content = new AtomElement();
             content.setType("application/zip");
             content.setSrc(getRootUri() + "download/" + title.value + "/"
-                    + nuspecFile.getVersion());
+                    + getProperties().getVersion());
         }
         return content;
     }
@@ -0,0 +1,47 @@
+package org.carlspring.strongbox.storage.metadata.nuget;
+
+import org.carlspring.strongbox.artifact.coordinates.NugetArtifactCoordinates;
+import org.carlspring.strongbox.artifact.coordinates.versioning.SemanticVersion;
+import org.carlspring.strongbox.storage.metadata.nuget.rss.EntryProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+@Execution(CONCURRENT)
+public class NugetPackageMetadataTest
+{
+
+    @Test
+    public void testNuspecPropertiesShouldBeRestoredFromMetadata()
+        throws NugetFormatException
+    {
+        Nuspec nuspec = Nuspec.parse(NugetTestResourceUtil.getAsStream("nuspec/Dependencies.nuspec.xml"));
+
+        Map<String, String> metadata = new HashMap<>();
+        assertThat(NugetPackageMetadata.exists(metadata)).isFalse();
+
+        NugetPackageMetadata.write(nuspec, "c2hhNTEy", metadata);
+        assertThat(NugetPackageMetadata.exists(metadata)).isTrue();
+        assertThat(metadata.get(NugetPackageMetadata.AUTHORS)).isEqualTo("AUTHORS");
+
+        EntryProperties properties = NugetPackageMetadata.read(new NugetArtifactCoordinates("TEST.ID", "1.2.3"),
+                                                               metadata);
+
+        assertThat(properties.getId()).isEqualTo("TEST.ID");
+        assertThat(properties.getVersion()).isEqualTo(SemanticVersion.parse("1.2.3"));
+        assertThat(properties.getTitle()).isEqualTo("TEST TITLE");
+        assertThat(properties.getDescription()).isEqualTo("Descr");
+        assertThat(properties.getCopyright()).isEqualTo("Copyright 2011");
+        assertThat(properties.getTags()).containsExactly("TAG1", "TAG2");
+        assertThat(properties.getDependencies()).isEqualTo("NLog:2.0.0.2000");
+        assertThat(properties.getRequireLicenseAcceptance()).isFalse();
+        assertThat(properties.getPackageHash()).isEqualTo("c2hhNTEy");
+        assertThat(properties.getLicenseUrl()).isEmpty();
+    }
+
+}
@@ -72,6 +72,15 @@ public class P2ArtifactCoordinates
         return getCoordinate(CLASSIFIER);
     }
 
+    @Override
+    public P2ArtifactCoordinates copy()
+    {
+        P2ArtifactCoordinates copy = super.copy();
+        copy.properties = new HashMap<>(properties);
+
+        return copy;
+    }
+
     @Override
     public String toPath()
     {
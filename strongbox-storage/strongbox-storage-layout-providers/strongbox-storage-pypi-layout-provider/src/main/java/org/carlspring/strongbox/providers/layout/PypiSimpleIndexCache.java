@@ -0,0 +1,183 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.cache.GenerationGuardedCache;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.util.PypiArtifactCoordinatesUtils;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the rendered {@link PypiSimpleIndexPage}s, by project and repository.
+ * <br>
+ * All the cached pages of a project, together with the root index pages, are invalidated once any of its files are
+ * stored, updated or deleted in any repository (so that the group repositories are invalidated as well). The entries
+ * also expire after <code>strongbox.pypi.simpleIndexCache.ttl</code> seconds.
+ */
+@Component
+public class PypiSimpleIndexCache
+        extends GenerationGuardedCache<PypiSimpleIndexPage>
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(PypiSimpleIndexCache.class);
+
+    /**
+     * The key of the root (<code>/simple/</code>) index pages, which can't clash with a project name.
+     */
+    public static final String ROOT_INDEX = "";
+
+    @Value("${strongbox.pypi.simpleIndexCache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${strongbox.pypi.simpleIndexCache.maxSize:1000}")
+    private int maxSize = 1000;
+
+    @Value("${strongbox.pypi.simpleIndexCache.ttl:300}")
+    private long ttl = 300;
+
+    /**
+     * @param projectName the project name, which is looked up by its PEP 503 normalized form
+     */
+    public PypiSimpleIndexPage get(Repository repository,
+                                   String projectName)
+    {
+        return get(getKey(projectName), repository.getStorageIdAndRepositoryId());
+    }
+
+    /**
+     * The generation should be taken with {@link #getGeneration(String)} before the page is rendered, so that it isn't
+     * cached if the project has been invalidated in the meantime.
+     */
+    public void put(Repository repository,
+                    String projectName,
+                    PypiSimpleIndexPage page,
+                    long generation)
+    {
+        put(getKey(projectName), generation, repository.getStorageIdAndRepositoryId(), page);
+    }
+
+    @Override
+    public long getGeneration(String projectName)
+    {
+        return super.getGeneration(getKey(projectName));
+    }
+
+    /**
+     * Invalidates the pages of the project and the root index pages, which list the project.
+     */
+    @Override
+    public void invalidate(String projectName)
+    {
+        super.invalidate(getKey(projectName));
+        super.invalidate(ROOT_INDEX);
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        if (!isModification(event.getType()))
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = event.getPath();
+        if (!PypiLayoutProvider.ALIAS.equals(repositoryPath.getRepository().getLayout()))
+        {
+            return;
+        }
+
+        String projectName;
+        try
+        {
+            projectName = getProjectName(RepositoryFiles.relativizePath(repositoryPath));
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to resolve the project of [{}].", repositoryPath, e);
+            projectName = null;
+        }
+
+        if (projectName == null)
+        {
+            invalidateAll();
+
+            return;
+        }
+
+        invalidate(projectName);
+    }
+
+    /**
+     * @param path the repository relative path, such as
+     *             <code>hello_world/1.0/hello_world-1.0-py3-none-any.whl</code> or <code>hello_world</code>
+     * @return the project (distribution) name, or <code>null</code> for the repository root
+     */
+    static String getProjectName(String path)
+    {
+        String[] segments = path.split("/");
+        if (segments.length == 0 || segments[0].isEmpty())
+        {
+            return null;
+        }
+
+        return segments[0];
+    }
+
+    /**
+     * The pages are kept by the PEP 503 normalized project names, as the project directories keep the escaped
+     * distribution names (such as <code>hello_world</code>), while the clients request the normalized ones (such as
+     * <code>hello-world</code>).
+     */
+    private static String getKey(String projectName)
+    {
+        return ROOT_INDEX.equals(projectName) ? ROOT_INDEX : PypiArtifactCoordinatesUtils.normalize(projectName);
+    }
+
+    @Override
+    protected long getCreated(PypiSimpleIndexPage page)
+    {
+        return page.getCreated();
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected long getTtl()
+    {
+        return ttl;
+    }
+
+    public void setTtl(long ttl)
+    {
+        this.ttl = ttl;
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Rendered page of the PyPI simple repository API (PEP 503), in both the HTML and the JSON (PEP 691)
+ * representations, as it's served to the clients.
+ */
+public class PypiSimpleIndexPage
+{
+
+    private final byte[] html;
+
+    private final byte[] json;
+
+    private final String htmlETag;
+
+    private final String jsonETag;
+
+    private final long created = System.currentTimeMillis();
+
+    public PypiSimpleIndexPage(byte[] html,
+                               byte[] json)
+    {
+        this.html = html;
+        this.json = json;
+        this.htmlETag = calculateETag(html);
+        this.jsonETag = calculateETag(json);
+    }
+
+    public byte[] getContent(boolean jsonRepresentation)
+    {
+        return jsonRepresentation ? json : html;
+    }
+
+    /**
+     * The representations have distinct <code>ETag</code>s, so that the cached responses of one are never validated
+     * against the other.
+     */
+    public String getETag(boolean jsonRepresentation)
+    {
+        return jsonRepresentation ? jsonETag : htmlETag;
+    }
+
+    public long getCreated()
+    {
+        return created;
+    }
+
+    private static String calculateETag(byte[] content)
+    {
+        return "\"" + DigestUtils.md5DigestAsHex(content) + "\"";
+    }
+
+}
@@ -121,4 +121,14 @@ public class PypiArtifactCoordinatesUtils
                                            abi,
                                            platform, WHEEL_EXTENSION);
     }
+
+    /**
+     * @param name the project (distribution) name
+     * @return the PEP 503 normalized project name, such as <code>hello-world</code> for <code>Hello_World</code>
+     */
+    public static String normalize(String name)
+    {
+        return name.toLowerCase().replaceAll("[-_.]+", "-");
+    }
+
 }
@@ -0,0 +1,107 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PypiSimpleIndexCacheTest
+{
+
+    private PypiSimpleIndexCache cache = new PypiSimpleIndexCache();
+
+    @Test
+    public void testProjectName()
+    {
+        assertThat(PypiSimpleIndexCache.getProjectName("hello_world/1.0/hello_world-1.0-py3-none-any.whl"))
+                .isEqualTo("hello_world");
+        assertThat(PypiSimpleIndexCache.getProjectName("hello_world")).isEqualTo("hello_world");
+        assertThat(PypiSimpleIndexCache.getProjectName("")).isNull();
+    }
+
+    @Test
+    public void testInvalidateAllRepositoriesOfProjectAndRootIndex()
+    {
+        Repository releases = mockRepository("storage-pypi:pypi-releases");
+        Repository group = mockRepository("storage-pypi:pypi-group");
+
+        cache.put(releases, "hello_world", page("hello_world"), cache.getGeneration("hello_world"));
+        cache.put(group, "hello_world", page("hello_world"), cache.getGeneration("hello_world"));
+        cache.put(releases, "requests", page("requests"), cache.getGeneration("requests"));
+        cache.put(releases,
+                  PypiSimpleIndexCache.ROOT_INDEX,
+                  page("root"),
+                  cache.getGeneration(PypiSimpleIndexCache.ROOT_INDEX));
+
+        assertThat(cache.get(group, "hello_world")).isNotNull();
+
+        cache.invalidate("hello_world");
+
+        assertThat(cache.get(releases, "hello_world")).isNull();
+        assertThat(cache.get(group, "hello_world")).isNull();
+        assertThat(cache.get(releases, PypiSimpleIndexCache.ROOT_INDEX)).isNull();
+        assertThat(cache.get(releases, "requests")).isNotNull();
+    }
+
+    @Test
+    public void testConcurrentlyInvalidatedPageIsNotCached()
+    {
+        Repository releases = mockRepository("storage-pypi:pypi-releases");
+
+        long generation = cache.getGeneration("requests");
+        long otherGeneration = cache.getGeneration("hello_world");
+
+        // The stale page is dropped, and it doesn't invalidate the other projects.
+        cache.invalidate("requests");
+        cache.put(releases, "requests", page("requests"), generation);
+        cache.put(releases, "hello_world", page("hello_world"), otherGeneration);
+
+        assertThat(cache.get(releases, "requests")).isNull();
+        assertThat(cache.get(releases, "hello_world")).isNotNull();
+    }
+
+    @Test
+    public void testProjectsAreKeptByNormalizedName()
+    {
+        Repository releases = mockRepository("storage-pypi:pypi-releases");
+
+        cache.put(releases, "Hello.World", page("hello_world"), cache.getGeneration("Hello.World"));
+
+        assertThat(cache.get(releases, "hello-world")).isNotNull();
+        assertThat(cache.get(releases, "hello_world")).isNotNull();
+
+        // The project directory keeps the escaped distribution name.
+        cache.invalidate(PypiSimpleIndexCache.getProjectName("hello_world/1.0/hello_world-1.0-py3-none-any.whl"));
+
+        assertThat(cache.get(releases, "hello-world")).isNull();
+    }
+
+    @Test
+    public void testRepresentationsHaveDistinctETags()
+    {
+        PypiSimpleIndexPage page = page("hello_world");
+
+        assertThat(page.getETag(false)).startsWith("\"").endsWith("\"");
+        assertThat(page.getETag(true)).isNotEqualTo(page.getETag(false));
+        assertThat(page("hello_world").getETag(true)).isEqualTo(page.getETag(true));
+    }
+
+    private PypiSimpleIndexPage page(String content)
+    {
+        return new PypiSimpleIndexPage(("<html>" + content + "</html>").getBytes(StandardCharsets.UTF_8),
+                                       ("{\"name\":\"" + content + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Repository mockRepository(String storageIdAndRepositoryId)
+    {
+        Repository repository = mock(Repository.class);
+        when(repository.getStorageIdAndRepositoryId()).thenReturn(storageIdAndRepositoryId);
+
+        return repository;
+    }
+
+}
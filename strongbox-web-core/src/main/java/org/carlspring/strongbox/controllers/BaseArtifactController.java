@@ -1,13 +1,19 @@
 package org.carlspring.strongbox.controllers;
 
+import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
+import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactFetch;
+import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -20,6 +26,32 @@ public abstract class BaseArtifactController
     @Inject
     protected ArtifactManagementService artifactManagementService;
 
+    @Inject
+    private ProxyRepositoryArtifactResolver proxyRepositoryArtifactResolver;
+
+    @Inject
+    private ArtifactEventListenerRegistry artifactEventListenerRegistry;
+
+    /**
+     * Resolves the path to download. Unlike {@link org.carlspring.strongbox.services.ArtifactResolutionService}, the
+     * proxied artifacts which are still being fetched by another request are not waited for: they are streamed
+     * through by {@link #provideArtifactDownloadResponse(HttpServletRequest, HttpServletResponse, HttpHeaders,
+     * RepositoryPath)}.
+     */
+    protected RepositoryPath resolveDownloadPath(String storageId,
+                                                 String repositoryId,
+                                                 String path)
+            throws IOException
+    {
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
+        if (proxyRepositoryArtifactResolver.getStreamThroughFetch(repositoryPath) != null)
+        {
+            return repositoryPath;
+        }
+
+        return artifactResolutionService.resolvePath(storageId, repositoryId, path);
+    }
+
     protected boolean provideArtifactDownloadResponse(HttpServletRequest request,
                                                       HttpServletResponse response,
                                                       HttpHeaders httpHeaders,
@@ -27,6 +59,13 @@ public abstract class BaseArtifactController
             throws Exception
     {
         logger.debug("Resolved path: {}", repositoryPath);
+        ProxyRepositoryArtifactFetch fetch = repositoryPath == null ? null
+                : proxyRepositoryArtifactResolver.getFetch(repositoryPath);
+        if (fetch != null && !fetch.isDone() && Files.notExists(repositoryPath))
+        {
+            return provideStreamThroughResponse(request, response, fetch);
+        }
+
         ArtifactControllerHelper.provideArtifactHeaders(response, repositoryPath);
         if (response.getStatus() == HttpStatus.NOT_FOUND.value())
         {
@@ -37,8 +76,7 @@ public abstract class BaseArtifactController
             return true;
         }
 
-        
-        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        try (RepositoryInputStream is = artifactResolutionService.getInputStream(repositoryPath))
         {
             if (ArtifactControllerHelper.isRangedRequest(httpHeaders))
             {
@@ -46,7 +84,7 @@ public abstract class BaseArtifactController
 
                 ArtifactControllerHelper.handlePartialDownload(is, httpHeaders, response);
             }
-            else
+            else if (!transferToResponse(is, 0, Files.size(repositoryPath), response))
             {
                 copyToResponse(is, response);
             }
@@ -55,4 +93,33 @@ public abstract class BaseArtifactController
         return true;
     }
 
+    /**
+     * Serves the artifact which is still being fetched from the remote repository. The content length is not known
+     * yet, so the response is not ranged and is sent chunked.
+     */
+    private boolean provideStreamThroughResponse(HttpServletRequest request,
+                                                 HttpServletResponse response,
+                                                 ProxyRepositoryArtifactFetch fetch)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = fetch.getRepositoryPath();
+        logger.debug("Streaming [{}] while it is being fetched.", repositoryPath);
+
+        ArtifactControllerHelper.provideStreamThroughHeaders(response, repositoryPath);
+        if (request.getMethod().equals(RequestMethod.HEAD.name()))
+        {
+            return true;
+        }
+
+        // The same events as the ones of the repository streams, so that these downloads are counted as well.
+        artifactEventListenerRegistry.dispatchArtifactDownloadingEvent(repositoryPath);
+        try (InputStream is = fetch.newInputStream())
+        {
+            copyToResponse(is, response);
+        }
+        artifactEventListenerRegistry.dispatchArtifactDownloadedEvent(repositoryPath);
+
+        return true;
+    }
+
 }
@@ -8,10 +8,12 @@ import org.carlspring.strongbox.controllers.support.ListEntityBody;
 import org.carlspring.strongbox.controllers.support.ResponseEntityBody;
 import org.carlspring.strongbox.exception.ExceptionHandlingOutputStream;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 import org.carlspring.strongbox.services.ArtifactResolutionService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.utils.ServletResponseChannel;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletResponse;
@@ -40,6 +42,8 @@ import org.springframework.http.ResponseEntity;
 public abstract class BaseController
 {
 
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     @Inject
@@ -294,12 +298,11 @@ public abstract class BaseController
             long totalBytes = 0L;
 
             int readLength;
-            byte[] bytes = new byte[4096];
+            byte[] bytes = new byte[COPY_BUFFER_SIZE];
             while ((readLength = is.read(bytes)) != -1)
             {
                 // Write the artifact
                 os.write(bytes, 0, readLength);
-                os.flush();
 
                 totalBytes += readLength;
             }
@@ -308,4 +311,32 @@ public abstract class BaseController
             response.flushBuffer();
         }
     }
+
+    /**
+     * Zero-copy alternative to {@link #copyToResponse(InputStream, HttpServletResponse)}, which transfers the
+     * <code>[position, position + count)</code> part of the artifact file directly into the response channel.
+     *
+     * @return <code>false</code> if the artifact storage doesn't support file channels, in this case nothing is
+     *         written and the regular stream copy should be used
+     */
+    public static boolean transferToResponse(RepositoryInputStream is,
+                                             long position,
+                                             long count,
+                                             HttpServletResponse response)
+            throws IOException
+    {
+        if (!is.supportsTransfer())
+        {
+            return false;
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(count));
+        try (ServletResponseChannel channel = new ServletResponseChannel(response))
+        {
+            is.transferTo(position, count, channel);
+        }
+        response.flushBuffer();
+
+        return true;
+    }
 }
@@ -2,6 +2,7 @@ package org.carlspring.strongbox.controllers.configuration;
 
 import org.carlspring.strongbox.controllers.support.NumberOfConnectionsEntityBody;
 import org.carlspring.strongbox.controllers.support.PoolStatsEntityBody;
+import org.carlspring.strongbox.service.ConnectionPoolMetrics;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.storage.repository.RepositoryData;
@@ -164,6 +165,23 @@ public class HttpConnectionPoolConfigurationManagementController
         return ResponseEntity.ok(getNumberOfConnectionsEntityBody(maxNumberOfConnections, accept));
     }
 
+    @ApiOperation(value = "Get the connection lease metrics of the proxy repositories connection pool")
+    @ApiResponses(value = { @ApiResponse(code = 200,
+                                         message = "The connection lease metrics were retrieved.") })
+    @GetMapping(value = "metrics",
+                produces = { MediaType.TEXT_PLAIN_VALUE,
+                             MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity getMetrics(@RequestHeader(HttpHeaders.ACCEPT) String accept)
+    {
+        ConnectionPoolMetrics metrics = proxyRepositoryConnectionPoolConfigurationService.getMetrics();
+        if (MediaType.APPLICATION_JSON_VALUE.equals(accept))
+        {
+            return ResponseEntity.ok(metrics);
+        }
+
+        return ResponseEntity.ok(String.valueOf(metrics));
+    }
+
     private Object getNumberOfConnectionsEntityBody(int numberOfConnections, String accept)
     {
         if (MediaType.APPLICATION_JSON_VALUE.equals(accept))
@@ -76,7 +76,7 @@ public class MavenArtifactController
         logger.debug("Requested /{}/{}/{}.", storageId, repositoryId, artifactPath);
 
         artifactPath = correctIndexPathIfNecessary(repository, artifactPath);
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, artifactPath);
+        RepositoryPath repositoryPath = resolveDownloadPath(storageId, repositoryId, artifactPath);
 
         provideArtifactDownloadResponse(request, response, httpHeaders, repositoryPath);
     }
@@ -3,18 +3,21 @@ package org.carlspring.strongbox.controllers.layout.npm;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.servlet.ServletInputStream;
@@ -22,12 +25,15 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.codec.digest.DigestUtils;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
@@ -47,11 +53,12 @@ import org.carlspring.strongbox.npm.metadata.PackageFeed;
 import org.carlspring.strongbox.npm.metadata.PackageVersion;
 import org.carlspring.strongbox.npm.metadata.SearchResults;
 import org.carlspring.strongbox.npm.metadata.Time;
-import org.carlspring.strongbox.npm.metadata.Versions;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.NpmPackageDesc;
 import org.carlspring.strongbox.providers.layout.NpmPackageSupplier;
+import org.carlspring.strongbox.providers.layout.NpmPackument;
+import org.carlspring.strongbox.providers.layout.NpmPackumentCache;
 import org.carlspring.strongbox.providers.layout.NpmSearchResultSupplier;
 import org.carlspring.strongbox.providers.layout.NpmUnpublishService;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
@@ -103,6 +110,8 @@ public class NpmArtifactController
 
     private static final String FIELD_NAME_VERSION = "versions";
 
+    private static final String FIELD_NAME_OBJECTS = "objects";
+
     @Inject
     @NpmObjectMapper
     private ObjectMapper npmJacksonMapper;
@@ -125,6 +134,9 @@ public class NpmArtifactController
     @Inject
     private NpmUnpublishService npmUnpublishService;
 
+    @Inject
+    private NpmPackumentCache npmPackumentCache;
+
     @GetMapping(path = { "{storageId}/{repositoryId}/npm" })
     public ResponseEntity<String> greet()
     {
@@ -164,18 +176,13 @@ public class NpmArtifactController
 
 
         Paginator paginator = new Paginator();
-        paginator.setLimit(20);
+        paginator.setLimit(size);
 
         List<Path> searchResult = provider.search(storageId, repositoryId, predicate, paginator);
 
-        SearchResults searchResults = new SearchResults();
-
-        searchResult.stream().map(npmSearchResultSupplier).forEach(p -> {
-            searchResults.getObjects().add(p);
-        });
-
         Long count = provider.count(storageId, repositoryId, predicate);
 
+        SearchResults searchResults = new SearchResults();
         searchResults.setTotal(count.intValue());
 
         //Wed Oct 31 2018 05:01:19 GMT+0000 (UTC)
@@ -183,7 +190,23 @@ public class NpmArtifactController
         searchResults.setTime(format.format(new Date()));
 
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getOutputStream().write(npmJacksonMapper.writeValueAsBytes(searchResults));
+
+        // The search results are serialized one by one, straight into the response.
+        try (JsonGenerator generator = createGenerator(response.getOutputStream()))
+        {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(FIELD_NAME_OBJECTS);
+            for (Path path : searchResult)
+            {
+                generator.writeObject(npmSearchResultSupplier.apply(path));
+            }
+            generator.writeEndArray();
+
+            writeFields(generator, searchResults, FIELD_NAME_OBJECTS);
+
+            generator.writeEndObject();
+        }
     }
 
 
@@ -227,8 +250,56 @@ public class NpmArtifactController
     public void viewPackageFeedWithScope(@RepositoryMapping Repository repository,
                                          @PathVariable(name = "packageScope") String packageScope,
                                          @PathVariable(name = "packageName") String packageName,
+                                         @RequestHeader HttpHeaders httpHeaders,
                                          HttpServletResponse response)
             throws Exception
+    {
+        String packageId = NpmArtifactCoordinates.calculatePackageId(packageScope, packageName);
+
+        if (!npmPackumentCache.isEnabled())
+        {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            writePackageFeed(repository, packageScope, packageName, response.getOutputStream());
+
+            return;
+        }
+
+        NpmPackument packument = npmPackumentCache.get(repository, packageId);
+        if (packument == null)
+        {
+            long generation = npmPackumentCache.getGeneration(packageId);
+
+            ByteArrayOutputStream packageFeed = new ByteArrayOutputStream();
+            String revision = writePackageFeed(repository, packageScope, packageName, packageFeed);
+            packument = new NpmPackument(revision, packageFeed.toByteArray());
+
+            npmPackumentCache.put(repository, packageId, packument, generation);
+        }
+
+        response.setHeader(HttpHeaders.ETAG, packument.getETag());
+        if (httpHeaders.getIfNoneMatch().contains(packument.getETag()))
+        {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(packument.getContent().length);
+        response.getOutputStream().write(packument.getContent());
+    }
+
+    /**
+     * Serializes the {@link PackageFeed} into the output stream, version by version, so the whole feed is never held
+     * in memory. The versions are written first, followed by the properties which are calculated from them.
+     *
+     * @return the package feed revision (<code>_rev</code>)
+     */
+    private String writePackageFeed(Repository repository,
+                                    String packageScope,
+                                    String packageName,
+                                    OutputStream outputStream)
+            throws Exception
     {
         final String storageId = repository.getStorage().getId();
         final String repositoryId = repository.getId();
@@ -239,11 +310,6 @@ public class NpmArtifactController
         npmSearchRequest.setPackageId(packageId);
         viewPackageEventListener.setNpmSearchRequest(npmSearchRequest);
 
-        PackageFeed packageFeed = new PackageFeed();
-
-        packageFeed.setName(packageId);
-        packageFeed.setAdditionalProperty("_id", packageId);
-
         Predicate predicate = createSearchPredicate(packageScope, packageName);
 
         RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
@@ -253,58 +319,98 @@ public class NpmArtifactController
 
         List<Path> searchResult = provider.search(storageId, repositoryId, predicate, paginator);
 
-        Versions versions = new Versions();
-        packageFeed.setVersions(versions);
-
         Time npmTime = new Time();
-        packageFeed.setTime(npmTime);
-
         DistTags distTags = new DistTags();
-        packageFeed.setDistTags(distTags);
+        MessageDigest versionsShasum = MessageDigest.getInstance(MessageDigestAlgorithms.SHA_1);
 
-        searchResult.stream().map(npmPackageSupplier).forEach(p -> {
-            PackageVersion npmPackage = p.getNpmPackage();
-            versions.setAdditionalProperty(npmPackage.getVersion(), npmPackage);
+        try (JsonGenerator generator = createGenerator(outputStream))
+        {
+            generator.writeStartObject();
 
-            npmTime.setAdditionalProperty(npmPackage.getVersion(), p.getReleaseDate());
+            generator.writeObjectFieldStart(FIELD_NAME_VERSION);
+            for (Path path : searchResult)
+            {
+                NpmPackageDesc p = npmPackageSupplier.apply(path);
 
-            Date created = npmTime.getCreated();
-            npmTime.setCreated(created == null || created.before(p.getReleaseDate()) ? p.getReleaseDate() : created);
+                PackageVersion npmPackage = p.getNpmPackage();
+                generator.writeObjectField(npmPackage.getVersion(), npmPackage);
 
-            Date modified = npmTime.getModified();
-            npmTime.setModified(modified == null || modified.before(p.getReleaseDate()) ? p.getReleaseDate()
-                                                                                        : modified);
+                versionsShasum.update(String.valueOf(npmPackage.getDist().getShasum())
+                                            .getBytes(StandardCharsets.UTF_8));
 
-            if (p.isLastVersion())
-            {
-                distTags.setLatest(npmPackage.getVersion());
+                npmTime.setAdditionalProperty(npmPackage.getVersion(), p.getReleaseDate());
+
+                Date created = npmTime.getCreated();
+                npmTime.setCreated(created == null || created.before(p.getReleaseDate()) ? p.getReleaseDate()
+                                                                                          : created);
+
+                Date modified = npmTime.getModified();
+                npmTime.setModified(modified == null || modified.before(p.getReleaseDate()) ? p.getReleaseDate()
+                                                                                            : modified);
+
+                if (p.isLastVersion())
+                {
+                    distTags.setLatest(npmPackage.getVersion());
+                }
             }
+            generator.writeEndObject();
 
-        });
-        packageFeed.setAdditionalProperty("_rev", generateRevisionHashcode(packageFeed));
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getOutputStream().write(npmJacksonMapper.writeValueAsBytes(packageFeed));
+            String revision = searchResult.size() + "-" + Hex.encodeHexString(versionsShasum.digest()).substring(0, 16);
+
+            PackageFeed packageFeed = new PackageFeed();
+            packageFeed.setName(packageId);
+            packageFeed.setAdditionalProperty("_id", packageId);
+            packageFeed.setTime(npmTime);
+            packageFeed.setDistTags(distTags);
+            packageFeed.setAdditionalProperty("_rev", revision);
+
+            writeFields(generator, packageFeed, FIELD_NAME_VERSION);
+
+            generator.writeEndObject();
+
+            return revision;
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream outputStream)
+            throws IOException
+    {
+        JsonGenerator generator = npmJacksonMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        return generator;
     }
 
-    private String generateRevisionHashcode(PackageFeed packageFeed)
+    /**
+     * Writes the properties of the value as the fields of the current JSON object, except the ones which have already
+     * been streamed.
+     */
+    private void writeFields(JsonGenerator generator,
+                             Object value,
+                             String excludedField)
+            throws IOException
     {
-        String versionsShasum = packageFeed.getVersions().getAdditionalProperties()
-                                           .values()
-                                           .stream()
-                                           .map(x -> x.getDist().getShasum())
-                                           .collect(Collectors.joining());
-        return packageFeed.getVersions().getAdditionalProperties().size() + "-" +
-               DigestUtils.sha1Hex(versionsShasum).substring(0, 16);
+        ObjectNode fields = npmJacksonMapper.valueToTree(value);
+        fields.remove(excludedField);
+
+        for (Iterator<Map.Entry<String, JsonNode>> i = fields.fields(); i.hasNext(); )
+        {
+            Map.Entry<String, JsonNode> field = i.next();
+
+            generator.writeFieldName(field.getKey());
+            generator.writeTree(field.getValue());
+        }
     }
 
     @GetMapping(path = "{storageId}/{repositoryId}/{packageName}")
     @PreAuthorize("hasAuthority('ARTIFACTS_VIEW')")
     public void viewPackageFeed(@RepositoryMapping Repository repository,
                                 @PathVariable(name = "packageName") String packageName,
+                                @RequestHeader HttpHeaders httpHeaders,
                                 HttpServletResponse response)
             throws Exception
     {
-        viewPackageFeedWithScope(repository, null, packageName, response);
+        viewPackageFeedWithScope(repository, null, packageName, httpHeaders, response);
     }
 
     private Predicate createSearchPredicate(String packageScope,
@@ -361,7 +467,7 @@ public class NpmArtifactController
             return;
         }
 
-        RepositoryPath path = artifactResolutionService.resolvePath(storageId, repositoryId, coordinates.toPath());
+        RepositoryPath path = resolveDownloadPath(storageId, repositoryId, coordinates.toPath());
         provideArtifactDownloadResponse(request, response, httpHeaders, path);
     }
 
@@ -402,7 +508,7 @@ public class NpmArtifactController
             return;
         }
 
-        RepositoryPath path = artifactResolutionService.resolvePath(storageId, repositoryId, coordinates.toPath());
+        RepositoryPath path = resolveDownloadPath(storageId, repositoryId, coordinates.toPath());
         provideArtifactDownloadResponse(request, response, httpHeaders, path);
     }
 
@@ -18,6 +18,7 @@ import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.repository.NugetRepositoryFeatures.RepositorySearchEventListener;
 import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.storage.metadata.nuget.NugetFormatException;
+import org.carlspring.strongbox.storage.metadata.nuget.NugetPackageMetadata;
 import org.carlspring.strongbox.storage.metadata.nuget.Nupkg;
 import org.carlspring.strongbox.storage.metadata.nuget.Nuspec;
 import org.carlspring.strongbox.storage.metadata.nuget.TempNupkgFile;
@@ -50,6 +51,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.core.io.InputStreamResource;
@@ -207,13 +209,14 @@ public class NugetArtifactController
         feed.setId(feedId);
         feed.setUpdated(new Date());
         feed.setTitle("Packages");
+        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
         List<PackageEntry> packageEntrys = new ArrayList<>();
         for (Nupkg nupkg : files)
         {
             try
             {
                 PackageEntry entry = createPackageEntry(feedId, (PathNupkg) nupkg);
-                calculateFeedEntryProperties((PathNupkg) nupkg, entry.getProperties());
+                calculateFeedEntryProperties((PathNupkg) nupkg, entry.getProperties(), lastVersionTag);
                 packageEntrys.add(entry);
             }
             catch (NoSuchAlgorithmException | IOException | NugetFormatException e)
@@ -227,7 +230,8 @@ public class NugetArtifactController
     }
 
     private void calculateFeedEntryProperties(PathNupkg nupkg,
-                                              EntryProperties properties) throws IOException
+                                              EntryProperties properties,
+                                              ArtifactTag lastVersionTag) throws IOException
     {
         RepositoryPath path = nupkg.getPath();
         ArtifactEntry artifactEntry = path.getArtifactEntry();
@@ -245,7 +249,6 @@ public class NugetArtifactController
         properties.setRating(Double.valueOf(0));
         properties.setVersionRating(Double.valueOf(0));
 
-        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
         if (artifactEntry.getTagSet().contains(lastVersionTag))
         {
             properties.setIsLatestVersion(true);
@@ -263,6 +266,32 @@ public class NugetArtifactController
         IOException,
         NugetFormatException
     {
+        ArtifactEntry artifactEntry = nupkg.getPath().getArtifactEntry();
+        Map<String, String> metadata = artifactEntry.getMetadata();
+        if (NugetPackageMetadata.exists(metadata))
+        {
+            // The feed entry is created from the stored metadata, without reading the package files
+            EntryProperties properties = NugetPackageMetadata.read(
+                    (NugetArtifactCoordinates) artifactEntry.getArtifactCoordinates(), metadata);
+            if (properties.getPackageHash().isEmpty())
+            {
+                properties.setPackageHash(nupkg.getHash());
+            }
+
+            return new PackageEntry(properties,
+                                    metadata.get(NugetPackageMetadata.AUTHORS),
+                                    artifactEntry.getSizeInBytes(),
+                                    artifactEntry.getLastUpdated())
+            {
+
+                @Override
+                protected String getRootUri()
+                {
+                    return feedId;
+                }
+            };
+        }
+
         return new PackageEntry(nupkg){
 
             @Override
@@ -506,7 +535,7 @@ public class NugetArtifactController
         String fileName = String.format("%s.%s.nupkg", packageId, packageVersion);
         String path = String.format("%s/%s/%s", packageId, packageVersion, fileName);
 
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, path);
+        RepositoryPath repositoryPath = resolveDownloadPath(storageId, repositoryId, path);
         if (provideArtifactDownloadResponse(request, response, httpHeaders, repositoryPath))
         {
             response.setHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", fileName));
@@ -7,11 +7,14 @@ import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.PypiSimpleIndexCache;
+import org.carlspring.strongbox.providers.layout.PypiSimpleIndexPage;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.storage.metadata.pypi.PypiArtifactMetadata;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.artifact.ArtifactCoordinatesValidationException;
+import org.carlspring.strongbox.util.PypiArtifactCoordinatesUtils;
 import org.carlspring.strongbox.utils.PypiPackageNameConverter;
 import org.carlspring.strongbox.web.LayoutRequestMapping;
 import org.carlspring.strongbox.web.RepositoryMapping;
@@ -24,11 +27,14 @@ import javax.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -71,6 +77,9 @@ public class PypiArtifactController extends BaseArtifactController
     @Inject
     private PypiBrowsePackageHtmlResponseBuilder htmlResponseBuilder;
 
+    @Inject
+    private PypiSimpleIndexCache simpleIndexCache;
+
     @ApiOperation(value = "This end point will be used to upload/deploy python package.")
     @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "python package was deployed successfully."),
                             @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing request."),
@@ -211,49 +220,177 @@ public class PypiArtifactController extends BaseArtifactController
             return;
         }
 
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(
-                                                                              repository.getStorage().getId(),
-                                                                              repository.getId(),
-                                                                              coordinates.toPath());
+        RepositoryPath repositoryPath = resolveDownloadPath(repository.getStorage().getId(),
+                                                            repository.getId(),
+                                                            coordinates.toPath());
 
         provideArtifactDownloadResponse(request, response, headers, repositoryPath);
     }
 
     @ApiOperation(value = "This Endpoint will be used to retreive all the versions of packages present in artifactory.")
     @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "Success"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_NOT_MODIFIED, message = "Not Modified"),
                             @ApiResponse(code = HttpURLConnection.HTTP_NOT_FOUND, message = "Request Url Not Found"),
                             @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing download request."),
                             @ApiResponse(code = HttpURLConnection.HTTP_UNAVAILABLE, message = "Service Unavailable.") })
     @PreAuthorize("hasAuthority('ARTIFACTS_RESOLVE')")
-    @RequestMapping(path = "/{storageId}/{repositoryId}/simple/{packageName}", method = RequestMethod.GET, produces = MediaType.TEXT_HTML)
-    public ResponseEntity<String> browsePackage(@RepositoryMapping Repository repository,
-                                                @PathVariable(name = "packageName") String packageName,
-                                                HttpServletRequest request,
-                                                HttpServletResponse response,
-                                                @RequestHeader HttpHeaders headers)
+    @RequestMapping(path = "/{storageId}/{repositoryId}/simple/{packageName}", method = RequestMethod.GET)
+    public void browsePackage(@RepositoryMapping Repository repository,
+                              @PathVariable(name = "packageName") String packageName,
+                              HttpServletRequest request,
+                              HttpServletResponse response,
+                              @RequestHeader HttpHeaders headers)
         throws Exception
     {
 
-        final String packageNameToDownload = PypiPackageNameConverter.escapeSpecialCharacters(packageName);
+        final String projectName = PypiArtifactCoordinatesUtils.normalize(packageName);
 
         logger.info("Get package path request for storageId -> [{}] , repositoryId -> [{}], packageName -> [{}]",
                     repository.getStorage().getId(),
-                    repository.getId(), packageNameToDownload);
+                    repository.getId(), projectName);
 
-        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+        PypiSimpleIndexPage page = simpleIndexCache.get(repository, projectName);
+        if (page == null)
+        {
+            long generation = simpleIndexCache.getGeneration(projectName);
+
+            List<Path> searchResult = searchProject(repository, projectName);
+
+            page = new PypiSimpleIndexPage(toBytes(htmlResponseBuilder.getHtmlResponse(searchResult)),
+                                           toBytes(htmlResponseBuilder.getJsonResponse(projectName, searchResult)));
+            // The missing projects aren't cached, as their files can be found later by another spelling of the name.
+            if (!searchResult.isEmpty())
+            {
+                simpleIndexCache.put(repository, projectName, page, generation);
+            }
+        }
+
+        provideSimpleIndexResponse(page, headers, response);
+    }
+
+    @ApiOperation(value = "This Endpoint will be used to list all the packages present in the repository.")
+    @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "Success"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_NOT_MODIFIED, message = "Not Modified"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing request."),
+                            @ApiResponse(code = HttpURLConnection.HTTP_UNAVAILABLE, message = "Service Unavailable.") })
+    @PreAuthorize("hasAuthority('ARTIFACTS_RESOLVE')")
+    @RequestMapping(path = "/{storageId}/{repositoryId}/simple", method = RequestMethod.GET)
+    public void browseIndex(@RepositoryMapping Repository repository,
+                            HttpServletResponse response,
+                            @RequestHeader HttpHeaders headers)
+        throws Exception
+    {
+        PypiSimpleIndexPage page = simpleIndexCache.get(repository, PypiSimpleIndexCache.ROOT_INDEX);
+        if (page == null)
+        {
+            long generation = simpleIndexCache.getGeneration(PypiSimpleIndexCache.ROOT_INDEX);
+
+            Predicate predicate = Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
+                                                                 PypiArtifactCoordinates.WHEEL_EXTENSION));
+
+            Set<String> packageNames = new TreeSet<>();
+            for (Path path : searchAll(repository, predicate))
+            {
+                String packageName = PypiBrowsePackageHtmlResponseBuilder.readCoordinates((RepositoryPath) path).getId();
+                packageNames.add(PypiArtifactCoordinatesUtils.normalize(packageName));
+            }
+
+            page = new PypiSimpleIndexPage(toBytes(htmlResponseBuilder.getRootHtmlResponse(repository, packageNames)),
+                                           toBytes(htmlResponseBuilder.getRootJsonResponse(packageNames)));
+            simpleIndexCache.put(repository, PypiSimpleIndexCache.ROOT_INDEX, page, generation);
+        }
+
+        provideSimpleIndexResponse(page, headers, response);
+    }
+
+    /**
+     * Serves the representation selected by the <code>Accept</code> header, or just the <code>304</code> status if
+     * the client has it already.
+     */
+    private void provideSimpleIndexResponse(PypiSimpleIndexPage page,
+                                            HttpHeaders headers,
+                                            HttpServletResponse response)
+        throws IOException
+    {
+        boolean json = PypiBrowsePackageHtmlResponseBuilder.isJsonRequested(headers);
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(HttpHeaders.ETAG, page.getETag(json));
+        if (headers.getIfNoneMatch().contains(page.getETag(json)))
+        {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+
+            return;
+        }
+
+        byte[] content = page.getContent(json);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(json ? PypiBrowsePackageHtmlResponseBuilder.SIMPLE_JSON.toString()
+                                     : MediaType.TEXT_HTML + ";charset=" + StandardCharsets.UTF_8.name());
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+    }
+
+    /**
+     * The distribution names are kept as they were uploaded (such as <code>Hello_World</code>), so the wheel files are
+     * looked up case insensitively by the first part of the name, and then matched by their PEP 503 normalized names.
+     *
+     * @param projectName the PEP 503 normalized project name
+     */
+    private List<Path> searchProject(Repository repository,
+                                     String projectName)
+        throws IOException
+    {
+        String namePrefix = PypiPackageNameConverter.escapeSpecialCharacters(projectName.split("-", 2)[0]);
 
         Predicate predicate = Predicate.empty();
         predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
                                                      PypiArtifactCoordinates.WHEEL_EXTENSION)));
-        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.distribution",
-                                                     packageNameToDownload)));
+        predicate.and(Predicate.of(ExpOperator.LIKE.of("artifactCoordinates.coordinates.distribution.toLowerCase()",
+                                                       namePrefix + "%")));
 
-        Paginator paginator = new Paginator();
-        List<Path> searchResult = repositoryProvider.search(repository.getStorage().getId(), repository.getId(),
-                                                            predicate, paginator);
+        List<Path> result = new ArrayList<>();
+        for (Path path : searchAll(repository, predicate))
+        {
+            String distribution = PypiBrowsePackageHtmlResponseBuilder.readCoordinates((RepositoryPath) path).getId();
+            if (projectName.equals(PypiArtifactCoordinatesUtils.normalize(distribution)))
+            {
+                result.add(path);
+            }
+        }
+
+        return result;
+    }
 
-        String searchPackageHtmlResponse = htmlResponseBuilder.getHtmlResponse(searchResult);
-        return ResponseEntity.status(HttpStatus.OK).body(searchPackageHtmlResponse);
+    /**
+     * The search results are limited to {@link Paginator#MAX_LIMIT}, so all the pages are fetched.
+     */
+    private List<Path> searchAll(Repository repository,
+                                 Predicate predicate)
+    {
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        List<Path> result = new ArrayList<>();
+        List<Path> page;
+        do
+        {
+            Paginator paginator = new Paginator();
+            paginator.setSkip(result.size());
+            paginator.setLimit(Paginator.MAX_LIMIT);
+
+            page = repositoryProvider.search(repository.getStorage().getId(), repository.getId(), predicate,
+                                             paginator);
+            result.addAll(page);
+        }
+        while (page.size() == Paginator.MAX_LIMIT);
+
+        return result;
+    }
+
+    private static byte[] toBytes(String content)
+    {
+        return content.getBytes(StandardCharsets.UTF_8);
     }
 
     private ResponseEntity<String> validateAndUploadPackage(PypiArtifactMetadata pypiArtifactMetadata,
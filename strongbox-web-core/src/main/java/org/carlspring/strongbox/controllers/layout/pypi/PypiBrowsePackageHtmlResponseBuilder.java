@@ -1,81 +1,229 @@
 package org.carlspring.strongbox.controllers.layout.pypi;
 
 import org.carlspring.strongbox.artifact.coordinates.PypiArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.util.PypiArtifactCoordinatesUtils;
 
+import javax.inject.Inject;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 /**
- * Helper class for {@link PypiArtifactController}
- * 
+ * Helper class for {@link PypiArtifactController}, which renders the pages of the simple repository API, both as the
+ * HTML (PEP 503) and as the JSON (PEP 691).
+ *
  * @author ankit.tomar
  */
 @Component
 public class PypiBrowsePackageHtmlResponseBuilder
 {
 
+    public static final MediaType SIMPLE_JSON = MediaType.valueOf("application/vnd.pypi.simple.v1+json");
+
+    public static final MediaType SIMPLE_HTML = MediaType.valueOf("application/vnd.pypi.simple.v1+html");
+
+    private static final String API_VERSION = "1.0";
+
+    private static final String HASH_NAME = "sha256";
+
+    @Inject
+    private ObjectMapper objectMapper;
+
+    /**
+     * Selects the representation by the <code>Accept</code> header, in the order of the quality values, the HTML being
+     * the default one.
+     *
+     * @return <code>true</code> if the JSON representation should be served
+     */
+    public static boolean isJsonRequested(HttpHeaders headers)
+    {
+        List<MediaType> acceptedMediaTypes = new ArrayList<>(headers.getAccept());
+        MediaType.sortBySpecificityAndQuality(acceptedMediaTypes);
+
+        for (MediaType mediaType : acceptedMediaTypes)
+        {
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype())
+            {
+                continue;
+            }
+            if (SIMPLE_JSON.equalsTypeAndSubtype(mediaType))
+            {
+                return true;
+            }
+            if (SIMPLE_HTML.equalsTypeAndSubtype(mediaType) || MediaType.TEXT_HTML.equalsTypeAndSubtype(mediaType))
+            {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
     public String getHtmlResponse(List<Path> filePaths)
         throws IOException
     {
-
-        String htmlResponse = "";
         if (CollectionUtils.isEmpty(filePaths))
         {
-            htmlResponse = "<html>\n" +
-                           "        <head>\n" +
-                           "            <title>Not Found</title>\n" +
-                           "        </head>\n" +
-                           "        <body>\n" +
-                           "            <h1>Not Found</h1>\n" +
-                           "        </body>\n" +
-                           "</html>";
+            return "<html>\n" +
+                   "        <head>\n" +
+                   "            <title>Not Found</title>\n" +
+                   "        </head>\n" +
+                   "        <body>\n" +
+                   "            <h1>Not Found</h1>\n" +
+                   "        </body>\n" +
+                   "</html>";
         }
-        else
+
+        final String packageName = readCoordinates((RepositoryPath) filePaths.get(0)).getId();
+
+        StringBuilder htmlResponse = new StringBuilder();
+        htmlResponse.append("<html>\n")
+                    .append("        <head>\n")
+                    .append("            <title>Links for ").append(packageName).append("</title>\n")
+                    .append("        </head>\n")
+                    .append("        <body>\n")
+                    .append("            <h1>Links for ").append(packageName).append("</h1>\n")
+                    .append("                   ");
+        for (Path path : filePaths)
         {
+            RepositoryPath repositoryPath = (RepositoryPath) path;
+            PypiArtifactCoordinates artifactCoordinates = readCoordinates(repositoryPath);
+            String fileName = artifactCoordinates.buildWheelPackageFileName();
 
-            PypiArtifactCoordinates artifactCoordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates((RepositoryPath) filePaths.get(0));
-            final String packageName = artifactCoordinates.getId();
-
-            htmlResponse = "<html>\n" +
-                           "        <head>\n" +
-                           "            <title>Links for " + packageName + "</title>\n" +
-                           "        </head>\n" +
-                           "        <body>\n" +
-                           "            <h1>Links for " + packageName + "</h1>\n" +
-                           "                   " + getPackageLinks(filePaths) +
-                           "        </body>\n" +
-                           "</html>";
+            htmlResponse.append("<a href=\"").append(getPackageUrl(repositoryPath.getRepository(), fileName));
+            String sha256 = getSha256(repositoryPath);
+            if (sha256 != null)
+            {
+                htmlResponse.append("#").append(HASH_NAME).append("=").append(sha256);
+            }
+            htmlResponse.append("\">").append(fileName).append("</a><br>\n");
         }
-        return htmlResponse;
+        htmlResponse.append("        </body>\n")
+                    .append("</html>");
+
+        return htmlResponse.toString();
     }
 
-    private String getPackageLinks(List<Path> filePaths)
+    public String getJsonResponse(String packageName,
+                                  List<Path> filePaths)
         throws IOException
     {
-
-        String packageLinks = "";
-
+        List<Map<String, Object>> files = new ArrayList<>();
         for (Path path : filePaths)
         {
             RepositoryPath repositoryPath = (RepositoryPath) path;
-            PypiArtifactCoordinates artifactCoordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates(repositoryPath);
+            String fileName = readCoordinates(repositoryPath).buildWheelPackageFileName();
+            String sha256 = getSha256(repositoryPath);
 
-            Repository repository = repositoryPath.getRepository();
-            packageLinks += "<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
-                            "/packages/" + artifactCoordinates.buildWheelPackageFileName() + "\">" +
-                            artifactCoordinates.buildWheelPackageFileName() + "</a><br>\n";
+            Map<String, Object> file = new LinkedHashMap<>();
+            file.put("filename", fileName);
+            file.put("url", getPackageUrl(repositoryPath.getRepository(), fileName));
+            file.put("hashes", sha256 == null ? Collections.emptyMap() : Collections.singletonMap(HASH_NAME, sha256));
+            files.add(file);
+        }
+
+        Map<String, Object> project = new LinkedHashMap<>();
+        project.put("meta", getMeta());
+        project.put("name", PypiArtifactCoordinatesUtils.normalize(packageName));
+        project.put("files", files);
+
+        return objectMapper.writeValueAsString(project);
+    }
+
+    /**
+     * @param repository the requested repository, which the project links point to
+     * @param packageNames the PEP 503 normalized project names
+     */
+    public String getRootHtmlResponse(Repository repository,
+                                      Collection<String> packageNames)
+    {
+        StringBuilder htmlResponse = new StringBuilder();
+        htmlResponse.append("<html>\n")
+                    .append("        <head>\n")
+                    .append("            <title>Simple index</title>\n")
+                    .append("        </head>\n")
+                    .append("        <body>\n");
+        for (String packageName : packageNames)
+        {
+            htmlResponse.append("            <a href=\"/storages/")
+                        .append(repository.getStorage().getId()).append("/").append(repository.getId())
+                        .append("/simple/").append(packageName).append("/\">")
+                        .append(packageName).append("</a><br>\n");
         }
+        htmlResponse.append("        </body>\n")
+                    .append("</html>");
 
-        return packageLinks;
+        return htmlResponse.toString();
+    }
+
+    public String getRootJsonResponse(Collection<String> packageNames)
+        throws IOException
+    {
+        List<Map<String, Object>> projects = new ArrayList<>();
+        for (String packageName : packageNames)
+        {
+            projects.add(Collections.singletonMap("name", packageName));
+        }
+
+        Map<String, Object> index = new LinkedHashMap<>();
+        index.put("meta", getMeta());
+        index.put("projects", projects);
+
+        return objectMapper.writeValueAsString(index);
+    }
+
+    /**
+     * The search results come with their {@link ArtifactEntry}s, so the coordinates are only parsed from the path
+     * for the files which don't have one.
+     */
+    static PypiArtifactCoordinates readCoordinates(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+        if (artifactEntry != null && artifactEntry.getArtifactCoordinates() instanceof PypiArtifactCoordinates)
+        {
+            return (PypiArtifactCoordinates) artifactEntry.getArtifactCoordinates();
+        }
+
+        return (PypiArtifactCoordinates) RepositoryFiles.readCoordinates(repositoryPath);
+    }
+
+    /**
+     * @return the stored SHA-256 checksum of the file, or <code>null</code> if it hasn't been calculated
+     */
+    private String getSha256(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+
+        return artifactEntry == null ? null : artifactEntry.getChecksums().get(MessageDigestAlgorithms.SHA_256);
+    }
+
+    private String getPackageUrl(Repository repository,
+                                 String fileName)
+    {
+        return "/storages/" + repository.getStorage().getId() + "/" + repository.getId() + "/packages/" + fileName;
+    }
+
+    private Map<String, Object> getMeta()
+    {
+        return Collections.singletonMap("api-version", API_VERSION);
     }
 
 }
@@ -20,6 +20,8 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * @author sbespalov
@@ -28,6 +30,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVoter
 {
+    private static final String EXTENDED_AUTHENTICATION_ATTRIBUTE = ExtendedAuthoritiesVoter.class.getName() +
+                                                                    ".authentication";
+
     private final Logger logger = LoggerFactory.getLogger(ExtendedAuthoritiesVoter.class);
 
     public ExtendedAuthoritiesVoter()
@@ -40,7 +45,32 @@ public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVo
                     MethodInvocation method,
                     Collection<ConfigAttribute> attributes)
     {
-        return super.vote(new ExtendedAuthorityAuthentication(authentication), method, attributes);
+        return super.vote(getExtendedAuthentication(authentication), method, attributes);
+    }
+
+    /**
+     * The extended authentication (and so its authorities) is reused by all the votes of the same request.
+     */
+    private Authentication getExtendedAuthentication(Authentication authentication)
+    {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null)
+        {
+            return new ExtendedAuthorityAuthentication(authentication);
+        }
+
+        Object extendedAuthentication = requestAttributes.getAttribute(EXTENDED_AUTHENTICATION_ATTRIBUTE,
+                                                                       RequestAttributes.SCOPE_REQUEST);
+        if (extendedAuthentication instanceof ExtendedAuthorityAuthentication &&
+            ((ExtendedAuthorityAuthentication) extendedAuthentication).getSourceAuthentication() == authentication)
+        {
+            return (Authentication) extendedAuthentication;
+        }
+
+        ExtendedAuthorityAuthentication result = new ExtendedAuthorityAuthentication(authentication);
+        requestAttributes.setAttribute(EXTENDED_AUTHENTICATION_ATTRIBUTE, result, RequestAttributes.SCOPE_REQUEST);
+
+        return result;
     }
 
     @SuppressWarnings("serial")
@@ -49,6 +79,8 @@ public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVo
 
         private Authentication source;
 
+        private Collection<? extends GrantedAuthority> extendedAuthorities;
+
         public ExtendedAuthorityAuthentication(Authentication target)
         {
             super();
@@ -114,7 +146,12 @@ public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVo
 
         public Collection<? extends GrantedAuthority> getAuthorities()
         {
-            return calculateExtendedAuthorities(getSourceAuthentication());
+            if (extendedAuthorities == null)
+            {
+                extendedAuthorities = calculateExtendedAuthorities(getSourceAuthentication());
+            }
+
+            return extendedAuthorities;
         }
 
         public Object getCredentials()
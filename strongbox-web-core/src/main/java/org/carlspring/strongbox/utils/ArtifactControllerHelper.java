@@ -9,6 +9,7 @@ import org.carlspring.strongbox.io.StreamUtils;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.BufferedInputStream;
@@ -29,6 +30,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
 import static org.carlspring.strongbox.controllers.BaseController.copyToResponse;
+import static org.carlspring.strongbox.controllers.BaseController.transferToResponse;
 import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
 import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
 
@@ -97,7 +99,18 @@ public class ArtifactControllerHelper
         ByteRangeInputStream bris = StreamUtils.findSource(ByteRangeInputStream.class, is);
         long inputLength = bris != null ? StreamUtils.getLength(bris) : 0;
 
-        if (byteRange.getOffset() < inputLength)
+        if (byteRange.getOffset() < inputLength && is instanceof RepositoryInputStream &&
+            ((RepositoryInputStream) is).supportsTransfer())
+        {
+            long offset = byteRange.getOffset();
+            long limit = byteRange.getLimit();
+            long end = limit >= offset && limit < inputLength ? limit : inputLength - 1L;
+
+            prepareResponseBuilderForPartialRequestWithSingleRange(offset, end, inputLength, response);
+
+            transferToResponse((RepositoryInputStream) is, offset, end - offset + 1L, response);
+        }
+        else if (byteRange.getOffset() < inputLength)
         {
             StreamUtils.setCurrentByteRange(bris, byteRange);
 
@@ -148,10 +161,21 @@ public class ArtifactControllerHelper
     private static void prepareResponseBuilderForPartialRequestWithSingleRange(ByteRange byteRange,
                                                                                long inputLength,
                                                                                HttpServletResponse response)
+    {
+        prepareResponseBuilderForPartialRequestWithSingleRange(byteRange.getOffset(),
+                                                               inputLength - 1L,
+                                                               inputLength,
+                                                               response);
+    }
+
+    private static void prepareResponseBuilderForPartialRequestWithSingleRange(long start,
+                                                                               long end,
+                                                                               long inputLength,
+                                                                               HttpServletResponse response)
     {
         String contentRangeHeaderValue = String.format("bytes %d-%d/%d",
-                                                       byteRange.getOffset(),
-                                                       inputLength - 1L,
+                                                       start,
+                                                       end,
                                                        inputLength);
 
         response.setHeader(HttpHeaders.CONTENT_RANGE, contentRangeHeaderValue);
@@ -219,6 +243,18 @@ public class ArtifactControllerHelper
         });
     }
 
+    /**
+     * Provides the headers of the artifact which is still being fetched from the remote repository: its length, last
+     * modification time and checksums are not known yet, and the ranged requests are not supported.
+     */
+    public static void provideStreamThroughHeaders(HttpServletResponse response,
+                                                   RepositoryPath path)
+            throws IOException
+    {
+        response.setContentType(getContentType(path));
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "none");
+    }
+
     private static String getContentType(RepositoryPath path)
             throws IOException
     {
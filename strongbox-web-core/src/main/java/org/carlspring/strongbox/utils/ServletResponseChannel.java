@@ -0,0 +1,186 @@
+package org.carlspring.strongbox.utils;
+
+import org.carlspring.strongbox.exception.Http202PropogateException;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.ServletResponseWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+
+import org.eclipse.jetty.io.EofException;
+import org.eclipse.jetty.server.HttpOutput;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+
+/**
+ * {@link WritableByteChannel} view of the servlet response body.
+ * <br>
+ * Within Jetty the buffers are handed over to {@link HttpOutput} as is, so the content goes to the socket without
+ * being copied into the heap. The response wrappers (such as the Spring Security ones, which wrap every response) are
+ * looked through as long as they don't replace the output stream, or only watch it for the response to be committed
+ * ({@link OnCommittedResponseWrapper}); in the latter case the response is committed before the first write, so that
+ * the wrappers see it. Any other wrapper (compression or content caching filters for example) would be bypassed, so
+ * the responses wrapped by them are written through their streams as usual.
+ */
+public class ServletResponseChannel
+        implements WritableByteChannel
+{
+
+    private static final int HEAP_BUFFER_SIZE = 64 * 1024;
+
+    private static final ClassValue<Boolean> OUTPUT_STREAM_WRAPPED = new ClassValue<Boolean>()
+    {
+        @Override
+        protected Boolean computeValue(Class<?> type)
+        {
+            try
+            {
+                return type.getMethod("getOutputStream").getDeclaringClass() != ServletResponseWrapper.class;
+            }
+            catch (NoSuchMethodException e)
+            {
+                return true;
+            }
+        }
+    };
+
+    private final ServletResponse response;
+
+    private final ServletOutputStream outputStream;
+
+    private final HttpOutput httpOutput;
+
+    private boolean committed;
+
+    private byte[] heapBuffer;
+
+    private boolean open = true;
+
+    public ServletResponseChannel(HttpServletResponse response)
+            throws IOException
+    {
+        this.response = response;
+        this.outputStream = response.getOutputStream();
+        this.httpOutput = getHttpOutput(response);
+        this.committed = httpOutput == null || !(response instanceof ServletResponseWrapper);
+    }
+
+    /**
+     * @return the output of the wrapped Jetty response, or <code>null</code> if the response isn't a Jetty one, or
+     *         some of its wrappers can't be looked through
+     */
+    private static HttpOutput getHttpOutput(ServletResponse response)
+            throws IOException
+    {
+        ServletResponse target = response;
+        while (target instanceof ServletResponseWrapper)
+        {
+            if (!(target instanceof OnCommittedResponseWrapper) && OUTPUT_STREAM_WRAPPED.get(target.getClass()))
+            {
+                return null;
+            }
+
+            target = ((ServletResponseWrapper) target).getResponse();
+        }
+
+        ServletOutputStream targetOutputStream = target.getOutputStream();
+
+        return targetOutputStream instanceof HttpOutput ? (HttpOutput) targetOutputStream : null;
+    }
+
+    /**
+     * @return whether the buffers are handed over to the response as is
+     */
+    public boolean isDirect()
+    {
+        return httpOutput != null;
+    }
+
+    @Override
+    public int write(ByteBuffer src)
+            throws IOException
+    {
+        if (!open)
+        {
+            throw new ClosedChannelException();
+        }
+
+        int length = src.remaining();
+        try
+        {
+            if (httpOutput != null)
+            {
+                writeDirect(src);
+            }
+            else
+            {
+                writeHeap(src);
+            }
+        }
+        catch (EofException e)
+        {
+            throw new Http202PropogateException("Socket has been closed. Possibly, user cancelled download.", e);
+        }
+
+        return length;
+    }
+
+    private void writeDirect(ByteBuffer src)
+            throws IOException
+    {
+        if (!committed)
+        {
+            // The wrappers write their headers once the response is committed.
+            response.flushBuffer();
+            committed = true;
+        }
+
+        httpOutput.write(src);
+    }
+
+    private void writeHeap(ByteBuffer src)
+            throws IOException
+    {
+        if (src.hasArray())
+        {
+            outputStream.write(src.array(), src.arrayOffset() + src.position(), src.remaining());
+            src.position(src.limit());
+
+            return;
+        }
+
+        if (heapBuffer == null)
+        {
+            heapBuffer = new byte[HEAP_BUFFER_SIZE];
+        }
+        while (src.hasRemaining())
+        {
+            int length = Math.min(src.remaining(), heapBuffer.length);
+            src.get(heapBuffer, 0, length);
+            outputStream.write(heapBuffer, 0, length);
+        }
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+        return open;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (!open)
+        {
+            return;
+        }
+        open = false;
+
+        outputStream.flush();
+    }
+
+}
@@ -29,6 +29,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.carlspring.strongbox.artifact.generator.ArtifactGenerator.DEFAULT_BYTES_SIZE;
 import static org.hamcrest.CoreMatchers.equalTo;
 
@@ -89,6 +90,54 @@ public class NpmArtifactControllerTest
                .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testViewPackageFeedNotModified(@NpmRepository(repositoryId = REPOSITORY_RELEASES)
+                                                       Repository repository,
+                                               @NpmTestArtifact(repositoryId = REPOSITORY_RELEASES,
+                                                       id = "npm-test-view-feed",
+                                                       versions = "1.0.0",
+                                                       scope = "@carlspring")
+                                                       Path packagePath)
+            throws Exception
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        RepositoryPath normPackagePath = (RepositoryPath) packagePath.normalize();
+        NpmArtifactCoordinates coordinates = (NpmArtifactCoordinates) RepositoryFiles.readCoordinates(normPackagePath);
+
+        String url = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/{artifactId}";
+        String eTag = mockMvc.contentType(MediaType.APPLICATION_JSON_VALUE)
+                             .when()
+                             .get(url, storageId, repositoryId, coordinates.getId())
+                             .peek()
+                             .then()
+                             .statusCode(HttpStatus.OK.value())
+                             .extract()
+                             .header(HttpHeaders.ETAG);
+
+        assertThat(eTag).isNotBlank();
+
+        // Served from the cache, not modified
+        mockMvc.contentType(MediaType.APPLICATION_JSON_VALUE)
+               .header(HttpHeaders.IF_NONE_MATCH, eTag)
+               .when()
+               .get(url, storageId, repositoryId, coordinates.getId())
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        // Modified
+        mockMvc.contentType(MediaType.APPLICATION_JSON_VALUE)
+               .header(HttpHeaders.IF_NONE_MATCH, "\"0-0000000000\"")
+               .when()
+               .get(url, storageId, repositoryId, coordinates.getId())
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .header(HttpHeaders.ETAG, equalTo(eTag));
+    }
+
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
     @Test
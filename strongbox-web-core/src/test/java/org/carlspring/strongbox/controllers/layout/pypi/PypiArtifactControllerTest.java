@@ -170,6 +170,13 @@ public class PypiArtifactControllerTest extends PypiRestAssuredBaseTest
                      Matchers.containsString("<h1>Not Found</h1>\n"),
                      Matchers.not(Matchers.containsString("<a href=")));
 
+        // The same project, by its PEP 503 normalized name
+        mockMvc.when()
+               .get(url, storageId, repositoryId, "hello-world-pypi")
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body(Matchers.containsString("<title>Not Found</title>"));
+
         // Upload different version of packages generated to be used by
         // next-case
         packagePaths.stream().forEach(path -> {
@@ -202,8 +209,48 @@ public class PypiArtifactControllerTest extends PypiRestAssuredBaseTest
                .contentType(ContentType.HTML)
                .body(Matchers.containsString("<title>Links for hello_world_pypi</title>"),
                      Matchers.containsString("<h1>Links for hello_world_pypi</h1>\n"),
-                     Matchers.containsString("<a href="));
+                     Matchers.containsString("<a href="),
+                     Matchers.containsString("#sha256="));
 
+        // Any other spelling of the name lists the same files, although the page was looked up before the upload
+        for (String packageName : new String[]{ "hello-world-pypi", "Hello_World-PyPI" })
+        {
+            mockMvc.when()
+                   .get(url, storageId, repositoryId, packageName)
+                   .then()
+                   .statusCode(HttpStatus.OK.value())
+                   .contentType(ContentType.HTML)
+                   .body(Matchers.containsString("<title>Links for hello_world_pypi</title>"),
+                         Matchers.containsString("<a href="));
+        }
+
+        // PEP 691 representation, validated by its own ETag
+        final String jsonMediaType = "application/vnd.pypi.simple.v1+json";
+        final String eTag = mockMvc.header(HttpHeaders.ACCEPT, jsonMediaType)
+                                   .when()
+                                   .get(url, storageId, repositoryId, "hello_world_pypi")
+                                   .then()
+                                   .statusCode(HttpStatus.OK.value())
+                                   .contentType(jsonMediaType)
+                                   .body("name", Matchers.equalTo("hello-world-pypi"),
+                                         "files.size()", Matchers.equalTo(packagePaths.size()))
+                                   .extract()
+                                   .header(HttpHeaders.ETAG);
+
+        mockMvc.header(HttpHeaders.ACCEPT, jsonMediaType)
+               .header(HttpHeaders.IF_NONE_MATCH, eTag)
+               .when()
+               .get(url, storageId, repositoryId, "hello_world_pypi")
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        // Root index
+        mockMvc.when()
+               .get(getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/simple/", storageId, repositoryId)
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .contentType(ContentType.HTML)
+               .body(Matchers.containsString("/simple/hello-world-pypi/\">hello-world-pypi</a>"));
     }
 
     @Test
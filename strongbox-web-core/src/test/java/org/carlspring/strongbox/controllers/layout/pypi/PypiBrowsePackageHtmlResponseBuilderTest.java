@@ -19,8 +19,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
 
 /**
  * @author ankit.tomar
@@ -70,7 +72,8 @@ public class PypiBrowsePackageHtmlResponseBuilderTest
         PypiArtifactCoordinates artifactCoordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates((RepositoryPath) packagePath.normalize());
 
         String links = "<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
-                       "/packages/" + artifactCoordinates.buildWheelPackageFileName() + "\">" +
+                       "/packages/" + artifactCoordinates.buildWheelPackageFileName() +
+                       "#sha256=" + getSha256(packagePath) + "\">" +
                        artifactCoordinates.buildWheelPackageFileName() + "</a><br>\n";
 
         String expectedHtmlResponse = "<html>\n" +
@@ -118,7 +121,8 @@ public class PypiBrowsePackageHtmlResponseBuilderTest
             packageName = artifactCoordinates.getId();
 
             links += "<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
-                     "/packages/" + artifactCoordinates.buildWheelPackageFileName() + "\">" +
+                     "/packages/" + artifactCoordinates.buildWheelPackageFileName() +
+                     "#sha256=" + getSha256(path) + "\">" +
                      artifactCoordinates.buildWheelPackageFileName() + "</a><br>\n";
         }
 
@@ -135,5 +139,35 @@ public class PypiBrowsePackageHtmlResponseBuilderTest
         String htmlResponse = htmlResponseBuilder.getHtmlResponse(paths);
 
         assertThat(htmlResponse).isNotBlank().isEqualTo(expectedHtmlResponse);
+
+        String jsonResponse = htmlResponseBuilder.getJsonResponse(packageName, paths);
+
+        assertThat(jsonResponse).startsWith("{\"meta\":{\"api-version\":\"1.0\"},\"name\":\"hello-world\"")
+                                .contains("{\"sha256\":\"" + getSha256(packagePaths.get(0)) + "\"}");
+    }
+
+    @Test
+    public void testJsonRepresentationNegotiation()
+    {
+        HttpHeaders headers = new HttpHeaders();
+        assertThat(PypiBrowsePackageHtmlResponseBuilder.isJsonRequested(headers)).isFalse();
+
+        headers.set(HttpHeaders.ACCEPT, "application/vnd.pypi.simple.v1+json, " +
+                                        "application/vnd.pypi.simple.v1+html; q=0.1, text/html; q=0.01");
+        assertThat(PypiBrowsePackageHtmlResponseBuilder.isJsonRequested(headers)).isTrue();
+
+        headers.set(HttpHeaders.ACCEPT, "text/html, application/vnd.pypi.simple.v1+json; q=0.5, */*; q=0.1");
+        assertThat(PypiBrowsePackageHtmlResponseBuilder.isJsonRequested(headers)).isFalse();
+    }
+
+    private String getSha256(Path path)
+        throws IOException
+    {
+        String sha256 = ((RepositoryPath) path.normalize()).getArtifactEntry()
+                                                           .getChecksums()
+                                                           .get(MessageDigestAlgorithms.SHA_256);
+        assertThat(sha256).hasSize(64);
+
+        return sha256;
     }
 }
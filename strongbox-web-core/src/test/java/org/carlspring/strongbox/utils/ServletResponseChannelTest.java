@@ -0,0 +1,162 @@
+package org.carlspring.strongbox.utils;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jetty.server.HttpOutput;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServletResponseChannelTest
+{
+
+    private static final byte[] CONTENT = "strongbox-artifact-content".getBytes(StandardCharsets.UTF_8);
+
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+    private CommitTrackingResponse commitTrackingResponse;
+
+    private boolean writtenUncommitted;
+
+    @Test
+    void unwrappedResponseIsWrittenDirectly()
+            throws IOException
+    {
+        HttpServletResponse response = mockJettyResponse();
+
+        assertThat(write(response)).isTrue();
+        assertThat(written.toByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void securityWrappersAreLookedThrough()
+            throws IOException
+    {
+        commitTrackingResponse = new CommitTrackingResponse(mockJettyResponse());
+        HttpServletResponse response = new HttpServletResponseWrapper(commitTrackingResponse);
+
+        assertThat(write(response)).isTrue();
+        assertThat(written.toByteArray()).isEqualTo(CONTENT);
+        // The wrappers should see the response committed before its content is written.
+        assertThat(writtenUncommitted).isFalse();
+    }
+
+    @Test
+    void streamWrappersAreNotBypassed()
+            throws IOException
+    {
+        ByteArrayOutputStream wrapped = new ByteArrayOutputStream();
+        HttpServletResponse response = new HttpServletResponseWrapper(mockJettyResponse())
+        {
+            @Override
+            public ServletOutputStream getOutputStream()
+            {
+                return new ByteArrayServletOutputStream(wrapped);
+            }
+        };
+
+        assertThat(write(response)).isFalse();
+        assertThat(wrapped.toByteArray()).isEqualTo(CONTENT);
+        assertThat(written.size()).isZero();
+    }
+
+    /**
+     * Writes the content from a direct buffer, as the file channels do.
+     *
+     * @return whether the content was handed over to Jetty as is
+     */
+    private boolean write(HttpServletResponse response)
+            throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CONTENT.length);
+        buffer.put(CONTENT).flip();
+
+        try (ServletResponseChannel channel = new ServletResponseChannel(response))
+        {
+            assertThat(channel.write(buffer)).isEqualTo(CONTENT.length);
+
+            return channel.isDirect();
+        }
+    }
+
+    private HttpServletResponse mockJettyResponse()
+            throws IOException
+    {
+        HttpOutput httpOutput = mock(HttpOutput.class);
+        doAnswer(invocation -> {
+            ByteBuffer buffer = invocation.getArgument(0);
+            writtenUncommitted |= commitTrackingResponse != null && !commitTrackingResponse.committed;
+            while (buffer.hasRemaining())
+            {
+                written.write(buffer.get());
+            }
+            return null;
+        }).when(httpOutput).write(any(ByteBuffer.class));
+
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(httpOutput);
+
+        return response;
+    }
+
+    private static class CommitTrackingResponse
+            extends OnCommittedResponseWrapper
+    {
+
+        private boolean committed;
+
+        private CommitTrackingResponse(HttpServletResponse response)
+        {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted()
+        {
+            committed = true;
+        }
+
+    }
+
+    private static class ByteArrayServletOutputStream
+            extends ServletOutputStream
+    {
+
+        private final ByteArrayOutputStream target;
+
+        private ByteArrayServletOutputStream(ByteArrayOutputStream target)
+        {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b)
+        {
+            target.write(b);
+        }
+
+        @Override
+        public boolean isReady()
+        {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener)
+        {
+        }
+
+    }
+
+}